@@ -0,0 +1,260 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache in front of the mock employee API.
+ * <p>
+ * Single employees and the full employee list are held in two Caffeine caches (size bounded with
+ * W-TinyLFU eviction, expiring a fixed time after write). Writes made through this API are applied
+ * to both caches under one lock, so a cached list never contains an employee that the by-id cache
+ * reports as deleted, or vice versa. Every write bumps a generation counter; a load that started
+ * before a write is returned to its caller but not cached, so slow reads cannot resurrect stale data.
+ * This relies on the client not handing a load that starts after a write the response to a read
+ * sent before it, which is why the client's single-flight is detached on every write.
+ * <p>
+ * A {@link SalaryAggregate} is synced from every cached list load and updated by the same writes.
+ * It outlives the list's expiry up to its own staleness bound, after which {@link #salaries}
+ * forces a full reload. A {@link NameIndex} is rebuilt and updated the same way and answers name
+ * searches while the list it was built from is cached.
+ * <p>
+ * The cached list is held in list order in a map keyed by ID, so a write updates it in constant
+ * time. Readers get an immutable copy, taken on the first read after a write rather than on every
+ * write, and outside the write lock that by-id loads also take. A write does not extend the list's
+ * expiry.
+ */
+@Slf4j
+@Component
+public class EmployeeCache {
+
+    private static final String ALL_EMPLOYEES_KEY = "all";
+
+    private final Cache<String, Employee> employeesById;
+    private final Cache<String, CachedList> employeeLists;
+    private final SalaryAggregate salaries;
+    private final NameIndex nameIndex = new NameIndex();
+    private final Object writeLock = new Object();
+
+    private long generation;
+
+    @Autowired
+    public EmployeeCache(
+            @Value("${employee.cache.ttl-ms:30000}") long ttlMs,
+            @Value("${employee.cache.maximum-size:10000}") long maximumSize,
+            @Value("${employee.cache.salary-max-staleness-ms:300000}") long salaryMaxStalenessMs,
+            MeterRegistry meterRegistry) {
+        this(Duration.ofMillis(ttlMs), maximumSize, Duration.ofMillis(salaryMaxStalenessMs));
+        CaffeineCacheMetrics.monitor(meterRegistry, employeesById, "employees.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, employeeLists, "employees.all");
+    }
+
+    public EmployeeCache(Duration ttl, long maximumSize) {
+        this(ttl, maximumSize, ttl);
+    }
+
+    public EmployeeCache(Duration ttl, long maximumSize, Duration salaryMaxStaleness) {
+        this.salaries = new SalaryAggregate(salaryMaxStaleness);
+        this.employeesById = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.employeeLists = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(1)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Return the cached employee list, loading and caching it on a miss
+     */
+    public List<Employee> getAll(Supplier<List<Employee>> loader) {
+        CachedList cached = employeeLists.getIfPresent(ALL_EMPLOYEES_KEY);
+        if (cached != null) {
+            return cached.list();
+        }
+        return load(loader);
+    }
+
+    /**
+     * Salary aggregate over all employees. When it is stale the full list is reloaded first; if
+     * writes race with that reload, the caller gets an aggregate over the loaded list instead.
+     */
+    public SalaryAggregate salaries(Supplier<List<Employee>> loader) {
+        if (!salaries.isStale()) {
+            return salaries;
+        }
+
+        log.debug("Salary aggregate is stale, resyncing from the full employee list");
+        List<Employee> loaded = load(loader);
+        return salaries.isStale() ? SalaryAggregate.of(loaded) : salaries;
+    }
+
+    /**
+     * Employees whose name contains the fragment, ignoring case, in list order; empty when the
+     * employee list is not cached
+     */
+    public Optional<List<Employee>> searchByName(String fragment) {
+        if (employeeLists.getIfPresent(ALL_EMPLOYEES_KEY) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(nameIndex.search(fragment));
+    }
+
+    /**
+     * The cached employee list, if present, without loading it
+     */
+    public Optional<List<Employee>> getAllIfPresent() {
+        return Optional.ofNullable(employeeLists.getIfPresent(ALL_EMPLOYEES_KEY)).map(CachedList::list);
+    }
+
+    /**
+     * Return the cached employee, loading and caching it on a miss. The loader's future is
+     * composed on rather than waited for, so a miss does not hold the caller's thread.
+     */
+    public CompletableFuture<Employee> getByIdAsync(String id, Function<String, CompletableFuture<Employee>> loader) {
+        Employee cached = employeesById.getIfPresent(id);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        long startGeneration = currentGeneration();
+        return loader.apply(id).thenApply(loaded -> {
+            if (loaded != null) {
+                synchronized (writeLock) {
+                    if (generation == startGeneration) {
+                        employeesById.put(id, loaded);
+                    }
+                }
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * Write-through for a newly created employee
+     */
+    public void onCreated(Employee employee) {
+        synchronized (writeLock) {
+            generation++;
+            employeesById.put(employee.getId(), employee);
+            salaries.add(employee);
+            nameIndex.add(employee);
+            CachedList cached = employeeLists.getIfPresent(ALL_EMPLOYEES_KEY);
+            if (cached != null) {
+                cached.add(employee);
+            }
+        }
+    }
+
+    /**
+     * Write-through for a deleted employee
+     */
+    public void onDeleted(String id) {
+        synchronized (writeLock) {
+            generation++;
+            employeesById.invalidate(id);
+            salaries.remove(id);
+            nameIndex.remove(id);
+            CachedList cached = employeeLists.getIfPresent(ALL_EMPLOYEES_KEY);
+            if (cached != null) {
+                cached.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Drop everything, e.g. when the upstream is known to have changed behind our back
+     */
+    public void invalidateAll() {
+        synchronized (writeLock) {
+            generation++;
+            employeesById.invalidateAll();
+            employeeLists.invalidateAll();
+            salaries.clear();
+            nameIndex.clear();
+        }
+    }
+
+    private List<Employee> load(Supplier<List<Employee>> loader) {
+        long startGeneration = currentGeneration();
+        List<Employee> loaded = List.copyOf(loader.get());
+        synchronized (writeLock) {
+            if (generation == startGeneration) {
+                employeeLists.put(ALL_EMPLOYEES_KEY, new CachedList(loaded));
+                loaded.stream()
+                        .filter(employee -> employee.getId() != null)
+                        .forEach(employee -> employeesById.put(employee.getId(), employee));
+                salaries.replaceAll(loaded);
+                nameIndex.replaceAll(loaded);
+            } else {
+                log.debug("Employee list changed while loading, not caching it");
+            }
+        }
+        return loaded;
+    }
+
+    private long currentGeneration() {
+        synchronized (writeLock) {
+            return generation;
+        }
+    }
+
+    /**
+     * The employee list in list order, updated in place by writes. Employees without an ID, which
+     * writes cannot name, keep a key of their own.
+     */
+    private static final class CachedList {
+
+        private final Map<Object, Employee> employees;
+        private List<Employee> list;
+
+        CachedList(List<Employee> loaded) {
+            this.employees = new LinkedHashMap<>(Math.max(16, (int) (loaded.size() / 0.75f) + 1));
+            loaded.forEach(this::put);
+            this.list = loaded;
+        }
+
+        synchronized List<Employee> list() {
+            if (list == null) {
+                list = List.copyOf(employees.values());
+            }
+            return list;
+        }
+
+        synchronized void add(Employee employee) {
+            // A re-created ID moves to the end, as it would in a reloaded list
+            employees.remove(employee.getId());
+            put(employee);
+            list = null;
+        }
+
+        synchronized void remove(String id) {
+            if (employees.remove(id) != null) {
+                list = null;
+            }
+        }
+
+        private void put(Employee employee) {
+            employees.put(employee.getId() != null ? employee.getId() : new Object(), employee);
+        }
+    }
+}
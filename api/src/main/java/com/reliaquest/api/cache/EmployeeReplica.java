@@ -0,0 +1,392 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.EmployeeChangeFeedClient;
+import com.reliaquest.api.client.MissingEndpoints;
+import com.reliaquest.api.exception.ChangeFeedResetException;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.model.ChangeFeedSnapshot;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Full in-memory copy of the mock API's employee table, kept current from its change feed.
+ * <p>
+ * A background thread bootstraps from one snapshot and then follows the server-sent stream of
+ * creates and deletes from the snapshot's version, so after startup the replica costs one
+ * long-lived request rather than a full list load per cache expiry. A dropped stream is reopened
+ * from the last applied version; only when the server can no longer serve that version (its
+ * history was trimmed or it restarted) is a new snapshot taken.
+ * <p>
+ * The server sends a heartbeat while nothing changes, so the time since the stream was last heard
+ * from bounds how far behind the replica can be. Queries answer only while that is within
+ * {@code employee.replica.max-lag-ms}, and are empty otherwise so callers fall back to
+ * {@link EmployeeCache}; a stream that stays silent past the bound is closed and reopened. Writes
+ * made through this API are applied straight away and again, harmlessly, when the feed delivers
+ * them. A delete is also remembered until the feed delivers it, so neither the feed's earlier
+ * create of that employee nor a snapshot taken before the delete brings it back in the meantime.
+ * The server only numbers a change once it is durable, so a write it rolled back is never
+ * delivered and never reached this replica either.
+ * <p>
+ * A server without the change feed disables the replica, as does a snapshot that still fails
+ * after {@value #MAX_SNAPSHOT_FAILURES} attempts in a row, so a feed that never comes up does not
+ * keep spending the shared rate limit budget.
+ */
+@Slf4j
+@Component
+public class EmployeeReplica implements SmartLifecycle {
+
+    private static final long MIN_RECONNECT_DELAY_MS = 1000;
+    private static final long MAX_RECONNECT_DELAY_MS = 60000;
+    static final int MAX_SNAPSHOT_FAILURES = 5;
+
+    private final EmployeeChangeFeedClient changeFeedClient;
+    private final boolean enabled;
+    private final long maxLagNanos;
+    private final long minReconnectDelayMs;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, Employee> employees = new LinkedHashMap<>();
+    private final SalaryAggregate salaries = new SalaryAggregate(Duration.ZERO);
+    private final NameIndex nameIndex = new NameIndex();
+    private final Set<String> deletedAhead = new HashSet<>();
+    private final Object writeLock = new Object();
+
+    private String epoch;
+    private long version;
+    private volatile boolean bootstrapped;
+    private List<Employee> employeeList;
+
+    private volatile long lastHeardNanos;
+    private volatile boolean running;
+    private volatile EmployeeChangeFeedClient.ChangeStream stream;
+    private Thread syncThread;
+    private ScheduledExecutorService watchdog;
+
+    @Autowired
+    public EmployeeReplica(
+            EmployeeChangeFeedClient changeFeedClient,
+            @Value("${employee.replica.enabled:true}") boolean enabled,
+            @Value("${employee.replica.max-lag-ms:15000}") long maxLagMs) {
+        this(changeFeedClient, enabled, Duration.ofMillis(maxLagMs), Duration.ofMillis(MIN_RECONNECT_DELAY_MS),
+                System::nanoTime);
+    }
+
+    EmployeeReplica(EmployeeChangeFeedClient changeFeedClient, boolean enabled, Duration maxLag,
+                    Duration minReconnectDelay, LongSupplier nanoClock) {
+        this.changeFeedClient = changeFeedClient;
+        this.enabled = enabled;
+        this.maxLagNanos = maxLag.toNanos();
+        this.minReconnectDelayMs = minReconnectDelay.toMillis();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * A replica that never syncs and so never answers, for callers that run without one
+     */
+    public static EmployeeReplica disabled() {
+        return new EmployeeReplica(null, false, Duration.ZERO, Duration.ZERO, System::nanoTime);
+    }
+
+    /**
+     * Every employee, in the order the server created them; empty when the replica is not fresh
+     */
+    public Optional<List<Employee>> getAll() {
+        if (!isFresh()) {
+            return Optional.empty();
+        }
+        synchronized (writeLock) {
+            if (employeeList == null) {
+                employeeList = List.copyOf(employees.values());
+            }
+            return Optional.of(employeeList);
+        }
+    }
+
+    /**
+     * The employee with the given ID; empty when it is not replicated or the replica is not fresh,
+     * since it may have been created within the lag bound
+     */
+    public Optional<Employee> findById(String id) {
+        if (!isFresh()) {
+            return Optional.empty();
+        }
+        synchronized (writeLock) {
+            return Optional.ofNullable(employees.get(id));
+        }
+    }
+
+    /**
+     * Employees whose name contains the fragment, ignoring case; empty when the replica is not fresh
+     */
+    public Optional<List<Employee>> searchByName(String fragment) {
+        return isFresh() ? Optional.of(nameIndex.search(fragment)) : Optional.empty();
+    }
+
+    /**
+     * Salary aggregate over every replicated employee; empty when the replica is not fresh
+     */
+    public Optional<SalaryAggregate> salaries() {
+        return isFresh() ? Optional.of(salaries) : Optional.empty();
+    }
+
+    /**
+     * Whether the replica has been bootstrapped and heard from the feed within the lag bound
+     */
+    public boolean isFresh() {
+        return bootstrapped && nanoClock.getAsLong() - lastHeardNanos < maxLagNanos;
+    }
+
+    /**
+     * Write-through for a newly created employee
+     */
+    public void onCreated(Employee employee) {
+        synchronized (writeLock) {
+            if (bootstrapped) {
+                addLocked(employee);
+            }
+        }
+    }
+
+    /**
+     * Write-through for a deleted employee, kept out of the replica until the feed delivers the delete
+     */
+    public void onDeleted(String id) {
+        synchronized (writeLock) {
+            if (bootstrapped || running) {
+                deletedAhead.add(id);
+            }
+            if (bootstrapped) {
+                removeLocked(id);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        watchdog = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("employee-replica-watchdog")
+                .factory());
+        long checkIntervalNanos = Math.max(maxLagNanos / 4, TimeUnit.MILLISECONDS.toNanos(100));
+        watchdog.scheduleWithFixedDelay(this::closeIfSilent, checkIntervalNanos, checkIntervalNanos,
+                TimeUnit.NANOSECONDS);
+        syncThread = Thread.ofVirtual().name("employee-replica").start(this::sync);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        watchdog.shutdownNow();
+        syncThread.interrupt();
+        closeStream();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Replace the contents with a snapshot and follow the feed from its version. Employees deleted
+     * through this API that the snapshot still holds are left out; the feed will deliver their
+     * deletes.
+     */
+    void bootstrap(ChangeFeedSnapshot snapshot) {
+        synchronized (writeLock) {
+            employees.clear();
+            Set<String> pendingDeletes = new HashSet<>();
+            snapshot.getEmployees().stream()
+                    .filter(employee -> employee.getId() != null)
+                    .forEach(employee -> {
+                        if (deletedAhead.contains(employee.getId())) {
+                            pendingDeletes.add(employee.getId());
+                        } else {
+                            employees.put(employee.getId(), employee);
+                        }
+                    });
+            deletedAhead.retainAll(pendingDeletes);
+            employeeList = null;
+            salaries.replaceAll(employees.values());
+            nameIndex.replaceAll(employees.values());
+            epoch = snapshot.getEpoch();
+            version = snapshot.getVersion();
+            bootstrapped = true;
+            lastHeardNanos = nanoClock.getAsLong();
+            log.info("Employee replica bootstrapped with {} employees at version {} of epoch {}",
+                    employees.size(), version, epoch);
+        }
+    }
+
+    /**
+     * Apply one change from the feed, or count a heartbeat when {@code change} is null. Changes
+     * at or below the current version have been applied already and are skipped, as are creates of
+     * employees already deleted through this API.
+     */
+    void apply(EmployeeChange change) {
+        synchronized (writeLock) {
+            lastHeardNanos = nanoClock.getAsLong();
+            if (change == null || change.getSequence() <= version) {
+                return;
+            }
+            version = change.getSequence();
+            if (change.getType() == EmployeeChange.Type.CREATED && change.getEmployee() != null) {
+                if (!deletedAhead.contains(change.getEmployee().getId())) {
+                    addLocked(change.getEmployee());
+                }
+            } else if (change.getType() == EmployeeChange.Type.DELETED) {
+                deletedAhead.remove(change.getId());
+                removeLocked(change.getId());
+            }
+        }
+    }
+
+    long version() {
+        synchronized (writeLock) {
+            return version;
+        }
+    }
+
+    private void sync() {
+        long reconnectDelayMs = minReconnectDelayMs;
+        boolean needsSnapshot = true;
+        int snapshotFailures = 0;
+        while (running) {
+            try {
+                if (needsSnapshot) {
+                    bootstrap(changeFeedClient.fetchSnapshot());
+                    needsSnapshot = false;
+                    snapshotFailures = 0;
+                }
+                String streamEpoch;
+                long since;
+                synchronized (writeLock) {
+                    streamEpoch = epoch;
+                    since = version;
+                }
+                try (EmployeeChangeFeedClient.ChangeStream opened = changeFeedClient.openStream(streamEpoch, since)) {
+                    stream = opened;
+                    reconnectDelayMs = minReconnectDelayMs;
+                    while (running) {
+                        apply(opened.next());
+                    }
+                } finally {
+                    stream = null;
+                }
+            } catch (ChangeFeedResetException e) {
+                log.info("Employee change feed reset, taking a new snapshot: {}", e.getMessage());
+                needsSnapshot = true;
+            } catch (RestClientResponseException e) {
+                if (MissingEndpoints.isMissing(e)) {
+                    disable("mock API has no change feed (" + e.getStatusCode() + ")");
+                    return;
+                }
+                log.warn("Employee change feed request failed: {}", e.getMessage());
+                if (needsSnapshot && ++snapshotFailures >= MAX_SNAPSHOT_FAILURES) {
+                    disable("change feed snapshot failed " + snapshotFailures + " times in a row");
+                    return;
+                }
+                reconnectDelayMs = pause(reconnectDelayMs);
+            } catch (RateLimitExceededException e) {
+                sleep(e.getRetryAfter().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Employee change stream interrupted: {}", e.toString());
+                if (needsSnapshot && ++snapshotFailures >= MAX_SNAPSHOT_FAILURES) {
+                    disable("change feed snapshot failed " + snapshotFailures + " times in a row");
+                    return;
+                }
+                reconnectDelayMs = pause(reconnectDelayMs);
+            }
+        }
+    }
+
+    private void disable(String reason) {
+        log.warn("Employee replica disabled: {}", reason);
+        running = false;
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * Close a stream that has not been heard from within the lag bound, so the sync thread
+     * reconnects instead of waiting on a dead connection
+     */
+    private void closeIfSilent() {
+        if (stream != null && nanoClock.getAsLong() - lastHeardNanos >= maxLagNanos) {
+            log.warn("Employee change stream silent for over {} ms, reconnecting",
+                    TimeUnit.NANOSECONDS.toMillis(maxLagNanos));
+            closeStream();
+        }
+    }
+
+    private void closeStream() {
+        EmployeeChangeFeedClient.ChangeStream current = stream;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.debug("Failed to close employee change stream", e);
+            }
+        }
+    }
+
+    private long pause(long delayMs) {
+        sleep(delayMs + (long) (Math.random() * minReconnectDelayMs));
+        return Math.min(delayMs * 2, MAX_RECONNECT_DELAY_MS);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void addLocked(Employee employee) {
+        if (employee.getId() == null || employee.equals(employees.get(employee.getId()))) {
+            return;
+        }
+        employees.put(employee.getId(), employee);
+        employeeList = null;
+        salaries.add(employee);
+        nameIndex.add(employee);
+    }
+
+    private void removeLocked(String id) {
+        if (employees.remove(id) != null) {
+            employeeList = null;
+            salaries.remove(id);
+            nameIndex.remove(id);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram inverted index over employee names for case-insensitive substring search.
+ * <p>
+ * Each employee gets a slot number in insertion order and its name is case-folded once, when it is
+ * indexed. Every trigram of a folded name maps to the ascending list of slots whose name contains
+ * it. A search intersects the posting lists of the fragment's trigrams, smallest first, and only
+ * the surviving candidates are checked with {@link String#contains}, so the cost follows the
+ * number of candidates rather than the number of employees. Fragments shorter than a trigram fall
+ * back to a scan of the folded names.
+ * <p>
+ * Deletes leave an empty slot behind that searches skip; the slots are compacted once more than
+ * half of them are empty, and on every full rebuild.
+ */
+public class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postingsByGram = new HashMap<>();
+    private final Map<String, Integer> slotsById = new HashMap<>();
+
+    private Employee[] employees = new Employee[16];
+    private String[] foldedNames = new String[16];
+    private int slotCount;
+    private int emptySlots;
+
+    /**
+     * Employees whose name contains the fragment, ignoring case, in insertion order
+     */
+    public List<Employee> search(String fragment) {
+        String needle = fold(fragment);
+        lock.readLock().lock();
+        try {
+            if (needle.length() < GRAM_LENGTH) {
+                return scan(needle);
+            }
+
+            Postings[] lists = postingsFor(needle);
+            if (lists == null) {
+                return List.of();
+            }
+            Arrays.sort(lists, Comparator.comparingInt(postings -> postings.size));
+            int[] candidates = Arrays.copyOf(lists[0].slots, lists[0].size);
+            int count = candidates.length;
+            for (int i = 1; i < lists.length && count > 0; i++) {
+                count = retainAll(candidates, count, lists[i]);
+            }
+
+            List<Employee> matches = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int slot = candidates[i];
+                if (employees[slot] != null && foldedNames[slot].contains(needle)) {
+                    matches.add(employees[slot]);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Full rebuild from the given employee list
+     */
+    void replaceAll(Collection<Employee> employees) {
+        lock.writeLock().lock();
+        try {
+            clearLocked(employees.size());
+            employees.forEach(this::addLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void add(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            addLocked(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (emptySlots * 2 > slotCount) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            clearLocked(0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addLocked(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        removeLocked(employee.getId());
+        if (slotCount == employees.length) {
+            int capacity = Math.max(16, employees.length * 2);
+            employees = Arrays.copyOf(employees, capacity);
+            foldedNames = Arrays.copyOf(foldedNames, capacity);
+        }
+
+        int slot = slotCount++;
+        String folded = employee.getEmployeeName() == null ? null : fold(employee.getEmployeeName());
+        employees[slot] = employee;
+        foldedNames[slot] = folded;
+        slotsById.put(employee.getId(), slot);
+        if (folded != null) {
+            for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+                // Slots are handed out in ascending order, so appending keeps every list sorted
+                postingsByGram.computeIfAbsent(gram(folded, i), gram -> new Postings()).append(slot);
+            }
+        }
+    }
+
+    private void removeLocked(String id) {
+        Integer slot = slotsById.remove(id);
+        if (slot != null) {
+            employees[slot] = null;
+            foldedNames[slot] = null;
+            emptySlots++;
+        }
+    }
+
+    private void compact() {
+        List<Employee> live = new ArrayList<>(slotCount - emptySlots);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (employees[slot] != null) {
+                live.add(employees[slot]);
+            }
+        }
+        clearLocked(live.size());
+        live.forEach(this::addLocked);
+    }
+
+    private void clearLocked(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        postingsByGram.clear();
+        slotsById.clear();
+        employees = new Employee[capacity];
+        foldedNames = new String[capacity];
+        slotCount = 0;
+        emptySlots = 0;
+    }
+
+    private List<Employee> scan(String needle) {
+        List<Employee> matches = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (foldedNames[slot] != null && foldedNames[slot].contains(needle)) {
+                matches.add(employees[slot]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Posting lists of the needle's distinct trigrams, or {@code null} if one of them never occurs
+     */
+    private Postings[] postingsFor(String needle) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= needle.length(); i++) {
+            grams.add(gram(needle, i));
+        }
+        Postings[] lists = new Postings[grams.size()];
+        int i = 0;
+        for (Long gram : grams) {
+            Postings postings = postingsByGram.get(gram);
+            if (postings == null) {
+                return null;
+            }
+            lists[i++] = postings;
+        }
+        return lists;
+    }
+
+    /**
+     * Keep the first {@code count} candidates that also occur in {@code postings}, in place.
+     * Candidates are the shorter list, so each is looked up by binary search from where the
+     * previous one was found.
+     */
+    private static int retainAll(int[] candidates, int count, Postings postings) {
+        int retained = 0;
+        int from = 0;
+        for (int i = 0; i < count && from < postings.size; i++) {
+            int found = Arrays.binarySearch(postings.slots, from, postings.size, candidates[i]);
+            if (found >= 0) {
+                candidates[retained++] = candidates[i];
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return retained;
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static long gram(String folded, int offset) {
+        return ((long) folded.charAt(offset) << 32)
+                | ((long) folded.charAt(offset + 1) << 16)
+                | folded.charAt(offset + 2);
+    }
+
+    private static final class Postings {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        void append(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                // The trigram occurs more than once in the same name
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
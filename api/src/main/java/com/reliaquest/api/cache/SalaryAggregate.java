@@ -0,0 +1,181 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Salaries of all known employees, highest first, so the highest salary and the top earners are
+ * read from the head of the ordering in O(k) instead of scanning the employee list.
+ * <p>
+ * The aggregate is rebuilt from every full employee list load and kept up to date incrementally by
+ * the creates and deletes made through this API. Every salaried employee is kept in the ordering,
+ * not only the current top k, so deleting a top earner promotes the next one without a rescan.
+ * Changes made to the upstream by anyone else are only picked up by the next full sync; once the
+ * last one is older than the staleness bound the aggregate reports itself stale and the owner
+ * forces a resync before answering from it.
+ * <p>
+ * Employees with equal salaries are ranked in the order they were added: list order for a full
+ * sync, after everyone already known for a create. That is the order a stable sort of the employee
+ * list gives, and the order the mock API ranks them in.
+ */
+public class SalaryAggregate {
+
+    private static final Comparator<Ranked> BY_SALARY_DESCENDING = Comparator
+            .comparing((Ranked ranked) -> ranked.employee().getEmployeeSalary(), Comparator.reverseOrder())
+            .thenComparingLong(Ranked::sequence);
+
+    private final NavigableSet<Ranked> bySalary = new TreeSet<>(BY_SALARY_DESCENDING);
+    private final Map<String, Ranked> byId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long maxStalenessNanos;
+    private final LongSupplier nanoClock;
+
+    private boolean synced;
+    private long lastSyncNanos;
+    private long lastSequence;
+
+    public SalaryAggregate(Duration maxStaleness) {
+        this(maxStaleness, System::nanoTime);
+    }
+
+    SalaryAggregate(Duration maxStaleness, LongSupplier nanoClock) {
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Aggregate over a fixed list, e.g. to answer from a load that could not be synced in
+     */
+    public static SalaryAggregate of(Collection<Employee> employees) {
+        SalaryAggregate aggregate = new SalaryAggregate(Duration.ZERO);
+        aggregate.replaceAll(employees);
+        return aggregate;
+    }
+
+    /**
+     * Highest salary, or 0 when no employee has one
+     */
+    public int highestSalary() {
+        lock.readLock().lock();
+        try {
+            return bySalary.isEmpty() ? 0 : bySalary.first().employee().getEmployeeSalary();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} employees with the highest salaries, highest first
+     */
+    public List<Employee> topEarners(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Employee> top = new ArrayList<>(Math.min(limit, bySalary.size()));
+            Iterator<Ranked> iterator = bySalary.iterator();
+            while (top.size() < limit && iterator.hasNext()) {
+                top.add(iterator.next().employee());
+            }
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the last full sync is missing or older than the staleness bound
+     */
+    public boolean isStale() {
+        lock.readLock().lock();
+        try {
+            return !synced || nanoClock.getAsLong() - lastSyncNanos >= maxStalenessNanos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Full sync: replace the contents with the given employee list
+     */
+    void replaceAll(Collection<Employee> employees) {
+        lock.writeLock().lock();
+        try {
+            bySalary.clear();
+            byId.clear();
+            employees.forEach(this::addLocked);
+            synced = true;
+            lastSyncNanos = nanoClock.getAsLong();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void add(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            addLocked(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Ranked removed = byId.remove(id);
+            if (removed != null) {
+                bySalary.remove(removed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop the contents and mark the aggregate stale until the next full sync
+     */
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            bySalary.clear();
+            byId.clear();
+            synced = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * An employee already known keeps its place among equal salaries
+     */
+    private void addLocked(Employee employee) {
+        if (employee.getId() == null || employee.getEmployeeSalary() == null) {
+            return;
+        }
+        Ranked previous = byId.get(employee.getId());
+        if (previous != null) {
+            bySalary.remove(previous);
+        }
+        Ranked ranked = new Ranked(employee, previous != null ? previous.sequence() : ++lastSequence);
+        byId.put(employee.getId(), ranked);
+        bySalary.add(ranked);
+    }
+
+    /**
+     * @param sequence when the employee was first added, to order equal salaries
+     */
+    private record Ranked(Employee employee, long sequence) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Employee CRUD operations against the mock employee API, returning futures so callers can
+ * compose them without holding a thread while the upstream answers.
+ * <p>
+ * Implementations fail their futures with the same exceptions the blocking
+ * {@link EmployeeApiClient} throws (HTTP errors as {@code HttpClientErrorException} /
+ * {@code HttpServerErrorException}, exhausted retries as {@code EmployeeServiceException}).
+ * The implementation is selected with {@code employee.client.mode}.
+ */
+public interface AsyncEmployeeApiClient {
+
+    /**
+     * Fetch all employees from the mock API
+     */
+    CompletableFuture<List<Employee>> getAllEmployees();
+
+    /**
+     * Fetch a single employee by ID
+     */
+    CompletableFuture<Employee> getEmployeeById(String id);
+
+    /**
+     * Create a new employee
+     */
+    CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput);
+
+    /**
+     * Delete an employee by name (note: the mock API deletes by name, not ID)
+     */
+    CompletableFuture<Boolean> deleteEmployeeByName(String name);
+
+    /**
+     * Delete an employee by ID in a single request, completing with the deleted employee's name,
+     * or {@code null} when there is no employee with that ID
+     */
+    CompletableFuture<String> deleteEmployeeById(String id);
+}
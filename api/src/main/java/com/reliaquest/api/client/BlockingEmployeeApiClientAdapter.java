@@ -0,0 +1,63 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatchResult;
+import com.reliaquest.api.model.EmployeeInput;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncEmployeeApiClient} backed by the blocking {@link EmployeeApiClient}.
+ * Calls run on the caller's thread and return already completed futures; this is the default
+ * ({@code employee.client.mode: blocking}).
+ */
+@Component
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "blocking", matchIfMissing = true)
+@RequiredArgsConstructor
+public class BlockingEmployeeApiClientAdapter implements AsyncEmployeeApiClient {
+
+    private final EmployeeApiClient employeeApiClient;
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return call(employeeApiClient::getAllEmployees);
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        return call(() -> employeeApiClient.getEmployeeById(id));
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+        return call(() -> employeeApiClient.createEmployee(employeeInput));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+        return call(() -> employeeApiClient.deleteEmployeeByName(name));
+    }
+
+    @Override
+    public CompletableFuture<String> deleteEmployeeById(String id) {
+        return call(() -> {
+            EmployeeBatchResult result = employeeApiClient.deleteEmployeesByIds(List.of(id)).get(0);
+            return result.getOutcome() == EmployeeBatchResult.Outcome.DELETED
+                    ? result.getEmployee().getEmployeeName()
+                    : null;
+        });
+    }
+
+    private static <T> CompletableFuture<T> call(Supplier<T> operation) {
+        try {
+            return CompletableFuture.completedFuture(operation.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.reliaquest.api.config.RestClientConfig;
 import com.reliaquest.api.exception.EmployeeServiceException;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatchResult;
 import com.reliaquest.api.model.EmployeeInput;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,15 +12,26 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -33,73 +45,205 @@ public class EmployeeApiClient {
 
     private final RestTemplate restTemplate;
     private final RestClientConfig restClientConfig;
+    private final RateLimitScheduler rateLimitScheduler;
+    private final EmployeeClientMetrics clientMetrics;
 
     private static final String EMPLOYEES_ENDPOINT = "/api/v1/employee";
+    private static final String EMPLOYEES_SEARCH_ENDPOINT = EMPLOYEES_ENDPOINT + "/search";
+    private static final String EMPLOYEES_MAX_SALARY_ENDPOINT = EMPLOYEES_ENDPOINT + "/stats/salary/max";
+    private static final String EMPLOYEES_TOP_ENDPOINT = EMPLOYEES_ENDPOINT + "/top";
+    private static final String EMPLOYEES_BATCH_ENDPOINT = EMPLOYEES_ENDPOINT + "/batch";
+    // The mock API accepts up to 1000 items per batch; smaller chunks keep each request and its retries cheap
+    static final int MAX_BATCH_SIZE = 500;
     private static final int MAX_RETRY_ATTEMPTS = 5;
     private static final long RETRY_DELAY_MS = 2000;
 
+    private static final Comparator<Employee> BY_SALARY = Comparator.comparing(Employee::getEmployeeSalary);
+
+    /**
+     * Operations whose endpoint the mock API does not provide, as told by {@link MissingEndpoints}. Once
+     * an operation is known to be missing, later calls go straight to its fallback instead of spending a
+     * request on it. Keyed by operation rather than path, since creates and deletes share the batch path
+     * on different methods.
+     */
+    private final Set<String> unsupportedOperations = ConcurrentHashMap.newKeySet();
+
+    /*
+     * Concurrent identical reads share one upstream request. Results handed to several callers are
+     * shared, so lists are returned unmodifiable. Every write detaches the reads in flight, so a
+     * read started after a write never receives a response sent before it.
+     */
+    private final SingleFlight<String, List<Employee>> employeeListReads = new SingleFlight<>();
+    private final SingleFlight<String, Employee> employeeReads = new SingleFlight<>();
+    private final SingleFlight<String, Integer> salaryReads = new SingleFlight<>();
+
+    /*
+     * Last employee list and single employees read, kept with their entity tags for conditional reads.
+     */
+    private final EntityTagCache<String, List<Employee>> employeeListTags = new EntityTagCache<>(1);
+    private final EntityTagCache<String, Employee> employeeTags = new EntityTagCache<>(10_000);
+
     /**
-     * Fetch all employees from the mock API
+     * Fetch all employees from the mock API.
+     * The last list is revalidated with its entity tag, and reused without parsing when unchanged.
      */
     public List<Employee> getAllEmployees() {
-        return executeWithRetry(() -> {
+        return employeeListReads.execute("all", () -> executeWithRetry("get-all", () -> {
             log.info("Fetching all employees from mock API");
             String url = restClientConfig.getBaseUrl() + EMPLOYEES_ENDPOINT;
-            
+            EntityTagCache.Tagged<List<Employee>> last = employeeListTags.get("all");
+
             ResponseEntity<ApiResponse.EmployeeListResponse> response = restTemplate.exchange(
                 url,
                 HttpMethod.GET,
-                null,
+                conditional(last),
                 new ParameterizedTypeReference<ApiResponse.EmployeeListResponse>() {}
             );
+            if (last != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                clientMetrics.notModified("get-all");
+                log.info("Employee list not modified, reusing {} employees", last.body().size());
+                return last.body();
+            }
 
             ApiResponse.EmployeeListResponse apiResponse = response.getBody();
             if (apiResponse != null && apiResponse.isSuccess()) {
                 log.info("Successfully fetched {} employees", apiResponse.getData().size());
-                return apiResponse.getData();
+                List<Employee> employees = Collections.unmodifiableList(apiResponse.getData());
+                employeeListTags.put("all", response.getHeaders().getETag(), employees);
+                return employees;
             } else {
                 throw new EmployeeServiceException("Failed to fetch employees: " + 
                     (apiResponse != null ? apiResponse.getError() : "Unknown error"));
             }
-        });
+        }));
+    }
+
+    /**
+     * Search employees whose name contains the fragment, ignoring case.
+     * Uses the mock API's search endpoint, falling back to filtering the full employee list.
+     */
+    public List<Employee> searchEmployeesByName(String fragment) {
+        String flightKey = "search:" + fragment.toLowerCase(Locale.ROOT);
+        return employeeListReads.execute(flightKey, () -> queryOrFallback("search", EMPLOYEES_SEARCH_ENDPOINT, () -> {
+            log.info("Searching employees by name via mock API: {}", fragment);
+            String url = restClientConfig.getBaseUrl() + EMPLOYEES_SEARCH_ENDPOINT + "?name={name}";
+
+            ResponseEntity<ApiResponse.EmployeeListResponse> response = restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<ApiResponse.EmployeeListResponse>() {},
+                fragment
+            );
+
+            return requireData(response.getBody(), "Failed to search employees: ");
+        }, () -> {
+            String needle = fragment.toLowerCase(Locale.ROOT);
+            return getAllEmployees().stream()
+                    .filter(employee -> employee.getEmployeeName() != null &&
+                            employee.getEmployeeName().toLowerCase(Locale.ROOT).contains(needle))
+                    .toList();
+        }));
+    }
+
+    /**
+     * Get the highest salary, or 0 when there are no employees.
+     * Uses the mock API's salary stats endpoint, falling back to the full employee list.
+     */
+    public Integer getHighestSalary() {
+        return salaryReads.execute("max", () -> queryOrFallback("max-salary", EMPLOYEES_MAX_SALARY_ENDPOINT, () -> {
+            log.info("Fetching highest salary from mock API");
+            String url = restClientConfig.getBaseUrl() + EMPLOYEES_MAX_SALARY_ENDPOINT;
+
+            ResponseEntity<ApiResponse.IntegerResponse> response = restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<ApiResponse.IntegerResponse>() {}
+            );
+
+            ApiResponse.IntegerResponse apiResponse = response.getBody();
+            if (apiResponse != null && apiResponse.isSuccess()) {
+                return apiResponse.getData() != null ? apiResponse.getData() : 0;
+            }
+            throw new EmployeeServiceException("Failed to fetch highest salary: " +
+                (apiResponse != null ? apiResponse.getError() : "Unknown error"));
+        }, () -> getAllEmployees().stream()
+                .map(Employee::getEmployeeSalary)
+                .filter(Objects::nonNull)
+                .max(Integer::compare)
+                .orElse(0)));
+    }
+
+    /**
+     * Get up to {@code limit} employees with the highest salaries, highest first and equal salaries
+     * in list order.
+     * Uses the mock API's ranking endpoint, falling back to ranking the full employee list.
+     */
+    public List<Employee> getTopEarningEmployees(int limit) {
+        return employeeListReads.execute("top:" + limit, () -> queryOrFallback("top-earners", EMPLOYEES_TOP_ENDPOINT, () -> {
+            log.info("Fetching top {} earning employees from mock API", limit);
+            String url = restClientConfig.getBaseUrl() + EMPLOYEES_TOP_ENDPOINT + "?by=salary&n={n}";
+
+            ResponseEntity<ApiResponse.EmployeeListResponse> response = restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<ApiResponse.EmployeeListResponse>() {},
+                limit
+            );
+
+            return requireData(response.getBody(), "Failed to fetch top earning employees: ");
+        }, () -> getAllEmployees().stream()
+                .filter(employee -> employee.getEmployeeSalary() != null)
+                // Stable sort: employees with equal salaries stay in list order
+                .sorted(BY_SALARY.reversed())
+                .limit(limit)
+                .toList()));
     }
 
     /**
-     * Fetch a single employee by ID
+     * Fetch a single employee by ID, revalidating the last copy read like {@link #getAllEmployees()}
      */
     public Employee getEmployeeById(String id) {
-        return executeWithRetry(() -> {
+        return employeeReads.execute(id, () -> executeWithRetry("get-by-id", () -> {
             log.info("Fetching employee with id: {}", id);
             String url = restClientConfig.getBaseUrl() + EMPLOYEES_ENDPOINT + "/" + id;
-            
+            EntityTagCache.Tagged<Employee> last = employeeTags.get(id);
+
             ResponseEntity<ApiResponse.EmployeeResponse> response = restTemplate.exchange(
                 url,
                 HttpMethod.GET,
-                null,
+                conditional(last),
                 new ParameterizedTypeReference<ApiResponse.EmployeeResponse>() {}
             );
+            if (last != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                clientMetrics.notModified("get-by-id");
+                return last.body();
+            }
 
             ApiResponse.EmployeeResponse apiResponse = response.getBody();
             if (apiResponse != null && apiResponse.isSuccess()) {
                 log.info("Successfully fetched employee: {}", apiResponse.getData().getEmployeeName());
+                employeeTags.put(id, response.getHeaders().getETag(), apiResponse.getData());
                 return apiResponse.getData();
             } else {
                 throw new EmployeeServiceException("Failed to fetch employee: " + 
                     (apiResponse != null ? apiResponse.getError() : "Unknown error"));
             }
-        });
+        }));
     }
 
     /**
      * Create a new employee
      */
     public Employee createEmployee(EmployeeInput employeeInput) {
-        return executeWithRetry(() -> {
+        return write(() -> executeWithRetry("create", () -> {
             log.info("Creating new employee: {}", employeeInput.getName());
             String url = restClientConfig.getBaseUrl() + EMPLOYEES_ENDPOINT;
             
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentType(restClientConfig.getWireFormat().getMediaType());
             
             HttpEntity<EmployeeInput> request = new HttpEntity<>(employeeInput, headers);
             
@@ -118,19 +262,19 @@ public class EmployeeApiClient {
                 throw new EmployeeServiceException("Failed to create employee: " + 
                     (apiResponse != null ? apiResponse.getError() : "Unknown error"));
             }
-        });
+        }));
     }
 
     /**
      * Delete an employee by name (note: the mock API deletes by name, not ID)
      */
     public boolean deleteEmployeeByName(String name) {
-        return executeWithRetry(() -> {
+        return write(() -> executeWithRetry("delete", () -> {
             log.info("Deleting employee with name: {}", name);
             String url = restClientConfig.getBaseUrl() + EMPLOYEES_ENDPOINT;
             
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentType(restClientConfig.getWireFormat().getMediaType());
             
             // Create request body with name (as per mock API requirement)
             Map<String, String> requestBody = new HashMap<>();
@@ -152,42 +296,247 @@ public class EmployeeApiClient {
                 throw new EmployeeServiceException("Failed to delete employee: " + 
                     (apiResponse != null ? apiResponse.getError() : "Unknown error"));
             }
+        }));
+    }
+
+    /**
+     * Create many employees with as few requests as possible.
+     * Inputs are sent to the mock API's batch endpoint in chunks of {@value #MAX_BATCH_SIZE}, each
+     * created atomically. Results are in input order and report invalid inputs per item instead of
+     * failing the call. Without the batch endpoint, employees are created one request at a time
+     * and an invalid input fails the call as it would in {@link #createEmployee}.
+     */
+    public List<EmployeeBatchResult> createEmployees(List<EmployeeInput> employeeInputs) {
+        return inChunks(employeeInputs, chunk -> queryOrFallback("create-batch", EMPLOYEES_BATCH_ENDPOINT, () -> {
+            log.info("Creating {} employees in one batch", chunk.size());
+            return write(() -> sendBatch(HttpMethod.POST, chunk, "Failed to create employees: "));
+        }, () -> {
+            List<EmployeeBatchResult> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(result(i, EmployeeBatchResult.Outcome.CREATED, createEmployee(chunk.get(i))));
+            }
+            return results;
+        }));
+    }
+
+    /**
+     * Delete many employees by ID with as few requests as possible.
+     * IDs are sent to the mock API's batch endpoint in chunks of {@value #MAX_BATCH_SIZE}, each
+     * deleted atomically and without looking the names up first. Results are in input order.
+     * Without the batch endpoint, each employee is fetched and then deleted by name.
+     */
+    public List<EmployeeBatchResult> deleteEmployeesByIds(List<String> ids) {
+        return inChunks(ids, chunk -> queryOrFallback("delete-batch", EMPLOYEES_BATCH_ENDPOINT, () -> {
+            log.info("Deleting {} employees in one batch", chunk.size());
+            List<Map<String, String>> requestBody = chunk.stream()
+                    .map(id -> Map.of("id", id))
+                    .toList();
+            return write(() -> sendBatch(HttpMethod.DELETE, requestBody, "Failed to delete employees: "));
+        }, () -> {
+            List<EmployeeBatchResult> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                Employee employee;
+                try {
+                    employee = getEmployeeById(chunk.get(i));
+                } catch (HttpClientErrorException.NotFound e) {
+                    employee = null;
+                }
+                boolean deleted = employee != null && deleteEmployeeByName(employee.getEmployeeName());
+                results.add(deleted
+                        ? result(i, EmployeeBatchResult.Outcome.DELETED, employee)
+                        : result(i, EmployeeBatchResult.Outcome.NOT_FOUND, null));
+            }
+            return results;
+        }));
+    }
+
+    /**
+     * Send {@code items} in consecutive chunks and join the results, shifting each chunk's
+     * indexes so they refer to positions in {@code items}
+     */
+    private static <I> List<EmployeeBatchResult> inChunks(
+            List<I> items, Function<List<I>, List<EmployeeBatchResult>> sendChunk) {
+        List<EmployeeBatchResult> results = new ArrayList<>(items.size());
+        for (int offset = 0; offset < items.size(); offset += MAX_BATCH_SIZE) {
+            List<I> chunk = items.subList(offset, Math.min(items.size(), offset + MAX_BATCH_SIZE));
+            for (EmployeeBatchResult result : sendChunk.apply(chunk)) {
+                result.setIndex(result.getIndex() + offset);
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    private List<EmployeeBatchResult> sendBatch(HttpMethod method, Object requestBody, String failureMessage) {
+        String url = restClientConfig.getBaseUrl() + EMPLOYEES_BATCH_ENDPOINT;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(restClientConfig.getWireFormat().getMediaType());
+
+        ResponseEntity<ApiResponse.EmployeeBatchResponse> response = restTemplate.exchange(
+            url,
+            method,
+            new HttpEntity<>(requestBody, headers),
+            new ParameterizedTypeReference<ApiResponse.EmployeeBatchResponse>() {}
+        );
+
+        ApiResponse.EmployeeBatchResponse apiResponse = response.getBody();
+        if (apiResponse != null && apiResponse.isSuccess()) {
+            return apiResponse.getData();
+        }
+        throw new EmployeeServiceException(failureMessage +
+            (apiResponse != null ? apiResponse.getError() : "Unknown error"));
+    }
+
+    /**
+     * Run a write, then make sure no read sent before it is shared with later callers. This also
+     * happens when the write fails, since a request that timed out may still have been applied.
+     */
+    private <T> T write(Supplier<T> call) {
+        try {
+            return call.get();
+        } finally {
+            employeeListReads.detachAll();
+            employeeReads.detachAll();
+            salaryReads.detachAll();
+        }
+    }
+
+    private static EmployeeBatchResult result(int index, EmployeeBatchResult.Outcome outcome, Employee employee) {
+        return EmployeeBatchResult.builder()
+                .index(index)
+                .outcome(outcome)
+                .employee(employee)
+                .build();
+    }
+
+    /**
+     * Execute a supplier with retry logic.
+     * Every attempt first passes the shared {@link RateLimitScheduler}, which holds it back while
+     * the upstream rate limit window is closed, so 429s are retried when the upstream's
+     * {@code Retry-After} says the window reopens rather than after a guessed delay, or fail with a
+     * {@code RateLimitExceededException} at once if that is past the call's deadline. Transport
+     * and server errors use backoff with jitter, except a server error that says the endpoint is
+     * missing, which is thrown at once.
+     * Attempts, retries, waits and the overall call are recorded under {@code operation}.
+     */
+    private <T> T executeWithRetry(String operation, Supplier<T> call) {
+        return clientMetrics.record(operation, () -> {
+            Exception lastException = null;
+            long deadline = rateLimitScheduler.deadlineFromNow();
+
+            for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
+                long waitStart = System.nanoTime();
+                rateLimitScheduler.acquire(deadline);
+                clientMetrics.waited(EmployeeClientMetrics.WAIT_RATE_LIMIT, System.nanoTime() - waitStart);
+                clientMetrics.attempted(operation);
+                try {
+                    T result = call.get();
+                    rateLimitScheduler.onAdmitted();
+                    return result;
+                } catch (HttpClientErrorException e) {
+                    if (e.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS) {
+                        rateLimitScheduler.onAdmitted();
+                        // Retrying will not change the answer to a bad request or a missing resource
+                        throw e;
+                    }
+                    rateLimitScheduler.onRateLimited(e.getResponseHeaders());
+                    clientMetrics.rateLimited(operation);
+                    lastException = e;
+                    log.warn("Attempt {}/{} rate limited (429), waiting for the window to reopen",
+                            attempt, MAX_RETRY_ATTEMPTS);
+                    if (attempt < MAX_RETRY_ATTEMPTS) {
+                        clientMetrics.retried(operation, EmployeeClientMetrics.RETRY_RATE_LIMITED);
+                    }
+                } catch (HttpServerErrorException e) {
+                    rateLimitScheduler.onAdmitted();
+                    if (MissingEndpoints.isMissing(e)) {
+                        // An older mock API answers a request it has no endpoint for with a 500
+                        throw e;
+                    }
+                    lastException = e;
+                    log.warn("Attempt {} failed: {}", attempt, e.getMessage());
+
+                    if (attempt < MAX_RETRY_ATTEMPTS) {
+                        clientMetrics.retried(operation, EmployeeClientMetrics.RETRY_SERVER_ERROR);
+                        sleepBeforeRetry(attempt);
+                    }
+                } catch (RestClientException e) {
+                    rateLimitScheduler.onFailed();
+                    lastException = e;
+                    log.warn("Attempt {} failed: {}", attempt, e.getMessage());
+
+                    if (attempt < MAX_RETRY_ATTEMPTS) {
+                        clientMetrics.retried(operation, EmployeeClientMetrics.RETRY_IO_ERROR);
+                        sleepBeforeRetry(attempt);
+                    }
+                } catch (RuntimeException e) {
+                    rateLimitScheduler.onAdmitted();
+                    throw e;
+                }
+            }
+
+            log.error("All {} attempts failed", MAX_RETRY_ATTEMPTS);
+            clientMetrics.exhausted(operation);
+            throw new EmployeeServiceException("Failed to execute request after " + MAX_RETRY_ATTEMPTS + " attempts", lastException);
         });
     }
 
+    private void sleepBeforeRetry(int attempt) {
+        try {
+            // Linear backoff with jitter for transport and server errors
+            long baseDelay = RETRY_DELAY_MS * attempt;
+            long jitter = (long) (Math.random() * 1000); // Add randomness
+            long delay = baseDelay + jitter;
+            
+            log.info("Retrying in {} ms... (attempt {}/{})", 
+                    delay, attempt, MAX_RETRY_ATTEMPTS);
+            long sleepStart = System.nanoTime();
+            Thread.sleep(delay);
+            clientMetrics.waited(EmployeeClientMetrics.WAIT_BACKOFF, System.nanoTime() - sleepStart);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new EmployeeServiceException("Retry interrupted", ie);
+        }
+    }
+
     /**
-     * Execute a supplier with retry logic
-     * Implements exponential backoff for failed requests
+     * Execute a query against an optional mock API endpoint with retry logic, switching to the
+     * fallback when the server does not provide that endpoint for this operation.
      */
-    private <T> T executeWithRetry(Supplier<T> operation) {
-        Exception lastException = null;
-        
-        for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
+    private <T> T queryOrFallback(String operation, String endpoint, Supplier<T> query, Supplier<T> fallback) {
+        if (!unsupportedOperations.contains(operation)) {
             try {
-                return operation.get();
-            } catch (RestClientException e) {
-                lastException = e;
-                log.warn("Attempt {} failed: {}", attempt, e.getMessage());
-                
-                if (attempt < MAX_RETRY_ATTEMPTS) {
-                    try {
-                        // Enhanced exponential backoff with jitter for rate limiting
-                        long baseDelay = RETRY_DELAY_MS * attempt;
-                        long jitter = (long) (Math.random() * 1000); // Add randomness
-                        long delay = baseDelay + jitter;
-                        
-                        log.info("Rate limited (429) - Retrying in {} ms... (attempt {}/{})", 
-                                delay, attempt, MAX_RETRY_ATTEMPTS);
-                        Thread.sleep(delay);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new EmployeeServiceException("Retry interrupted", ie);
-                    }
+                return executeWithRetry(operation, query);
+            } catch (RestClientResponseException e) {
+                if (!MissingEndpoints.isMissing(e)) {
+                    throw e;
                 }
+                log.warn("Mock API does not support {} on {} ({}), falling back", operation, endpoint, e.getStatusCode());
+                unsupportedOperations.add(operation);
             }
         }
-        
-        log.error("All {} attempts failed", MAX_RETRY_ATTEMPTS);
-        throw new EmployeeServiceException("Failed to execute request after " + MAX_RETRY_ATTEMPTS + " attempts", lastException);
+        return fallback.get();
+    }
+
+    /**
+     * Request entity for a read that revalidates {@code last}, if there is one
+     */
+    private static HttpEntity<Void> conditional(EntityTagCache.Tagged<?> last) {
+        if (last == null) {
+            return null;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(last.entityTag());
+        return new HttpEntity<>(headers);
+    }
+
+    private static List<Employee> requireData(ApiResponse.EmployeeListResponse apiResponse, String failureMessage) {
+        if (apiResponse != null && apiResponse.isSuccess()) {
+            log.info("Successfully fetched {} employees", apiResponse.getData().size());
+            return Collections.unmodifiableList(apiResponse.getData());
+        }
+        throw new EmployeeServiceException(failureMessage +
+            (apiResponse != null ? apiResponse.getError() : "Unknown error"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.RestClientConfig;
+import com.reliaquest.api.exception.ChangeFeedResetException;
+import com.reliaquest.api.exception.EmployeeServiceException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.ChangeFeedSnapshot;
+import com.reliaquest.api.model.EmployeeChange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Client for the mock employee API's change feed, used by the replica to bootstrap from a
+ * snapshot and then follow the server-sent event stream of creates and deletes.
+ * <p>
+ * Both calls are blocking and go through the shared {@link RateLimitScheduler}, so they are
+ * counted against the same window as every other call. A stream is a single request however long
+ * it stays open, which is what lets the replica keep up without polling into the rate limit.
+ * Failures are reported as in {@link EmployeeApiClient}: 4xx and 5xx as
+ * {@code HttpClientErrorException} / {@code HttpServerErrorException}, except a 410, which means
+ * the replica has to start again from a snapshot and is a {@link ChangeFeedResetException}.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeFeedClient {
+
+    private static final String CHANGES_ENDPOINT = "/api/v1/employee/changes";
+    private static final String GZIP = "gzip";
+
+    private final HttpClient employeeHttpClient;
+    private final RestClientConfig restClientConfig;
+    private final ObjectMapper objectMapper;
+    private final WireCodec wireCodec;
+    private final RateLimitScheduler rateLimitScheduler;
+
+    public EmployeeChangeFeedClient(HttpClient employeeHttpClient, RestClientConfig restClientConfig,
+                                    ObjectMapper objectMapper, RateLimitScheduler rateLimitScheduler) {
+        this.employeeHttpClient = employeeHttpClient;
+        this.restClientConfig = restClientConfig;
+        this.objectMapper = objectMapper;
+        this.wireCodec = new WireCodec(restClientConfig.getWireFormat(), objectMapper);
+        this.rateLimitScheduler = rateLimitScheduler;
+    }
+
+    /**
+     * Fetch every employee together with the change feed version they were read at, in the
+     * configured wire format
+     */
+    public ChangeFeedSnapshot fetchSnapshot() throws IOException, InterruptedException {
+        HttpRequest.Builder builder = request(CHANGES_ENDPOINT + "/snapshot")
+                .header(HttpHeaders.ACCEPT, wireCodec.accept());
+        if (restClientConfig.isCompression()) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, GZIP);
+        }
+        HttpResponse<InputStream> response = send(builder.timeout(restClientConfig.getTimeout()).build());
+        try (InputStream body = decode(response)) {
+            ApiResponse<ChangeFeedSnapshot> apiResponse = wireCodec.read(body,
+                    response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null),
+                    ApiResponse.ChangeFeedSnapshotResponse.class);
+            if (apiResponse == null || !apiResponse.isSuccess() || apiResponse.getData() == null) {
+                throw new EmployeeServiceException("Failed to fetch change feed snapshot: "
+                        + (apiResponse != null ? apiResponse.getError() : "Unknown error"));
+            }
+            return apiResponse.getData();
+        }
+    }
+
+    /**
+     * Open the stream of changes after {@code since}, a version of {@code epoch}
+     *
+     * @throws ChangeFeedResetException if the server can no longer serve changes from that version
+     */
+    public ChangeStream openStream(String epoch, long since) throws IOException, InterruptedException {
+        String query = "?since=" + since + "&epoch=" + URLEncoder.encode(epoch, StandardCharsets.UTF_8);
+        HttpRequest request = request(CHANGES_ENDPOINT + "/stream" + query)
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                // Only bounds the wait for the response headers; a silent stream is the caller's to close
+                .timeout(restClientConfig.getTimeout())
+                .build();
+        return new ChangeStream(send(request).body());
+    }
+
+    private HttpResponse<InputStream> send(HttpRequest request) throws IOException, InterruptedException {
+        rateLimitScheduler.acquire(rateLimitScheduler.deadlineFromNow());
+        HttpResponse<InputStream> response;
+        try {
+            response = employeeHttpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            rateLimitScheduler.onFailed();
+            throw e;
+        }
+
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        if (status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            rateLimitScheduler.onRateLimited(headers);
+        } else {
+            rateLimitScheduler.onAdmitted();
+        }
+        if (status.isError()) {
+            byte[] body;
+            try (InputStream in = response.body()) {
+                body = in.readAllBytes();
+            }
+            HttpStatus knownStatus = HttpStatus.resolve(response.statusCode());
+            String statusText = knownStatus != null ? knownStatus.getReasonPhrase() : "";
+            if (status.isSameCodeAs(HttpStatus.GONE)) {
+                throw new ChangeFeedResetException("Change feed history unavailable: "
+                        + new String(body, StandardCharsets.UTF_8));
+            }
+            if (status.is4xxClientError()) {
+                throw HttpClientErrorException.create(status, statusText, headers, body, StandardCharsets.UTF_8);
+            }
+            throw HttpServerErrorException.create(status, statusText, headers, body, StandardCharsets.UTF_8);
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(restClientConfig.getBaseUrl() + path));
+    }
+
+    private static InputStream decode(HttpResponse<InputStream> response) throws IOException {
+        String contentEncoding = response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null);
+        if (contentEncoding == null || !contentEncoding.toLowerCase(Locale.ROOT).contains(GZIP)) {
+            return response.body();
+        }
+        return new GZIPInputStream(response.body());
+    }
+
+    /**
+     * An open stream of changes. Server-sent events are parsed as they arrive; closing the stream
+     * from another thread makes a blocked {@link #next()} fail.
+     */
+    public class ChangeStream implements Closeable {
+
+        private final InputStream body;
+        private final BufferedReader reader;
+
+        ChangeStream(InputStream body) {
+            this.body = body;
+            this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Block until the next event: a change, or {@code null} for a heartbeat
+         *
+         * @throws ChangeFeedResetException if the server ends the stream because the replica fell
+         *                                  behind its retained history
+         * @throws EOFException             if the server closed the stream
+         */
+        public EmployeeChange next() throws IOException {
+            String event = null;
+            StringBuilder data = null;
+            boolean heartbeat = false;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    if (data != null) {
+                        return dispatch(event, data.toString());
+                    }
+                    if (heartbeat) {
+                        return null;
+                    }
+                    continue;
+                }
+                if (line.startsWith(":")) {
+                    heartbeat = true;
+                    continue;
+                }
+
+                int colon = line.indexOf(':');
+                String field = colon < 0 ? line : line.substring(0, colon);
+                String value = colon < 0 ? "" : line.substring(colon + 1);
+                if (value.startsWith(" ")) {
+                    value = value.substring(1);
+                }
+                if (field.equals("event")) {
+                    event = value;
+                } else if (field.equals("data")) {
+                    data = data == null ? new StringBuilder(value) : data.append('\n').append(value);
+                }
+            }
+            throw new EOFException("Change stream closed by the server");
+        }
+
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+
+        private EmployeeChange dispatch(String event, String data) throws IOException {
+            if ("reset".equals(event)) {
+                throw new ChangeFeedResetException(data);
+            }
+            if (event != null && !event.equals("change")) {
+                log.debug("Ignoring change feed event: {}", event);
+                return null;
+            }
+            return objectMapper.readValue(data, EmployeeChange.class);
+        }
+    }
+}
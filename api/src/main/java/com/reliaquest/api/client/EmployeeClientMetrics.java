@@ -0,0 +1,155 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters for calls to the mock employee API, shared by the blocking and async clients.
+ * <ul>
+ *   <li>{@code employee.client.requests} – timer per logical operation (retries included), tagged by outcome</li>
+ *   <li>{@code employee.client.attempts} – every request sent upstream</li>
+ *   <li>{@code employee.client.retries} – attempts repeated, tagged by reason</li>
+ *   <li>{@code employee.client.rate.limited} – 429 responses</li>
+ *   <li>{@code employee.client.not.modified} – conditional reads answered with 304 from the last body</li>
+ *   <li>{@code employee.client.retries.exhausted} – operations that failed after the last attempt</li>
+ *   <li>{@code employee.client.retry.wait} – time spent waiting between attempts, by backoff or rate limit window</li>
+ * </ul>
+ */
+@Component
+public class EmployeeClientMetrics {
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_CLIENT_ERROR = "client_error";
+    static final String OUTCOME_FAILURE = "failure";
+
+    static final String RETRY_RATE_LIMITED = "rate_limited";
+    static final String RETRY_SERVER_ERROR = "server_error";
+    static final String RETRY_IO_ERROR = "io_error";
+
+    static final String WAIT_BACKOFF = "backoff";
+    static final String WAIT_RATE_LIMIT = "rate_limit";
+
+    /*
+     * Admissions faster than this did not actually wait for anything and would only flood the histogram's first bucket.
+     */
+    private static final long MIN_RECORDED_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final MeterRegistry meterRegistry;
+
+    /*
+     * Meters by name and tags. Registering goes through the registry's lookup and a builder on every call, which is
+     * measurable per request; the set of operations, outcomes and reasons is small and fixed.
+     */
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public EmployeeClientMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Time a blocking operation, tagging the outcome from its result or exception
+     */
+    public <T> T record(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            T result = call.get();
+            sample.stop(requestTimer(operation, OUTCOME_SUCCESS));
+            return result;
+        } catch (RuntimeException e) {
+            sample.stop(requestTimer(operation, outcome(e)));
+            throw e;
+        }
+    }
+
+    /**
+     * Time an asynchronous operation until its future completes
+     */
+    public <T> CompletableFuture<T> recordAsync(String operation, Supplier<CompletableFuture<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return call.get().whenComplete((result, failure) -> sample.stop(requestTimer(
+                operation, failure == null ? OUTCOME_SUCCESS : outcome(failure))));
+    }
+
+    public void attempted(String operation) {
+        counter("employee.client.attempts", operation).increment();
+    }
+
+    public void retried(String operation, String reason) {
+        counters.computeIfAbsent(new MeterKey("employee.client.retries", operation, reason), key ->
+                Counter.builder(key.name())
+                        .description("Attempts repeated after a failed attempt")
+                        .tag("operation", operation)
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void rateLimited(String operation) {
+        counter("employee.client.rate.limited", operation).increment();
+    }
+
+    public void notModified(String operation) {
+        counter("employee.client.not.modified", operation).increment();
+    }
+
+    public void exhausted(String operation) {
+        counter("employee.client.retries.exhausted", operation).increment();
+    }
+
+    /**
+     * Record time an attempt spent waiting before it was sent
+     *
+     * @param cause {@link #WAIT_BACKOFF} or {@link #WAIT_RATE_LIMIT}
+     */
+    public void waited(String cause, long nanos) {
+        if (nanos < MIN_RECORDED_WAIT_NANOS) {
+            return;
+        }
+        timers.computeIfAbsent(new MeterKey("employee.client.retry.wait", cause, null), key ->
+                Timer.builder(key.name())
+                        .description("Time spent waiting between attempts")
+                        .tag("cause", cause)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(Duration.ofMinutes(2))
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer requestTimer(String operation, String outcome) {
+        return timers.computeIfAbsent(new MeterKey("employee.client.requests", operation, outcome), key ->
+                Timer.builder(key.name())
+                        .description("Logical calls to the mock employee API, retries included")
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
+    private Counter counter(String name, String operation) {
+        return counters.computeIfAbsent(new MeterKey(name, operation, null), key ->
+                Counter.builder(name)
+                        .tag("operation", operation)
+                        .register(meterRegistry));
+    }
+
+    private record MeterKey(String name, String tag, String secondTag) {
+    }
+
+    private static String outcome(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        return cause instanceof HttpClientErrorException ? OUTCOME_CLIENT_ERROR : OUTCOME_FAILURE;
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Last response body of each conditional read, kept with the entity tag it was sent with.
+ * <p>
+ * The read is repeated with {@code If-None-Match}; when the mock API answers 304 the kept body is
+ * returned as is, so an unchanged response costs neither a download nor any JSON parsing. The
+ * same body is handed to every caller that revalidates it, so callers must not modify it.
+ * <p>
+ * Entries are keyed by request only, not by wire format: a client sends the same Accept on every
+ * read, so one cache only ever holds bodies of one format, and the mock API's tags name the format
+ * they were computed for, so a tag from another format never matches.
+ */
+final class EntityTagCache<K, V> {
+
+    /**
+     * A body and the entity tag it was sent with
+     */
+    record Tagged<V>(String entityTag, V body) {
+    }
+
+    private final Cache<K, Tagged<V>> entries;
+
+    EntityTagCache(long maximumSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * The body last received for the key, or {@code null} if there is none to revalidate
+     */
+    Tagged<V> get(K key) {
+        return entries.getIfPresent(key);
+    }
+
+    /**
+     * Keep a body for revalidation; a response without an entity tag drops the old one instead
+     */
+    void put(K key, String entityTag, V body) {
+        if (entityTag == null) {
+            entries.invalidate(key);
+        } else {
+            entries.put(key, new Tagged<>(entityTag, body));
+        }
+    }
+}
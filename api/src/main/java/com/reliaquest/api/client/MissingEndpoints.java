@@ -0,0 +1,41 @@
+package com.reliaquest.api.client;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.regex.Pattern;
+
+/**
+ * Recognises answers from a mock API that does not provide the endpoint a request was sent to.
+ * <p>
+ * Current servers answer with 404 or 405. Older ones answer every routing failure with a 500 that
+ * carries Spring MVC's exception message, so those are recognised by the message: no handler or
+ * static resource for the path, a method the path does not accept, or a path segment taken for an
+ * employee ID that is not a UUID. Such a request can never succeed, so it is not retried.
+ */
+public final class MissingEndpoints {
+
+    /*
+     * Only for servers from before MockEmployeeControllerAdvice answered routing failures with
+     * 404/405; drop this and the 5xx branch below once none are left. The messages are Spring MVC's,
+     * so a Spring upgrade on such a server can change them: MissingEndpointsTest holds one real body
+     * per alternative, and the server's MockEmployeeControllerAdviceTest checks that the messages it
+     * sends today still read the same.
+     */
+    private static final Pattern ROUTING_FAILURE = Pattern.compile(
+            "No static resource |No endpoint |Request method '\\w+' is not supported|required type 'java\\.util\\.UUID'");
+
+    private MissingEndpoints() {
+    }
+
+    /**
+     * Whether the mock API answered that it has no endpoint for the request
+     */
+    public static boolean isMissing(RestClientResponseException e) {
+        if (e.getStatusCode() == HttpStatus.NOT_FOUND || e.getStatusCode() == HttpStatus.METHOD_NOT_ALLOWED) {
+            return true;
+        }
+        // Servers without the 404/405 advice
+        return e.getStatusCode().is5xxServerError() && ROUTING_FAILURE.matcher(e.getResponseBodyAsString()).find();
+    }
+}
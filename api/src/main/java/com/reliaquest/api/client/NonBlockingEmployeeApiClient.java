@@ -0,0 +1,434 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.RestClientConfig;
+import com.reliaquest.api.exception.EmployeeServiceException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatchResult;
+import com.reliaquest.api.model.EmployeeInput;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Non-blocking {@link AsyncEmployeeApiClient} on the JDK {@link HttpClient}'s async API
+ * ({@code employee.client.mode: async}).
+ * <p>
+ * Retries follow the same policy as {@link EmployeeApiClient}, but no thread waits for them:
+ * backoff delays and closed rate limit windows are sat out on a timer, and the next attempt is
+ * sent from there.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.client.mode", havingValue = "async")
+public class NonBlockingEmployeeApiClient implements AsyncEmployeeApiClient {
+
+    private final HttpClient employeeHttpClient;
+    private final RestClientConfig restClientConfig;
+    private final WireCodec wireCodec;
+    private final RateLimitScheduler rateLimitScheduler;
+    private final EmployeeClientMetrics clientMetrics;
+
+    private static final String EMPLOYEES_ENDPOINT = "/api/v1/employee";
+    private static final String EMPLOYEES_BATCH_ENDPOINT = EMPLOYEES_ENDPOINT + "/batch";
+    private static final int MAX_RETRY_ATTEMPTS = 5;
+    private static final long RETRY_DELAY_MS = 2000;
+    private static final String GZIP = "gzip";
+
+    /**
+     * Set once the mock API has answered a batch delete as a missing endpoint (see
+     * {@link MissingEndpoints}), after which deletes by ID go straight to the lookup-then-delete fallback
+     */
+    private volatile boolean batchDeleteUnsupported;
+
+    /*
+     * Concurrent identical reads share one upstream request, as in EmployeeApiClient, and every
+     * write detaches the reads in flight.
+     */
+    private final SingleFlight<String, List<Employee>> employeeListReads = new SingleFlight<>();
+    private final SingleFlight<String, Employee> employeeReads = new SingleFlight<>();
+
+    /*
+     * Last employee list and single employees read, kept with their entity tags for conditional reads.
+     */
+    private final EntityTagCache<String, List<Employee>> employeeListTags = new EntityTagCache<>(1);
+    private final EntityTagCache<String, Employee> employeeTags = new EntityTagCache<>(10_000);
+
+    public NonBlockingEmployeeApiClient(HttpClient employeeHttpClient, RestClientConfig restClientConfig,
+                                        ObjectMapper objectMapper, RateLimitScheduler rateLimitScheduler,
+                                        EmployeeClientMetrics clientMetrics) {
+        this.employeeHttpClient = employeeHttpClient;
+        this.restClientConfig = restClientConfig;
+        this.wireCodec = new WireCodec(restClientConfig.getWireFormat(), objectMapper);
+        this.rateLimitScheduler = rateLimitScheduler;
+        this.clientMetrics = clientMetrics;
+    }
+
+    /**
+     * The last list is revalidated with its entity tag, and reused without parsing when unchanged
+     */
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return employeeListReads.executeAsync("all", () -> executeWithRetry("get-all", () -> {
+            log.info("Fetching all employees from mock API");
+            return conditionalGet("get-all", EMPLOYEES_ENDPOINT, employeeListTags, "all", response -> {
+                List<Employee> employees = requireData(
+                        read(response, ApiResponse.EmployeeListResponse.class), "Failed to fetch employees: ");
+                log.info("Successfully fetched {} employees", employees.size());
+                return Collections.unmodifiableList(employees);
+            });
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        return employeeReads.executeAsync(id, () -> executeWithRetry("get-by-id", () -> {
+            log.info("Fetching employee with id: {}", id);
+            return conditionalGet("get-by-id", EMPLOYEES_ENDPOINT + "/" + id, employeeTags, id, response ->
+                    requireData(read(response, ApiResponse.EmployeeResponse.class), "Failed to fetch employee: "));
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+        return write(() -> executeWithRetry("create", () -> {
+            log.info("Creating new employee: {}", employeeInput.getName());
+            HttpRequest request = request(EMPLOYEES_ENDPOINT)
+                    .header(HttpHeaders.CONTENT_TYPE, wireCodec.contentType())
+                    .POST(body(employeeInput))
+                    .build();
+            return exchange(request, ApiResponse.EmployeeResponse.class)
+                    .thenApply(apiResponse -> {
+                        Employee created = requireData(apiResponse, "Failed to create employee: ");
+                        log.info("Successfully created employee: {}", created.getEmployeeName());
+                        return created;
+                    });
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+        return write(() -> executeWithRetry("delete", () -> {
+            log.info("Deleting employee with name: {}", name);
+            HttpRequest request = request(EMPLOYEES_ENDPOINT)
+                    .header(HttpHeaders.CONTENT_TYPE, wireCodec.contentType())
+                    .method("DELETE", body(Map.of("name", name)))
+                    .build();
+            return exchange(request, ApiResponse.BooleanResponse.class)
+                    .thenApply(apiResponse -> Boolean.TRUE.equals(
+                            requireData(apiResponse, "Failed to delete employee: ")));
+        }));
+    }
+
+    /**
+     * Sent as a one-item batch delete, so the employee's name is not looked up first. Against a
+     * mock API without the batch endpoint, the employee is fetched and then deleted by name.
+     */
+    @Override
+    public CompletableFuture<String> deleteEmployeeById(String id) {
+        if (batchDeleteUnsupported) {
+            return lookUpAndDeleteByName(id);
+        }
+        return write(() -> executeWithRetry("delete-batch", () -> {
+            log.info("Deleting employee with id: {}", id);
+            HttpRequest request = request(EMPLOYEES_BATCH_ENDPOINT)
+                    .header(HttpHeaders.CONTENT_TYPE, wireCodec.contentType())
+                    .method("DELETE", body(List.of(Map.of("id", id))))
+                    .build();
+            return exchange(request, ApiResponse.EmployeeBatchResponse.class)
+                    .thenApply(apiResponse -> {
+                        EmployeeBatchResult result = requireData(apiResponse, "Failed to delete employee: ").get(0);
+                        return result.getOutcome() == EmployeeBatchResult.Outcome.DELETED
+                                ? result.getEmployee().getEmployeeName()
+                                : null;
+                    });
+        })).exceptionallyCompose(failure -> {
+            Throwable cause = unwrap(failure);
+            if (cause instanceof RestClientResponseException e && MissingEndpoints.isMissing(e)) {
+                log.warn("Mock API does not support {} ({}), falling back to delete by name",
+                        EMPLOYEES_BATCH_ENDPOINT, e.getStatusCode());
+                batchDeleteUnsupported = true;
+                return lookUpAndDeleteByName(id);
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    private CompletableFuture<String> lookUpAndDeleteByName(String id) {
+        return getEmployeeById(id)
+                .exceptionallyCompose(failure -> unwrap(failure) instanceof HttpClientErrorException.NotFound
+                        ? CompletableFuture.completedFuture(null)
+                        : CompletableFuture.failedFuture(unwrap(failure)))
+                .thenCompose(employee -> employee == null
+                        ? CompletableFuture.completedFuture(null)
+                        : deleteEmployeeByName(employee.getEmployeeName())
+                                .thenApply(deleted -> deleted ? employee.getEmployeeName() : null));
+    }
+
+    /**
+     * Run an operation with the retry policy of {@link EmployeeApiClient}, scheduling every wait
+     * on a timer instead of sleeping.
+     */
+    private <T> CompletableFuture<T> executeWithRetry(String operation, Supplier<CompletableFuture<T>> call) {
+        return clientMetrics.recordAsync(operation, () -> {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            attempt(new Call<>(operation, call, rateLimitScheduler.deadlineFromNow(), result), 1, System.nanoTime());
+            return result;
+        });
+    }
+
+    /**
+     * One logical call across its attempts
+     */
+    private record Call<T>(String operation, Supplier<CompletableFuture<T>> send, long deadline,
+                           CompletableFuture<T> result) {
+    }
+
+    /**
+     * @param waitingSince when this attempt started waiting for the rate limit window
+     */
+    private <T> void attempt(Call<T> call, int attempt, long waitingSince) {
+        CompletableFuture<T> result = call.result();
+        long waitNanos;
+        try {
+            waitNanos = rateLimitScheduler.tryAcquire(call.deadline());
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        if (waitNanos > 0) {
+            // Rate limit window closed: ask again once it is due to reopen
+            CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS)
+                    .execute(() -> attempt(call, attempt, waitingSince));
+            return;
+        }
+        clientMetrics.waited(EmployeeClientMetrics.WAIT_RATE_LIMIT, System.nanoTime() - waitingSince);
+        clientMetrics.attempted(call.operation());
+
+        CompletableFuture<T> response;
+        try {
+            response = call.send().get();
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((value, failure) -> {
+            if (failure == null) {
+                rateLimitScheduler.onAdmitted();
+                result.complete(value);
+                return;
+            }
+
+            Throwable cause = unwrap(failure);
+            if (cause instanceof HttpClientErrorException e) {
+                if (e.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS) {
+                    rateLimitScheduler.onAdmitted();
+                    // Retrying will not change the answer to a bad request or a missing resource
+                    result.completeExceptionally(e);
+                    return;
+                }
+                rateLimitScheduler.onRateLimited(e.getResponseHeaders());
+                clientMetrics.rateLimited(call.operation());
+                log.warn("Attempt {}/{} rate limited (429), waiting for the window to reopen",
+                        attempt, MAX_RETRY_ATTEMPTS);
+                retry(call, attempt, EmployeeClientMetrics.RETRY_RATE_LIMITED, 0, e);
+            } else if (cause instanceof HttpServerErrorException e) {
+                rateLimitScheduler.onAdmitted();
+                if (MissingEndpoints.isMissing(e)) {
+                    // An older mock API answers a request it has no endpoint for with a 500
+                    result.completeExceptionally(e);
+                    return;
+                }
+                log.warn("Attempt {} failed: {}", attempt, e.getMessage());
+                retry(call, attempt, EmployeeClientMetrics.RETRY_SERVER_ERROR, retryDelay(attempt), e);
+            } else if (cause instanceof RestClientException e) {
+                rateLimitScheduler.onFailed();
+                log.warn("Attempt {} failed: {}", attempt, e.getMessage());
+                retry(call, attempt, EmployeeClientMetrics.RETRY_IO_ERROR, retryDelay(attempt), e);
+            } else {
+                rateLimitScheduler.onAdmitted();
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    private <T> void retry(Call<T> call, int attempt, String reason, long delayMs, Exception lastException) {
+        if (attempt >= MAX_RETRY_ATTEMPTS) {
+            log.error("All {} attempts failed", MAX_RETRY_ATTEMPTS);
+            clientMetrics.exhausted(call.operation());
+            call.result().completeExceptionally(new EmployeeServiceException(
+                    "Failed to execute request after " + MAX_RETRY_ATTEMPTS + " attempts", lastException));
+            return;
+        }
+        clientMetrics.retried(call.operation(), reason);
+        if (delayMs > 0) {
+            log.info("Retrying in {} ms... (attempt {}/{})", delayMs, attempt, MAX_RETRY_ATTEMPTS);
+        }
+        long backoffStart = System.nanoTime();
+        CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS).execute(() -> {
+            long now = System.nanoTime();
+            clientMetrics.waited(EmployeeClientMetrics.WAIT_BACKOFF, now - backoffStart);
+            attempt(call, attempt + 1, now);
+        });
+    }
+
+    private static long retryDelay(int attempt) {
+        // Linear backoff with jitter for transport and server errors
+        return RETRY_DELAY_MS * attempt + (long) (Math.random() * 1000);
+    }
+
+    /**
+     * Run a write, then make sure no read sent before it is shared with later callers, whether or
+     * not the write succeeded. This happens before the write's future completes, so before the
+     * caller can act on it.
+     */
+    private <T> CompletableFuture<T> write(Supplier<CompletableFuture<T>> call) {
+        return call.get().whenComplete((result, failure) -> {
+            employeeListReads.detachAll();
+            employeeReads.detachAll();
+        });
+    }
+
+    private <R> CompletableFuture<R> exchange(HttpRequest request, Class<R> responseType) {
+        return send(request).thenApply(response -> read(response, responseType));
+    }
+
+    /**
+     * GET that revalidates the body last read for {@code key} with its entity tag. On a 304 that
+     * body is returned without reading anything; otherwise {@code read} parses the new response,
+     * whose body is kept for the next revalidation.
+     */
+    private <T> CompletableFuture<T> conditionalGet(String operation, String path, EntityTagCache<String, T> tags,
+                                                    String key, Function<ResponseEntity<byte[]>, T> read) {
+        EntityTagCache.Tagged<T> last = tags.get(key);
+        HttpRequest.Builder builder = request(path).GET();
+        if (last != null) {
+            builder.header(HttpHeaders.IF_NONE_MATCH, last.entityTag());
+        }
+        return send(builder.build()).thenApply(response -> {
+            if (last != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                clientMetrics.notModified(operation);
+                log.info("Response for {} not modified, reusing the last one", path);
+                return last.body();
+            }
+            T body = read.apply(response);
+            tags.put(key, response.getHeaders().getETag(), body);
+            return body;
+        });
+    }
+
+    /**
+     * Send a request and map the response the way RestTemplate would: 4xx and 5xx become
+     * {@code HttpClientErrorException} / {@code HttpServerErrorException}, I/O failures become
+     * {@code ResourceAccessException}.
+     */
+    private CompletableFuture<ResponseEntity<byte[]>> send(HttpRequest request) {
+        return employeeHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        Throwable cause = unwrap(failure);
+                        throw new ResourceAccessException("I/O error on " + request.method() + " request for \""
+                                + request.uri() + "\": " + cause.getMessage(),
+                                cause instanceof IOException io ? io : new IOException(cause));
+                    }
+
+                    HttpHeaders headers = new HttpHeaders();
+                    response.headers().map().forEach(headers::addAll);
+                    byte[] body = decode(response.body(), headers);
+                    HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+                    HttpStatus knownStatus = HttpStatus.resolve(response.statusCode());
+                    String statusText = knownStatus != null ? knownStatus.getReasonPhrase() : "";
+                    if (status.is4xxClientError()) {
+                        throw HttpClientErrorException.create(status, statusText, headers, body, StandardCharsets.UTF_8);
+                    }
+                    if (status.is5xxServerError()) {
+                        throw HttpServerErrorException.create(status, statusText, headers, body, StandardCharsets.UTF_8);
+                    }
+                    return new ResponseEntity<>(body, headers, status);
+                });
+    }
+
+    /**
+     * Parse a response body in the format its Content-Type names
+     */
+    private <R> R read(ResponseEntity<byte[]> response, Class<R> responseType) {
+        try {
+            return wireCodec.read(response.getBody(), response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE),
+                    responseType);
+        } catch (IOException e) {
+            throw new RestClientException("Error while extracting response for type ["
+                    + responseType.getName() + "]", e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(restClientConfig.getBaseUrl() + path))
+                .timeout(restClientConfig.getTimeout())
+                .header(HttpHeaders.ACCEPT, wireCodec.accept());
+        if (restClientConfig.isCompression()) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, GZIP);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher body(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(wireCodec.write(body));
+        } catch (JsonProcessingException e) {
+            throw new EmployeeServiceException("Failed to serialize request body", e);
+        }
+    }
+
+    private static byte[] decode(byte[] body, HttpHeaders headers) {
+        String contentEncoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (body.length == 0 || contentEncoding == null || !contentEncoding.toLowerCase(Locale.ROOT).contains(GZIP)) {
+            return body;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new RestClientException("Failed to decompress gzip response", e);
+        }
+    }
+
+    private static <T> T requireData(ApiResponse<T> apiResponse, String failureMessage) {
+        if (apiResponse != null && apiResponse.isSuccess()) {
+            return apiResponse.getData();
+        }
+        throw new EmployeeServiceException(failureMessage +
+            (apiResponse != null ? apiResponse.getError() : "Unknown error"));
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
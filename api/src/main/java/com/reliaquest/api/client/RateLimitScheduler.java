@@ -0,0 +1,332 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.EmployeeServiceException;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Gate shared by all outgoing calls to the mock employee API.
+ * <p>
+ * The mock API answers every 429 with a {@code Retry-After} (and the same in milliseconds as
+ * {@code Retry-After-Ms}), and the window stays closed for exactly that long, so retries are
+ * scheduled against it rather than against a guess. An upstream that does not say is treated as
+ * admitting a fixed number of requests and then rejecting everything until a cooldown has passed
+ * since the last admitted request, and the scheduler learns both: the request budget is the number
+ * of requests admitted before the first 429 of a window, and the cooldown is the time from the
+ * last admitted request until a probe is admitted again.
+ * <p>
+ * While the window is known or predicted to be closed, callers wait here instead of sending
+ * requests that would be rejected. When the window is due to reopen a single probe is let
+ * through; everyone else keeps waiting until it succeeds. Callers whose deadline falls before the
+ * expected reopening fail immediately with a {@link RateLimitExceededException} carrying the ETA.
+ */
+@Slf4j
+@Component
+public class RateLimitScheduler {
+
+    /**
+     * Response header with the exact {@code Retry-After} in milliseconds, sent by the mock API
+     */
+    static final String RETRY_AFTER_MS = "Retry-After-Ms";
+
+    /**
+     * Longest wait a 429 is taken at its word for; anything longer is treated as this, which also
+     * keeps the window arithmetic in nanoseconds from overflowing
+     */
+    static final Duration MAX_RETRY_AFTER = Duration.ofDays(1);
+
+    private static final long MIN_PROBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /*
+     * How often a caller that cannot be signalled re-checks the window while a probe is in flight.
+     */
+    private static final long PROBE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private enum State { OPEN, CLOSED, PROBING }
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition stateChanged = lock.newCondition();
+    private final LongSupplier nanoClock;
+    private final long maxWaitNanos;
+
+    private State state = State.OPEN;
+    private int reservedInWindow;
+    private int admittedInWindow;
+    private int learnedBudget = Integer.MAX_VALUE;
+    private long cooldownNanos;
+    private long lastAdmittedNanos;
+    private long closedUntilNanos;
+    private boolean budgetObserved;
+    private boolean retryAfterAdvertised;
+
+    public RateLimitScheduler(
+            @Value("${employee.client.rate-limit.initial-cooldown-ms:30000}") long initialCooldownMs,
+            @Value("${employee.client.rate-limit.max-wait-ms:30000}") long maxWaitMs) {
+        this(TimeUnit.MILLISECONDS.toNanos(initialCooldownMs), TimeUnit.MILLISECONDS.toNanos(maxWaitMs), System::nanoTime);
+    }
+
+    RateLimitScheduler(long initialCooldownNanos, long maxWaitNanos, LongSupplier nanoClock) {
+        this.cooldownNanos = initialCooldownNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.nanoClock = nanoClock;
+        this.lastAdmittedNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Deadline for a logical call (including its retries) that starts now.
+     */
+    public long deadlineFromNow() {
+        return nanoClock.getAsLong() + maxWaitNanos;
+    }
+
+    /**
+     * Wait until a request may be sent. Must be followed by exactly one of {@link #onAdmitted()},
+     * {@link #onRateLimited()} or {@link #onFailed()}.
+     *
+     * @param deadlineNanos time by which the request has to be sent, see {@link #deadlineFromNow()}
+     * @throws RateLimitExceededException if the window will not reopen before the deadline
+     */
+    public void acquire(long deadlineNanos) {
+        lock.lock();
+        try {
+            long waitNanos;
+            while ((waitNanos = admit(deadlineNanos)) > 0) {
+                stateChanged.awaitNanos(waitNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmployeeServiceException("Interrupted while waiting for rate limit window", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Non-blocking form of {@link #acquire(long)} for callers that schedule their own retries.
+     * Returns {@code 0} when the request may be sent now, with the same obligations as
+     * {@code acquire}; otherwise the time to wait before asking again.
+     *
+     * @throws RateLimitExceededException if the window will not reopen before the deadline
+     */
+    public long tryAcquire(long deadlineNanos) {
+        lock.lock();
+        try {
+            return admit(deadlineNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long admit(long deadlineNanos) {
+        long now = nanoClock.getAsLong();
+        if (state == State.OPEN && reservedInWindow >= learnedBudget) {
+            // The learned budget is spent; the next request would certainly be rejected
+            close(now);
+        }
+        if (state == State.CLOSED && now - closedUntilNanos >= 0) {
+            log.debug("Rate limit window due to reopen, sending probe request");
+            state = State.PROBING;
+            retryAfterAdvertised = false;
+            reservedInWindow = 1;
+            admittedInWindow = 0;
+            return 0;
+        }
+        if (state == State.OPEN) {
+            reservedInWindow++;
+            return 0;
+        }
+
+        if (state == State.CLOSED) {
+            if (closedUntilNanos - deadlineNanos > 0) {
+                throw new RateLimitExceededException(Duration.ofNanos(closedUntilNanos - now));
+            }
+            return closedUntilNanos - now;
+        }
+        // A probe is in flight and will settle the window state shortly
+        if (deadlineNanos - now <= 0) {
+            throw new RateLimitExceededException(Duration.ofNanos(probeInterval()));
+        }
+        return Math.min(deadlineNanos - now, PROBE_POLL_NANOS);
+    }
+
+    /**
+     * The request was admitted by the upstream (any response other than 429).
+     */
+    public void onAdmitted() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (state == State.PROBING) {
+                // The window reopened somewhere between the last admitted request and now
+                cooldownNanos = now - lastAdmittedNanos;
+                state = State.OPEN;
+                log.info("Rate limit window reopened, learned cooldown {} ms", TimeUnit.NANOSECONDS.toMillis(cooldownNanos));
+                stateChanged.signalAll();
+            }
+            admittedInWindow++;
+            lastAdmittedNanos = now;
+            if (state == State.CLOSED && !retryAfterAdvertised) {
+                // A request sent before the window closed was still admitted; the cooldown restarts from it
+                closedUntilNanos = Math.max(closedUntilNanos, now + cooldownNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The request was rejected with 429, without saying when to retry.
+     */
+    public void onRateLimited() {
+        onRateLimited((Duration) null);
+    }
+
+    /**
+     * The request was rejected with 429 and these response headers, which may say when to retry.
+     */
+    public void onRateLimited(HttpHeaders responseHeaders) {
+        onRateLimited(retryAfter(responseHeaders, Instant.now()));
+    }
+
+    /**
+     * The request was rejected with 429. The window stays closed for {@code retryAfter} when the
+     * upstream said so, and for the learned cooldown when it is {@code null}.
+     */
+    public void onRateLimited(Duration retryAfter) {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (retryAfter != null) {
+                // Told exactly when to come back, so there is nothing to learn or predict
+                Duration wait = clamp(retryAfter);
+                long reopenNanos = now + wait.toNanos();
+                if (state != State.CLOSED || reopenNanos - closedUntilNanos > 0) {
+                    closedUntilNanos = reopenNanos;
+                }
+                state = State.CLOSED;
+                retryAfterAdvertised = true;
+                log.debug("Rate limited, upstream asked to retry after {} ms", wait.toMillis());
+            } else {
+                // Not told when to come back, so requests still admitted restart the cooldown again
+                retryAfterAdvertised = false;
+                if (state == State.PROBING) {
+                    // Probed too early: the cooldown is longer than we thought
+                    cooldownNanos = Math.max(cooldownNanos, now - lastAdmittedNanos);
+                    state = State.CLOSED;
+                    closedUntilNanos = now + probeInterval();
+                } else if (state == State.OPEN) {
+                    learnedBudget = Math.max(1, admittedInWindow);
+                    budgetObserved = true;
+                    log.info("Rate limited after {} admitted requests, learned budget {}", admittedInWindow, learnedBudget);
+                    close(now);
+                }
+            }
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The request failed without an answer from the upstream rate limiter (e.g. I/O error).
+     */
+    public void onFailed() {
+        lock.lock();
+        try {
+            if (state == State.PROBING) {
+                state = State.CLOSED;
+                closedUntilNanos = nanoClock.getAsLong();
+            } else if (state == State.OPEN && reservedInWindow > 0) {
+                reservedInWindow--;
+            }
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Learned request budget per window, or {@code -1} while no 429 has been observed yet.
+     */
+    public int getLearnedBudget() {
+        lock.lock();
+        try {
+            return budgetObserved ? learnedBudget : -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current estimate of the upstream cooldown window.
+     */
+    public Duration getLearnedCooldown() {
+        lock.lock();
+        try {
+            return Duration.ofNanos(cooldownNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The wait a 429 asked for: {@code Retry-After-Ms} if present, otherwise {@code Retry-After}
+     * as seconds or as an HTTP date; {@code null} if neither is present or readable
+     */
+    static Duration retryAfter(HttpHeaders headers, Instant now) {
+        if (headers == null) {
+            return null;
+        }
+        try {
+            String millis = headers.getFirst(RETRY_AFTER_MS);
+            if (millis != null) {
+                return clamp(Duration.ofMillis(Long.parseLong(millis.trim())));
+            }
+            String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            value = value.trim();
+            if (Character.isDigit(value.charAt(0))) {
+                return clamp(Duration.ofSeconds(Long.parseLong(value)));
+            }
+            ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return clamp(Duration.between(now, date.toInstant()));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            log.debug("Ignoring unreadable Retry-After: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * {@code retryAfter} limited to between zero and {@link #MAX_RETRY_AFTER}
+     */
+    private static Duration clamp(Duration retryAfter) {
+        if (retryAfter.isNegative()) {
+            return Duration.ZERO;
+        }
+        return retryAfter.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : retryAfter;
+    }
+
+    private void close(long now) {
+        state = State.CLOSED;
+        closedUntilNanos = Math.max(lastAdmittedNanos + cooldownNanos, now + MIN_PROBE_INTERVAL_NANOS);
+    }
+
+    private long probeInterval() {
+        return Math.max(MIN_PROBE_INTERVAL_NANOS, cooldownNanos / 8);
+    }
+}
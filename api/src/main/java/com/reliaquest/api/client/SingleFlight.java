@@ -0,0 +1,115 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one.
+ * <p>
+ * The first caller for a key runs the call; callers arriving while it is in flight wait on the
+ * same {@link CompletableFuture} and receive its result or exception. Once the call completes the
+ * key is released, so later callers trigger a fresh call. Nothing is cached.
+ * <p>
+ * A call that was sent before a write may answer with data the write has since changed. Writers
+ * call {@link #detachAll()} once the write is done, so that callers arriving after it never join
+ * such a call: anything they join was started after the write.
+ *
+ * @param <K> key identifying identical calls
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Run {@code call} unless an identical call is already in flight, in which case join it
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Non-blocking form of {@link #execute}: start {@code call} unless an identical call is
+     * already in flight, and return a future of its result either way. The key is released as
+     * soon as the call completes.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return existing.copy();
+        }
+
+        CompletableFuture<V> sent;
+        try {
+            sent = call.get();
+        } catch (RuntimeException | Error e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((result, failure) -> {
+            inFlight.remove(key, flight);
+            if (failure != null) {
+                flight.completeExceptionally(failure);
+            } else {
+                flight.complete(result);
+            }
+        });
+        // Callers get copies, so one of them cancelling does not fail the call for the others
+        return flight.copy();
+    }
+
+    /**
+     * Stop handing calls already in flight to new callers. Those calls still complete for the
+     * callers that joined them, but the next caller for each key starts a fresh call.
+     */
+    public void detachAll() {
+        inFlight.clear();
+    }
+
+    /**
+     * Number of distinct calls currently in flight
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Number of callers blocked on the call in flight for {@code key}, for tests
+     */
+    int waitingCount(K key) {
+        CompletableFuture<V> flight = inFlight.get(key);
+        return flight == null ? 0 : flight.getNumberOfDependents();
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
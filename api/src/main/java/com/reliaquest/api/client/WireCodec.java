@@ -0,0 +1,67 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.WireFormat;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Request and response bodies in the configured {@link WireFormat}, for the clients that talk to
+ * the JDK HttpClient directly. Responses are read according to their Content-Type, so a JSON
+ * answer to a request that preferred a binary format is still understood.
+ */
+final class WireCodec {
+
+    private final WireFormat format;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper formatMapper;
+
+    WireCodec(WireFormat format, ObjectMapper jsonMapper) {
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+        this.formatMapper = format.createMapper(jsonMapper);
+    }
+
+    /**
+     * Accept header value for requests expecting a body
+     */
+    String accept() {
+        return format.getAccept();
+    }
+
+    /**
+     * Content-Type header value for request bodies
+     */
+    String contentType() {
+        return format.getMediaType().toString();
+    }
+
+    byte[] write(Object body) throws JsonProcessingException {
+        return formatMapper.writeValueAsBytes(body);
+    }
+
+    <T> T read(byte[] body, String contentType, Class<T> type) throws IOException {
+        return mapperFor(contentType).readValue(body, type);
+    }
+
+    <T> T read(InputStream body, String contentType, Class<T> type) throws IOException {
+        return mapperFor(contentType).readValue(body, type);
+    }
+
+    private ObjectMapper mapperFor(String contentType) {
+        if (format == WireFormat.JSON || contentType == null) {
+            return jsonMapper;
+        }
+        try {
+            return format.getMediaType().isCompatibleWith(MediaType.parseMediaType(contentType))
+                    ? formatMapper
+                    : jsonMapper;
+        } catch (InvalidMediaTypeException e) {
+            return jsonMapper;
+        }
+    }
+}
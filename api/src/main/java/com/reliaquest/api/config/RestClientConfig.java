@@ -1,18 +1,29 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
 
 /**
  * Configuration for REST client to communicate with the mock employee server.
- * Includes retry logic and request/response logging.
+ * Includes the HTTP transport, request/response logging, gzip negotiation and the wire format.
  */
 @Slf4j
 @Configuration
@@ -24,16 +35,99 @@ public class RestClientConfig {
     @Value("${employee.service.timeout:5000}")
     private int timeout;
 
+    @Value("${employee.service.connect-timeout:2000}")
+    private int connectTimeout;
+
+    /**
+     * {@code jdk} (pooled, keep-alive, HTTP/2 capable) or {@code simple} (HttpURLConnection)
+     */
+    @Value("${employee.service.transport:jdk}")
+    private String transport;
+
+    @Value("${employee.service.http-version:HTTP_2}")
+    private HttpClient.Version httpVersion;
+
+    @Value("${employee.service.compression:true}")
+    private boolean compression;
+
+    @Value("${employee.service.wire-format:json}")
+    private WireFormat wireFormat = WireFormat.JSON;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Shared JDK client. Keeping a single instance is what gives connection reuse: the client
+     * pools keep-alive HTTP/1.1 connections and multiplexes requests over HTTP/2 connections.
+     */
+    @Bean
+    public HttpClient employeeHttpClient() {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(httpVersion)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .followRedirects(HttpClient.Redirect.NEVER);
+        if (virtualThreads) {
+            // Response handling and async completions then run on virtual threads instead of a cached pool
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory employeeRequestFactory(HttpClient employeeHttpClient) {
+        if ("simple".equalsIgnoreCase(transport)) {
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+            requestFactory.setConnectTimeout(connectTimeout);
+            requestFactory.setReadTimeout(timeout);
+            return requestFactory;
+        }
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(employeeHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(timeout));
+        log.info("Using JDK HttpClient transport ({}, connect timeout {} ms, read timeout {} ms)",
+                httpVersion, connectTimeout, timeout);
+        return requestFactory;
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+    public RestTemplate restTemplate(ClientHttpRequestFactory employeeRequestFactory, ObjectMapper objectMapper) {
+        RestTemplate restTemplate = new RestTemplate(employeeRequestFactory);
+        useWireFormat(restTemplate.getMessageConverters(), objectMapper);
         
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+        if (compression) {
+            interceptors.add(new GzipDecompressingInterceptor());
+        }
         // Add request/response logging interceptor
-        restTemplate.setInterceptors(List.of(loggingInterceptor()));
+        interceptors.add(loggingInterceptor());
+        restTemplate.setInterceptors(interceptors);
         
         return restTemplate;
     }
 
+    /**
+     * Read and write JSON with the application's ObjectMapper rather than the default converter's
+     * own, and put the wire format's converter, configured the same way, ahead of it, so it is
+     * listed first in Accept and picked for responses in that format; the default converters for
+     * the other binary formats are dropped so they are never asked for
+     */
+    private void useWireFormat(List<HttpMessageConverter<?>> converters, ObjectMapper objectMapper) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        int json = 0;
+        while (json < converters.size() && !(converters.get(json) instanceof MappingJackson2HttpMessageConverter)) {
+            json++;
+        }
+        if (json < converters.size()) {
+            converters.set(json, new MappingJackson2HttpMessageConverter(objectMapper));
+        }
+        if (wireFormat == WireFormat.JSON) {
+            return;
+        }
+        converters.add(json, wireFormat.createMessageConverter(objectMapper));
+        log.info("Using {} wire format with the mock API", wireFormat);
+    }
+
     @Bean
     public ClientHttpRequestInterceptor loggingInterceptor() {
         return (request, body, execution) -> {
@@ -55,4 +149,25 @@ public class RestClientConfig {
     public String getBaseUrl() {
         return baseUrl;
     }
+
+    /**
+     * Read timeout for a single upstream request
+     */
+    public Duration getTimeout() {
+        return Duration.ofMillis(timeout);
+    }
+
+    /**
+     * Whether gzip responses are negotiated with the employee service
+     */
+    public boolean isCompression() {
+        return compression;
+    }
+
+    /**
+     * Encoding preferred for bodies exchanged with the employee service
+     */
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
 }
@@ -0,0 +1,78 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Encoding of the bodies exchanged with the mock employee API ({@code employee.service.wire-format}).
+ * <p>
+ * Smile and CBOR are binary encodings of the same data model as JSON, so the model annotations
+ * apply unchanged. Smile refers back to property names it has already written, and here also to
+ * short repeated values such as titles, so a list of employees does not repeat
+ * {@code employee_name} and friends once per employee. A binary format is asked for ahead of JSON
+ * rather than instead of it, so a mock API that only speaks JSON still answers in a form that is
+ * understood.
+ */
+public enum WireFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Content type of request bodies sent in this format
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Accept header value: this format, then JSON at a lower quality
+     */
+    public String getAccept() {
+        if (this == JSON) {
+            return MediaType.APPLICATION_JSON_VALUE;
+        }
+        return mediaType + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9";
+    }
+
+    /**
+     * A mapper for this format with the configuration of {@code jsonMapper}, the application's own
+     * mapper, so every format reads and writes the model the same way
+     */
+    public ObjectMapper createMapper(ObjectMapper jsonMapper) {
+        return switch (this) {
+            case JSON -> jsonMapper;
+            case SMILE -> jsonMapper.copyWith(SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build());
+            case CBOR -> jsonMapper.copyWith(new CBORFactory());
+        };
+    }
+
+    /**
+     * A RestTemplate message converter reading and writing this format, configured like
+     * {@code jsonMapper}
+     */
+    public AbstractJackson2HttpMessageConverter createMessageConverter(ObjectMapper jsonMapper) {
+        ObjectMapper mapper = createMapper(jsonMapper);
+        return switch (this) {
+            case JSON -> new MappingJackson2HttpMessageConverter(mapper);
+            case SMILE -> new MappingJackson2SmileHttpMessageConverter(mapper);
+            case CBOR -> new MappingJackson2CborHttpMessageConverter(mapper);
+        };
+    }
+}
@@ -133,6 +133,7 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
     public ResponseEntity<String> deleteEmployeeById(String id) {
         log.info("DELETE /api/v1/employee/{} - Deleting employee by id", id);
         
+        // IEmployeeController fixes the return type, so the request thread waits for the async delete here
         String deletedEmployeeName = employeeService.deleteEmployeeById(id);
         
         log.info("Successfully deleted employee: {}", deletedEmployeeName);
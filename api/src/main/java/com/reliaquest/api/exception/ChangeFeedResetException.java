@@ -0,0 +1,13 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Thrown when the mock employee API can no longer serve the changes after a replica's version,
+ * because they are older than its retained history or belong to an earlier run of the server.
+ * The replica has to start again from a snapshot.
+ */
+public class ChangeFeedResetException extends EmployeeServiceException {
+
+    public ChangeFeedResetException(String message) {
+        super(message);
+    }
+}
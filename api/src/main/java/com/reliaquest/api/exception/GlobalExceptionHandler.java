@@ -1,6 +1,7 @@
 package com.reliaquest.api.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -29,6 +30,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleRateLimitExceeded(RateLimitExceededException ex) {
+        log.warn("Upstream rate limit: {}", ex.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Service temporarily unavailable due to rate limiting. Please try again later.");
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(error);
+    }
+
     @ExceptionHandler(EmployeeServiceException.class)
     public ResponseEntity<Map<String, String>> handleEmployeeServiceException(EmployeeServiceException ex) {
         log.error("Employee service error: {}", ex.getMessage(), ex);
@@ -0,0 +1,24 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request to the mock employee API cannot be sent before the caller's deadline
+ * because the upstream rate limit window is closed.
+ */
+public class RateLimitExceededException extends EmployeeServiceException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super("Upstream rate limit window expected to reopen in " + retryAfter.toMillis() + " ms");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Estimated time until the upstream accepts requests again
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
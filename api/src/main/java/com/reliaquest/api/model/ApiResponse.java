@@ -42,6 +42,24 @@ public class ApiResponse<T> {
     public static class EmployeeResponse extends ApiResponse<Employee> {
     }
 
+    /**
+     * Specialized response for numeric aggregates (like highest salary)
+     */
+    public static class IntegerResponse extends ApiResponse<Integer> {
+    }
+
+    /**
+     * Specialized response for batch creates and deletes, one result per item
+     */
+    public static class EmployeeBatchResponse extends ApiResponse<List<EmployeeBatchResult>> {
+    }
+
+    /**
+     * Specialized response for change feed snapshots
+     */
+    public static class ChangeFeedSnapshotResponse extends ApiResponse<ChangeFeedSnapshot> {
+    }
+
     /**
      * Specialized response for boolean operations (like delete)
      */
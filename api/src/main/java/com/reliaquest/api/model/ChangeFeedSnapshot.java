@@ -0,0 +1,25 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Every employee as of {@code version} of the mock server's change feed.
+ * {@code epoch} identifies the server run the version belongs to.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedSnapshot {
+
+    private String epoch;
+
+    private long version;
+
+    private List<Employee> employees;
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch create or delete.
+ * {@code index} is the item's position in the caller's list; {@code employee} is the created or
+ * deleted employee and {@code error} explains an invalid item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchResult {
+
+    private int index;
+
+    private Outcome outcome;
+
+    private Employee employee;
+
+    private String error;
+
+    public enum Outcome {
+        @JsonProperty("created")
+        CREATED,
+        @JsonProperty("deleted")
+        DELETED,
+        @JsonProperty("not_found")
+        NOT_FOUND,
+        @JsonProperty("invalid")
+        INVALID
+    }
+}
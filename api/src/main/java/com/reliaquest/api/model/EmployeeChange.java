@@ -0,0 +1,34 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One create or delete from the mock server's change feed.
+ * {@code sequence} numbers the changes in the order the server applied them; {@code employee} is
+ * only present on a create.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChange {
+
+    private long sequence;
+
+    private Type type;
+
+    private String id;
+
+    private Employee employee;
+
+    public enum Type {
+        @JsonProperty("created")
+        CREATED,
+        @JsonProperty("deleted")
+        DELETED
+    }
+}
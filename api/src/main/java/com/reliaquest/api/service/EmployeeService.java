@@ -1,34 +1,59 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.EmployeeReplica;
+import com.reliaquest.api.cache.SalaryAggregate;
+import com.reliaquest.api.client.AsyncEmployeeApiClient;
 import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.EmployeeServiceException;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * Service layer for employee operations.
  * Contains business logic for processing employee data.
+ * <p>
+ * Employee CRUD goes through {@link AsyncEmployeeApiClient} so multi-step operations are composed
+ * as futures; the synchronous methods only wait at the end. The controller calls those, because
+ * {@code IEmployeeController} fixes its return types as {@code ResponseEntity}, so the request
+ * thread still waits for the whole call; on virtual threads that wait does not hold a platform
+ * thread. Name search uses the cache's name
+ * index while the employee list is cached, otherwise the query endpoint (with a full-list
+ * fallback) of {@link EmployeeApiClient}. Highest salary and top earners are read
+ * from the cache's salary aggregate, which a full list load resyncs when it goes stale.
+ * <p>
+ * While the {@link EmployeeReplica} is fresh, the full list, lookups of replicated employees, name
+ * search and the salary analytics are answered from it instead, without any upstream request.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmployeeService {
 
+    private static final int TOP_EARNERS_LIMIT = 10;
+
     private final EmployeeApiClient employeeApiClient;
+    private final AsyncEmployeeApiClient asyncEmployeeApiClient;
+    private final EmployeeCache employeeCache;
+    private final EmployeeReplica employeeReplica;
 
     /**
      * Get all employees
      */
     public List<Employee> getAllEmployees() {
         log.info("Fetching all employees");
-        return employeeApiClient.getAllEmployees();
+        return employeeReplica.getAll().orElseGet(() -> employeeCache.getAll(this::fetchAllEmployees));
     }
 
     /**
@@ -36,13 +61,9 @@ public class EmployeeService {
      */
     public List<Employee> getEmployeesByNameSearch(String searchString) {
         log.info("Searching employees by name: {}", searchString);
-        
-        List<Employee> allEmployees = employeeApiClient.getAllEmployees();
-        
-        return allEmployees.stream()
-                .filter(employee -> employee.getEmployeeName() != null && 
-                        employee.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+        return employeeReplica.searchByName(searchString)
+                .or(() -> employeeCache.searchByName(searchString))
+                .orElseGet(() -> employeeApiClient.searchEmployeesByName(searchString));
     }
 
     /**
@@ -50,13 +71,10 @@ public class EmployeeService {
      */
     public Employee getEmployeeById(String id) {
         log.info("Fetching employee by id: {}", id);
-        
-        try {
-            return employeeApiClient.getEmployeeById(id);
-        } catch (Exception e) {
-            log.error("Employee not found with id: {}", id);
+        if (!isEmployeeId(id)) {
             throw new EmployeeNotFoundException(id);
         }
+        return employeeReplica.findById(id).orElseGet(() -> await(findEmployeeById(id)));
     }
 
     /**
@@ -64,30 +82,18 @@ public class EmployeeService {
      */
     public Integer getHighestSalaryOfEmployees() {
         log.info("Finding highest salary among all employees");
-        
-        List<Employee> allEmployees = employeeApiClient.getAllEmployees();
-        
-        return allEmployees.stream()
-                .filter(employee -> employee.getEmployeeSalary() != null)
-                .mapToInt(Employee::getEmployeeSalary)
-                .max()
-                .orElse(0);
+        return salaries().highestSalary();
     }
 
     /**
      * Get names of top 10 highest earning employees
      */
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        log.info("Finding top 10 highest earning employees");
-        
-        List<Employee> allEmployees = employeeApiClient.getAllEmployees();
-        
-        return allEmployees.stream()
-                .filter(employee -> employee.getEmployeeSalary() != null)
-                .sorted(Comparator.comparing(Employee::getEmployeeSalary).reversed())
-                .limit(10)
+        log.info("Finding top {} highest earning employees", TOP_EARNERS_LIMIT);
+
+        return salaries().topEarners(TOP_EARNERS_LIMIT).stream()
                 .map(Employee::getEmployeeName)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     /**
@@ -95,30 +101,108 @@ public class EmployeeService {
      */
     public Employee createEmployee(EmployeeInput employeeInput) {
         log.info("Creating new employee: {}", employeeInput.getName());
-        return employeeApiClient.createEmployee(employeeInput);
+        
+        Employee created = await(asyncEmployeeApiClient.createEmployee(employeeInput));
+        employeeCache.onCreated(created);
+        employeeReplica.onCreated(created);
+        return created;
     }
 
     /**
-     * Delete employee by ID
-     * Note: This requires finding the employee first to get the name,
-     * since the mock API deletes by name, not ID
+     * Delete employee by ID, waiting for {@link #deleteEmployeeByIdAsync} at the synchronous
+     * boundary the controller contract requires
      */
     public String deleteEmployeeById(String id) {
+        return await(deleteEmployeeByIdAsync(id));
+    }
+
+    /**
+     * Delete employee by ID without blocking.
+     * The mock API's batch delete removes by ID in a single request, so the employee's name no
+     * longer has to be looked up first
+     */
+    public CompletableFuture<String> deleteEmployeeByIdAsync(String id) {
         log.info("Deleting employee by id: {}", id);
-        
-        // First, get the employee to find their name
-        Employee employee = getEmployeeById(id);
-        String employeeName = employee.getEmployeeName();
-        
-        // Delete using the name
-        boolean deleted = employeeApiClient.deleteEmployeeByName(employeeName);
-        
-        if (deleted) {
-            log.info("Successfully deleted employee: {}", employeeName);
-            return employeeName;
-        } else {
-            throw new EmployeeNotFoundException("Failed to delete employee with id: " + id);
+        if (!isEmployeeId(id)) {
+            return CompletableFuture.failedFuture(new EmployeeNotFoundException(id));
         }
+
+        return asyncEmployeeApiClient.deleteEmployeeById(id)
+                .exceptionally(failure -> {
+                    throw notFoundOrRethrow(failure, () -> {
+                        log.error("Failed to delete employee with id: {}", id, failure);
+                        return new EmployeeNotFoundException("Failed to delete employee with id: " + id, failure);
+                    });
+                })
+                .thenApply(employeeName -> {
+                    if (employeeName == null) {
+                        throw new EmployeeNotFoundException(id);
+                    }
+                    employeeCache.onDeleted(id);
+                    employeeReplica.onDeleted(id);
+                    log.info("Successfully deleted employee: {}", employeeName);
+                    return employeeName;
+                });
+    }
+
+    private SalaryAggregate salaries() {
+        return employeeReplica.salaries().orElseGet(() -> employeeCache.salaries(this::fetchAllEmployees));
     }
-}
 
+    private List<Employee> fetchAllEmployees() {
+        return await(asyncEmployeeApiClient.getAllEmployees());
+    }
+
+    private CompletableFuture<Employee> findEmployeeById(String id) {
+        return employeeCache.getByIdAsync(id, asyncEmployeeApiClient::getEmployeeById)
+                .exceptionally(failure -> {
+                    throw notFoundOrRethrow(failure, () -> {
+                        log.error("Employee not found with id: {}", id);
+                        return new EmployeeNotFoundException(id);
+                    });
+                });
+    }
+
+    /**
+     * The mock API identifies employees by UUID, so no other ID can name one. Such an ID is not sent
+     * upstream, where it would only fail.
+     */
+    private static boolean isEmployeeId(String id) {
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Only a 404 from the mock API means the employee does not exist. Server errors, timeouts,
+     * exhausted retries and rate limiting are passed on as they are.
+     */
+    private static RuntimeException notFoundOrRethrow(
+            Throwable failure, Supplier<EmployeeNotFoundException> notFound) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof HttpClientErrorException.NotFound) {
+            return notFound.get();
+        }
+        if (cause instanceof RuntimeException e) {
+            return e;
+        }
+        return new EmployeeServiceException("Employee lookup failed", cause);
+    }
+
+    /**
+     * Wait for a future at the synchronous boundary, rethrowing its failure unwrapped
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
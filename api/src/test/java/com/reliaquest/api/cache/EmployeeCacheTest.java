@@ -0,0 +1,136 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EmployeeCache, loading through a single-flight the way the API client does
+ */
+class EmployeeCacheTest {
+
+    private final EmployeeCache cache = new EmployeeCache(Duration.ofMinutes(1), 100);
+    private final SingleFlight<String, List<Employee>> listReads = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final Employee existing = employee("1", "John Doe", 50);
+    private final Employee created = employee("2", "Jane Smith", 90);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getAll_WhenCreateLandsWhileLoadInFlight_ShouldNotCachePreCreateList() throws Exception {
+        // Given
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<Employee>> slowLoad = executor.submit(() -> cache.getAll(() -> listReads.execute("all", () -> {
+            sent.countDown();
+            await(release);
+            return List.of(existing);
+        })));
+        assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        createThroughClient(created);
+        List<Employee> afterCreate = cache.getAll(() -> listReads.execute("all", () -> List.of(existing, created)));
+        release.countDown();
+
+        // Then
+        assertThat(slowLoad.get(5, TimeUnit.SECONDS)).containsExactly(existing);
+        assertThat(afterCreate).containsExactly(existing, created);
+        assertThat(cache.getAllIfPresent()).hasValueSatisfying(list ->
+                assertThat(list).containsExactly(existing, created));
+    }
+
+    @Test
+    void salaries_WhenCreateLandsWhileReloadInFlight_ShouldReflectCreate() throws Exception {
+        // Given
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<SalaryAggregate> slowReload = executor.submit(() -> cache.salaries(() -> listReads.execute("all", () -> {
+            sent.countDown();
+            await(release);
+            return List.of(existing);
+        })));
+        assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        createThroughClient(created);
+        SalaryAggregate afterCreate = cache.salaries(() -> listReads.execute("all", () -> List.of(existing, created)));
+        release.countDown();
+        slowReload.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(afterCreate.highestSalary()).isEqualTo(90);
+        assertThat(cache.salaries(() -> List.of()).highestSalary()).isEqualTo(90);
+    }
+
+    @Test
+    void getAll_AfterWrites_ShouldReflectThemInListOrderWithoutChangingListsHandedOut() {
+        // Given
+        Employee third = employee("3", "Bob Johnson", 70);
+        List<Employee> loaded = cache.getAll(() -> List.of(existing, created));
+
+        // When
+        cache.onCreated(third);
+        cache.onDeleted("1");
+        List<Employee> afterWrites = cache.getAll(() -> {
+            throw new AssertionError("The cached list should not be reloaded");
+        });
+
+        // Then
+        assertThat(afterWrites).containsExactly(created, third);
+        assertThat(cache.getAll(List::of)).isSameAs(afterWrites);
+        assertThat(loaded).containsExactly(existing, created);
+        assertThat(cache.searchByName("bob")).hasValueSatisfying(matches ->
+                assertThat(matches).containsExactly(third));
+    }
+
+    @Test
+    void onCreated_WhenIdAlreadyCached_ShouldMoveEmployeeToTheEnd() {
+        // Given
+        cache.getAll(() -> List.of(existing, created));
+        Employee recreated = employee("1", "John Doe", 60);
+
+        // When
+        cache.onCreated(recreated);
+
+        // Then
+        assertThat(cache.getAllIfPresent()).hasValueSatisfying(list ->
+                assertThat(list).containsExactly(created, recreated));
+    }
+
+    /**
+     * What the client and the service do once the upstream confirmed a create
+     */
+    private void createThroughClient(Employee employee) {
+        listReads.detachAll();
+        cache.onCreated(employee);
+    }
+
+    private static Employee employee(String id, String name, int salary) {
+        return Employee.builder().id(id).employeeName(name).employeeSalary(salary).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
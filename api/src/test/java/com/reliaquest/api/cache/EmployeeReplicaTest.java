@@ -0,0 +1,269 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.EmployeeChangeFeedClient;
+import com.reliaquest.api.model.ChangeFeedSnapshot;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EmployeeReplica, mostly driven without the sync thread
+ */
+class EmployeeReplicaTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final EmployeeReplica replica =
+            new EmployeeReplica(null, true, Duration.ofSeconds(15), Duration.ofMillis(1), clock::get);
+
+    @Test
+    void queries_BeforeBootstrap_ShouldBeEmpty() {
+        assertThat(replica.isFresh()).isFalse();
+        assertThat(replica.getAll()).isEmpty();
+        assertThat(replica.searchByName("john")).isEmpty();
+        assertThat(replica.salaries()).isEmpty();
+    }
+
+    @Test
+    void bootstrap_ShouldAnswerFromSnapshot() {
+        // Given
+        replica.bootstrap(snapshot(7, employee("1", "John Doe", 75000), employee("2", "Jane Smith", 85000)));
+
+        // When & Then
+        assertThat(replica.getAll()).hasValueSatisfying(employees ->
+                assertThat(employees).extracting(Employee::getId).containsExactly("1", "2"));
+        assertThat(replica.searchByName("SMITH")).hasValueSatisfying(employees ->
+                assertThat(employees).extracting(Employee::getId).containsExactly("2"));
+        assertThat(replica.salaries()).hasValueSatisfying(salaries ->
+                assertThat(salaries.highestSalary()).isEqualTo(85000));
+        assertThat(replica.findById("1")).isPresent();
+        assertThat(replica.version()).isEqualTo(7);
+    }
+
+    @Test
+    void apply_ShouldFollowCreatesAndDeletesInOrder() {
+        // Given
+        replica.bootstrap(snapshot(7, employee("1", "John Doe", 75000), employee("2", "Jane Smith", 85000)));
+
+        // When
+        replica.apply(created(8, employee("3", "Bob Johnson", 95000)));
+        replica.apply(deleted(9, "2"));
+
+        // Then
+        assertThat(replica.getAll()).hasValueSatisfying(employees ->
+                assertThat(employees).extracting(Employee::getId).containsExactly("1", "3"));
+        assertThat(replica.salaries()).hasValueSatisfying(salaries ->
+                assertThat(salaries.topEarners(10)).extracting(Employee::getId).containsExactly("3", "1"));
+        assertThat(replica.version()).isEqualTo(9);
+    }
+
+    @Test
+    void apply_WhenChangeAlreadyApplied_ShouldSkipIt() {
+        // Given
+        replica.bootstrap(snapshot(7, employee("1", "John Doe", 75000)));
+        replica.apply(deleted(8, "1"));
+
+        // When
+        replica.apply(created(6, employee("1", "John Doe", 75000)));
+
+        // Then
+        assertThat(replica.getAll()).hasValueSatisfying(employees -> assertThat(employees).isEmpty());
+        assertThat(replica.version()).isEqualTo(8);
+    }
+
+    @Test
+    void writeThrough_ShouldBeIdempotentWithTheFeed() {
+        // Given
+        replica.bootstrap(snapshot(7, employee("1", "John Doe", 75000)));
+        Employee hired = employee("2", "Jane Smith", 85000);
+
+        // When
+        replica.onCreated(hired);
+        replica.apply(created(8, hired));
+        replica.onDeleted("1");
+        replica.apply(deleted(9, "1"));
+
+        // Then
+        assertThat(replica.getAll()).hasValueSatisfying(employees ->
+                assertThat(employees).extracting(Employee::getId).containsExactly("2"));
+        assertThat(replica.searchByName("jane")).hasValueSatisfying(employees -> assertThat(employees).hasSize(1));
+    }
+
+    @Test
+    void onDeleted_WhenFeedDeliversEarlierCreate_ShouldNotResurrectEmployee() {
+        // Given
+        replica.bootstrap(snapshot(7, employee("1", "John Doe", 75000)));
+        Employee hired = employee("2", "Jane Smith", 85000);
+        replica.onCreated(hired);
+        replica.onDeleted("2");
+
+        // When
+        replica.apply(created(8, hired));
+
+        // Then
+        assertThat(replica.findById("2")).isEmpty();
+        assertThat(replica.searchByName("jane")).hasValueSatisfying(employees -> assertThat(employees).isEmpty());
+        assertThat(replica.salaries()).hasValueSatisfying(salaries ->
+                assertThat(salaries.highestSalary()).isEqualTo(75000));
+
+        // When the feed delivers the delete
+        replica.apply(deleted(9, "2"));
+
+        // Then
+        assertThat(replica.getAll()).hasValueSatisfying(employees ->
+                assertThat(employees).extracting(Employee::getId).containsExactly("1"));
+        assertThat(replica.version()).isEqualTo(9);
+    }
+
+    @Test
+    void bootstrap_WhenSnapshotPredatesLocalDelete_ShouldLeaveEmployeeOut() {
+        // Given
+        replica.bootstrap(snapshot(7, employee("1", "John Doe", 75000), employee("2", "Jane Smith", 85000)));
+        replica.onDeleted("2");
+
+        // When
+        replica.bootstrap(snapshot(7, employee("1", "John Doe", 75000), employee("2", "Jane Smith", 85000)));
+
+        // Then
+        assertThat(replica.getAll()).hasValueSatisfying(employees ->
+                assertThat(employees).extracting(Employee::getId).containsExactly("1"));
+        assertThat(replica.salaries()).hasValueSatisfying(salaries ->
+                assertThat(salaries.highestSalary()).isEqualTo(75000));
+    }
+
+    @Test
+    void queries_WhenFeedSilentPastMaxLag_ShouldBeEmptyUntilHeardFromAgain() {
+        // Given
+        replica.bootstrap(snapshot(7, employee("1", "John Doe", 75000)));
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(15));
+
+        // Then
+        assertThat(replica.getAll()).isEmpty();
+        assertThat(replica.salaries()).isEmpty();
+
+        // When a heartbeat arrives
+        replica.apply(null);
+
+        // Then
+        assertThat(replica.isFresh()).isTrue();
+        assertThat(replica.getAll()).isPresent();
+    }
+
+    @Test
+    void bootstrap_AfterReset_ShouldReplaceContents() {
+        // Given
+        replica.bootstrap(snapshot(7, employee("1", "John Doe", 75000)));
+        replica.apply(created(8, employee("2", "Jane Smith", 85000)));
+
+        // When
+        replica.bootstrap(snapshot(3, employee("5", "Ada Lovelace", 120000)));
+
+        // Then
+        assertThat(replica.getAll()).hasValueSatisfying(employees ->
+                assertThat(employees).extracting(Employee::getId).containsExactly("5"));
+        assertThat(replica.searchByName("john")).hasValueSatisfying(employees -> assertThat(employees).isEmpty());
+        assertThat(replica.version()).isEqualTo(3);
+    }
+
+    @Test
+    void disabled_ShouldNeverAnswer() {
+        // Given
+        EmployeeReplica disabled = EmployeeReplica.disabled();
+
+        // When
+        disabled.start();
+
+        // Then
+        assertThat(disabled.isRunning()).isFalse();
+        assertThat(disabled.getAll()).isEmpty();
+    }
+
+    @Test
+    void start_WhenSnapshotKeepsFailingWithServerError_ShouldDisableAfterBoundedAttempts() throws Exception {
+        // Given
+        EmployeeChangeFeedClient changeFeedClient = mock(EmployeeChangeFeedClient.class);
+        when(changeFeedClient.fetchSnapshot()).thenThrow(serverError("Database unavailable"));
+        EmployeeReplica failing = new EmployeeReplica(changeFeedClient, true, Duration.ofSeconds(15),
+                Duration.ofMillis(1), clock::get);
+
+        // When
+        failing.start();
+
+        // Then
+        awaitStopped(failing);
+        verify(changeFeedClient, times(EmployeeReplica.MAX_SNAPSHOT_FAILURES)).fetchSnapshot();
+        verify(changeFeedClient, never()).openStream(anyString(), anyLong());
+        assertThat(failing.getAll()).isEmpty();
+    }
+
+    @Test
+    void start_WhenOlderServerAnswersSnapshotWithRoutingError_ShouldDisableWithoutRetrying() throws Exception {
+        // Given: a server without the change feed answers the unknown path through its catch-all advice
+        EmployeeChangeFeedClient changeFeedClient = mock(EmployeeChangeFeedClient.class);
+        when(changeFeedClient.fetchSnapshot())
+                .thenThrow(serverError("No static resource api/v1/employee/changes/snapshot."));
+        EmployeeReplica failing = new EmployeeReplica(changeFeedClient, true, Duration.ofSeconds(15),
+                Duration.ofMillis(1), clock::get);
+
+        // When
+        failing.start();
+
+        // Then
+        awaitStopped(failing);
+        verify(changeFeedClient, times(1)).fetchSnapshot();
+    }
+
+    private static void awaitStopped(EmployeeReplica replica) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (replica.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(replica.isRunning()).isFalse();
+    }
+
+    private static HttpServerErrorException serverError(String error) {
+        String body = "{\"status\":\"Failed to process request.\",\"error\":\"" + error + "\"}";
+        return HttpServerErrorException.create(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                new HttpHeaders(), body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    private static ChangeFeedSnapshot snapshot(long version, Employee... employees) {
+        return ChangeFeedSnapshot.builder().epoch("epoch-1").version(version).employees(List.of(employees)).build();
+    }
+
+    private static EmployeeChange created(long sequence, Employee employee) {
+        return EmployeeChange.builder()
+                .sequence(sequence)
+                .type(EmployeeChange.Type.CREATED)
+                .id(employee.getId())
+                .employee(employee)
+                .build();
+    }
+
+    private static EmployeeChange deleted(long sequence, String id) {
+        return EmployeeChange.builder().sequence(sequence).type(EmployeeChange.Type.DELETED).id(id).build();
+    }
+
+    private static Employee employee(String id, String name, int salary) {
+        return Employee.builder().id(id).employeeName(name).employeeSalary(salary).build();
+    }
+}
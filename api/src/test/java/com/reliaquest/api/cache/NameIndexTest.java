@@ -0,0 +1,117 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for NameIndex
+ */
+class NameIndexTest {
+
+    private final NameIndex index = new NameIndex();
+
+    @Test
+    void search_ShouldMatchSubstringsIgnoringCaseInInsertionOrder() {
+        // Given
+        index.replaceAll(List.of(
+                employee("1", "John Doe"),
+                employee("2", "Jane Smith"),
+                employee("3", "Bob Johnson"),
+                employee("4", null)));
+
+        // When
+        List<Employee> matches = index.search("JOHN");
+
+        // Then
+        assertThat(matches).extracting(Employee::getId).containsExactly("1", "3");
+    }
+
+    @Test
+    void search_ShouldVerifyCandidatesAfterIntersection() {
+        // Given: both names contain the trigrams "ann" and "nna", only one contains "anna"
+        index.replaceAll(List.of(employee("1", "Danny Nnamdi"), employee("2", "Anna Lee")));
+
+        // When
+        List<Employee> matches = index.search("anna");
+
+        // Then
+        assertThat(matches).extracting(Employee::getId).containsExactly("2");
+    }
+
+    @Test
+    void search_WithShortFragment_ShouldScanFoldedNames() {
+        // Given
+        index.replaceAll(List.of(employee("1", "Al Gore"), employee("2", "Bob"), employee("3", "Sal")));
+
+        // When
+        List<Employee> matches = index.search("AL");
+
+        // Then
+        assertThat(matches).extracting(Employee::getId).containsExactly("1", "3");
+    }
+
+    @Test
+    void search_WithUnknownTrigram_ShouldReturnEmpty() {
+        // Given
+        index.replaceAll(List.of(employee("1", "John Doe")));
+
+        // When & Then
+        assertThat(index.search("xyz")).isEmpty();
+    }
+
+    @Test
+    void addAndRemove_ShouldBeVisibleToSearch() {
+        // Given
+        index.replaceAll(List.of(employee("1", "John Doe"), employee("2", "Jane Smith")));
+
+        // When
+        index.add(employee("3", "Johnny Cash"));
+        index.remove("1");
+
+        // Then
+        assertThat(index.search("john")).extracting(Employee::getId).containsExactly("3");
+    }
+
+    @Test
+    void remove_WhenMostSlotsEmpty_ShouldCompactAndKeepResults() {
+        // Given
+        index.replaceAll(List.of(
+                employee("1", "Ada Lovelace"),
+                employee("2", "Alan Turing"),
+                employee("3", "Grace Hopper"),
+                employee("4", "Ada Yonath")));
+
+        // When
+        index.remove("1");
+        index.remove("2");
+        index.remove("3");
+        index.add(employee("5", "Ada Byron"));
+
+        // Then
+        assertThat(index.search("ada ")).extracting(Employee::getId).containsExactly("4", "5");
+    }
+
+    @Test
+    void add_WithExistingId_ShouldReplaceName() {
+        // Given
+        index.replaceAll(List.of(employee("1", "John Doe")));
+
+        // When
+        index.add(employee("1", "Jane Doe"));
+
+        // Then
+        assertThat(index.search("john")).isEmpty();
+        assertThat(index.search("jane")).extracting(Employee::getId).containsExactly("1");
+    }
+
+    private static Employee employee(String id, String name) {
+        return Employee.builder()
+                .id(id)
+                .employeeName(name)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SalaryAggregate
+ */
+class SalaryAggregateTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SalaryAggregate aggregate = new SalaryAggregate(Duration.ofMinutes(5), clock::get);
+
+    @Test
+    void topEarners_ShouldReturnHighestSalariesFirstUpToLimit() {
+        // Given
+        aggregate.replaceAll(List.of(employee("1", 50), employee("2", 90), employee("3", 70), employee("4", null)));
+
+        // When
+        List<Employee> top = aggregate.topEarners(2);
+
+        // Then
+        assertThat(top).extracting(Employee::getId).containsExactly("2", "3");
+        assertThat(aggregate.highestSalary()).isEqualTo(90);
+    }
+
+    @Test
+    void removingTopEarner_ShouldPromoteNextWithoutResync() {
+        // Given
+        aggregate.replaceAll(List.of(employee("1", 50), employee("2", 90), employee("3", 70)));
+
+        // When
+        aggregate.remove("2");
+        aggregate.add(employee("5", 60));
+
+        // Then
+        assertThat(aggregate.highestSalary()).isEqualTo(70);
+        assertThat(aggregate.topEarners(10)).extracting(Employee::getId).containsExactly("3", "5", "1");
+    }
+
+    @Test
+    void topEarners_WithEqualSalaries_ShouldRankTiesInListThenCreateOrder() {
+        // Given
+        aggregate.replaceAll(List.of(employee("c", 80), employee("b", 80), employee("z", 90), employee("a", 80)));
+
+        // When
+        aggregate.add(employee("0", 80));
+        aggregate.add(employee("b", 80));
+
+        // Then
+        assertThat(aggregate.topEarners(10)).extracting(Employee::getId).containsExactly("z", "c", "b", "a", "0");
+    }
+
+    @Test
+    void equalSalaries_ShouldAllBeKept() {
+        // Given
+        aggregate.replaceAll(List.of(employee("1", 80), employee("2", 80)));
+
+        // When
+        aggregate.remove("1");
+
+        // Then
+        assertThat(aggregate.topEarners(10)).extracting(Employee::getId).containsExactly("2");
+    }
+
+    @Test
+    void highestSalary_WhenEmpty_ShouldReturnZero() {
+        // Given
+        aggregate.replaceAll(List.of());
+
+        // When & Then
+        assertThat(aggregate.highestSalary()).isZero();
+        assertThat(aggregate.topEarners(10)).isEmpty();
+    }
+
+    @Test
+    void isStale_ShouldTrackTimeSinceLastFullSync() {
+        // Given
+        assertThat(aggregate.isStale()).isTrue();
+        aggregate.replaceAll(List.of(employee("1", 50)));
+
+        // When
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(4));
+        aggregate.add(employee("2", 60));
+        boolean staleBeforeBound = aggregate.isStale();
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        // Then
+        assertThat(staleBeforeBound).isFalse();
+        assertThat(aggregate.isStale()).isTrue();
+    }
+
+    @Test
+    void clear_ShouldMarkStale() {
+        // Given
+        aggregate.replaceAll(List.of(employee("1", 50)));
+
+        // When
+        aggregate.clear();
+
+        // Then
+        assertThat(aggregate.isStale()).isTrue();
+        assertThat(aggregate.highestSalary()).isZero();
+    }
+
+    private static Employee employee(String id, Integer salary) {
+        return Employee.builder()
+                .id(id)
+                .employeeName("Employee " + id)
+                .employeeSalary(salary)
+                .build();
+    }
+}
@@ -0,0 +1,422 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.reliaquest.api.config.RestClientConfig;
+import com.reliaquest.api.config.WireFormat;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contract every {@link AsyncEmployeeApiClient} implementation has to meet, run against a
+ * stub of the mock employee API
+ */
+abstract class AsyncEmployeeApiClientContractTest {
+
+    protected static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String SMILE = "application/x-jackson-smile";
+
+    protected final ObjectMapper objectMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final ObjectMapper smileMapper = SmileMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final Map<String, Employee> employees = new LinkedHashMap<>();
+    private final Queue<Integer> forcedStatuses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile String retryAfter;
+    private volatile CountDownLatch heldResponses;
+    private volatile boolean batchSupported = true;
+    private volatile boolean missingEndpointsAsServerError;
+    private final AtomicInteger notModified = new AtomicInteger();
+    private int version;
+    private volatile boolean smileSupported = true;
+    private final AtomicReference<String> requestContentType = new AtomicReference<>();
+    private final AtomicReference<String> responseContentType = new AtomicReference<>();
+
+    private HttpServer server;
+    private RestClientConfig restClientConfig;
+    private AsyncEmployeeApiClient client;
+
+    /**
+     * Create the implementation under test
+     */
+    protected abstract AsyncEmployeeApiClient createClient(
+            RestClientConfig restClientConfig, RateLimitScheduler rateLimitScheduler);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        employees.put("1", Employee.builder().id("1").employeeName("John Doe").employeeSalary(75000).build());
+        employees.put("2", Employee.builder().id("2").employeeName("Jane Smith").employeeSalary(85000).build());
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/v1/employee", this::handle);
+        server.start();
+
+        restClientConfig = new RestClientConfig();
+        ReflectionTestUtils.setField(restClientConfig, "baseUrl", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(restClientConfig, "timeout", 5000);
+
+        // No learned cooldown yet, so a 429 closes the window only for the minimum probe interval
+        client = createClient(restClientConfig, new RateLimitScheduler(0, 5000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void getAllEmployees_ShouldReturnAllEmployees() {
+        assertThat(client.getAllEmployees()).succeedsWithin(TIMEOUT)
+                .satisfies(result -> assertThat(result).extracting(Employee::getEmployeeName)
+                        .containsExactly("John Doe", "Jane Smith"));
+    }
+
+    @Test
+    void getEmployeeById_ShouldReturnEmployee() {
+        assertThat(client.getEmployeeById("2")).succeedsWithin(TIMEOUT)
+                .satisfies(employee -> assertThat(employee.getEmployeeSalary()).isEqualTo(85000));
+    }
+
+    @Test
+    void getEmployeeById_WhenMissing_ShouldFailWithNotFound() {
+        assertThat(client.getEmployeeById("999")).failsWithin(TIMEOUT)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOfSatisfying(HttpClientErrorException.class, e ->
+                        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void createEmployee_ShouldSendInputAndReturnCreatedEmployee() {
+        // Given
+        EmployeeInput input = EmployeeInput.builder().name("New Hire").salary(60000).age(25).title("Intern").build();
+
+        // When & Then
+        assertThat(client.createEmployee(input)).succeedsWithin(TIMEOUT)
+                .satisfies(created -> {
+                    assertThat(created.getId()).isNotNull();
+                    assertThat(created.getEmployeeName()).isEqualTo("New Hire");
+                });
+        assertThat(employees).hasSize(3);
+    }
+
+    @Test
+    void deleteEmployeeByName_ShouldReportWhetherEmployeeWasDeleted() {
+        assertThat(client.deleteEmployeeByName("John Doe")).succeedsWithin(TIMEOUT).isEqualTo(true);
+        assertThat(client.deleteEmployeeByName("John Doe")).succeedsWithin(TIMEOUT).isEqualTo(false);
+    }
+
+    @Test
+    void deleteEmployeeById_ShouldDeleteInOneRequestAndReturnName() {
+        assertThat(client.deleteEmployeeById("1")).succeedsWithin(TIMEOUT).isEqualTo("John Doe");
+        assertThat(requests).hasValue(1);
+        assertThat(client.deleteEmployeeById("1")).succeedsWithin(TIMEOUT).isNull();
+        assertThat(employees).containsOnlyKeys("2");
+    }
+
+    @Test
+    void deleteEmployeeById_WithoutBatchEndpoint_ShouldLookUpAndDeleteByName() {
+        // Given
+        batchSupported = false;
+
+        // When & Then
+        assertThat(client.deleteEmployeeById("1")).succeedsWithin(TIMEOUT).isEqualTo("John Doe");
+        assertThat(client.deleteEmployeeById("999")).succeedsWithin(TIMEOUT).isNull();
+        assertThat(employees).containsOnlyKeys("2");
+    }
+
+    @Test
+    void deleteEmployeeById_WhenOlderServerAnswersBatchWithServerError_ShouldLookUpAndDeleteByNameWithoutRetrying() {
+        // Given
+        batchSupported = false;
+        missingEndpointsAsServerError = true;
+
+        // When & Then
+        assertThat(client.deleteEmployeeById("1")).succeedsWithin(TIMEOUT).isEqualTo("John Doe");
+        assertThat(requests).hasValue(3);
+        assertThat(employees).containsOnlyKeys("2");
+    }
+
+    @Test
+    void getAllEmployees_WhenRateLimited_ShouldRetryOnceWindowReopens() {
+        // Given
+        forcedStatuses.add(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        // When & Then
+        assertThat(client.getAllEmployees()).succeedsWithin(TIMEOUT)
+                .satisfies(result -> assertThat(result).hasSize(2));
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void getAllEmployees_WhenRetryAfterPastDeadline_ShouldFailFastWithoutRetrying() {
+        // Given
+        forcedStatuses.add(HttpStatus.TOO_MANY_REQUESTS.value());
+        retryAfter = "60";
+
+        // When & Then
+        assertThat(client.getAllEmployees()).failsWithin(TIMEOUT)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void getAllEmployees_WhenUnchanged_ShouldRevalidateAndReuseLastList() {
+        // Given
+        List<Employee> first = client.getAllEmployees().join();
+
+        // When
+        List<Employee> second = client.getAllEmployees().join();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(notModified).hasValue(1);
+    }
+
+    @Test
+    void getAllEmployees_WhenChanged_ShouldDownloadNewList() {
+        // Given
+        client.getAllEmployees().join();
+        client.createEmployee(EmployeeInput.builder().name("New Hire").salary(60000).age(25).title("Intern").build())
+                .join();
+
+        // When & Then
+        assertThat(client.getAllEmployees()).succeedsWithin(TIMEOUT)
+                .satisfies(result -> assertThat(result).hasSize(3));
+        assertThat(notModified).hasValue(0);
+    }
+
+    @Test
+    void getEmployeeById_WhenUnchanged_ShouldReuseLastEmployee() {
+        // Given
+        Employee first = client.getEmployeeById("2").join();
+
+        // When & Then
+        assertThat(client.getEmployeeById("2")).succeedsWithin(TIMEOUT).isSameAs(first);
+        assertThat(notModified).hasValue(1);
+    }
+
+    @Test
+    void getAllEmployees_WithSmileWireFormat_ShouldReadSmileResponse() {
+        // Given
+        AsyncEmployeeApiClient smileClient = createSmileClient();
+
+        // When & Then
+        assertThat(smileClient.getAllEmployees()).succeedsWithin(TIMEOUT)
+                .satisfies(result -> assertThat(result).extracting(Employee::getEmployeeName)
+                        .containsExactly("John Doe", "Jane Smith"));
+        assertThat(responseContentType).hasValue(SMILE);
+    }
+
+    @Test
+    void createEmployee_WithSmileWireFormat_ShouldSendSmileBody() {
+        // Given
+        AsyncEmployeeApiClient smileClient = createSmileClient();
+        EmployeeInput input = EmployeeInput.builder().name("New Hire").salary(60000).age(25).title("Intern").build();
+
+        // When & Then
+        assertThat(smileClient.createEmployee(input)).succeedsWithin(TIMEOUT)
+                .satisfies(created -> assertThat(created.getEmployeeName()).isEqualTo("New Hire"));
+        assertThat(requestContentType).hasValue(SMILE);
+        assertThat(responseContentType).hasValue(SMILE);
+    }
+
+    @Test
+    void getAllEmployees_WithSmileWireFormat_WhenServerOnlySpeaksJson_ShouldReadJson() {
+        // Given
+        smileSupported = false;
+        AsyncEmployeeApiClient smileClient = createSmileClient();
+
+        // When & Then
+        assertThat(smileClient.getAllEmployees()).succeedsWithin(TIMEOUT)
+                .satisfies(result -> assertThat(result).hasSize(2));
+        assertThat(responseContentType).hasValue("application/json");
+    }
+
+    protected AsyncEmployeeApiClient client() {
+        return client;
+    }
+
+    protected int requestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Hold every response until the returned latch is counted down
+     */
+    protected CountDownLatch holdResponses() {
+        CountDownLatch release = new CountDownLatch(1);
+        heldResponses = release;
+        return release;
+    }
+
+    /**
+     * Wait until the stub has received {@code count} requests
+     */
+    protected void awaitRequests(int count) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (requests.get() < count) {
+            assertThat(System.nanoTime()).as("requests received in time").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private AsyncEmployeeApiClient createSmileClient() {
+        ReflectionTestUtils.setField(restClientConfig, "wireFormat", WireFormat.SMILE);
+        return createClient(restClientConfig, new RateLimitScheduler(0, 5000));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        CountDownLatch held = heldResponses;
+        if (held != null) {
+            try {
+                held.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        Integer forcedStatus = forcedStatuses.poll();
+        if (forcedStatus != null) {
+            if (retryAfter != null) {
+                exchange.getResponseHeaders().set("Retry-After", retryAfter);
+            }
+            respond(exchange, forcedStatus, Map.of("status", "Error processing request."));
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals("/api/v1/employee/batch")) {
+            handleBatch(exchange);
+            return;
+        }
+        String id = path.startsWith("/api/v1/employee/") ? path.substring("/api/v1/employee/".length()) : null;
+        synchronized (employees) {
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> {
+                    String entityTag = "W/\"v" + version + "\"";
+                    if (entityTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                        notModified.incrementAndGet();
+                        exchange.sendResponseHeaders(304, -1);
+                        exchange.close();
+                        return;
+                    }
+                    exchange.getResponseHeaders().set("ETag", entityTag);
+                    if (id == null) {
+                        respond(exchange, 200, success(new ArrayList<>(employees.values())));
+                    } else if (employees.containsKey(id)) {
+                        respond(exchange, 200, success(employees.get(id)));
+                    } else {
+                        respond(exchange, 404, Map.of("status", "Error processing request."));
+                    }
+                }
+                case "POST" -> {
+                    EmployeeInput input = readBody(exchange, EmployeeInput.class);
+                    Employee created = Employee.builder()
+                            .id(UUID.randomUUID().toString())
+                            .employeeName(input.getName())
+                            .employeeSalary(input.getSalary())
+                            .employeeAge(input.getAge())
+                            .employeeTitle(input.getTitle())
+                            .build();
+                    employees.put(created.getId(), created);
+                    version++;
+                    respond(exchange, 200, success(created));
+                }
+                case "DELETE" -> {
+                    String name = (String) readBody(exchange, Map.class).get("name");
+                    boolean deleted = employees.values().removeIf(employee -> employee.getEmployeeName().equals(name));
+                    version++;
+                    respond(exchange, 200, success(deleted));
+                }
+                default -> respond(exchange, 405, Map.of("status", "Error processing request."));
+            }
+        }
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        if (!batchSupported || !exchange.getRequestMethod().equals("DELETE")) {
+            if (missingEndpointsAsServerError) {
+                // What a server without the endpoint answers, its only error handler being the catch-all one
+                respond(exchange, 500, Map.of("status", "Failed to process request.",
+                        "error", "Request method '" + exchange.getRequestMethod() + "' is not supported"));
+            } else {
+                respond(exchange, 404, Map.of("status", "Error processing request."));
+            }
+            return;
+        }
+        List<?> items = readBody(exchange, List.class);
+        List<Map<String, Object>> results = new ArrayList<>();
+        synchronized (employees) {
+            version++;
+            for (int i = 0; i < items.size(); i++) {
+                Employee deleted = employees.remove((String) ((Map<?, ?>) items.get(i)).get("id"));
+                results.add(deleted != null
+                        ? Map.of("index", i, "outcome", "deleted", "employee", deleted)
+                        : Map.of("index", i, "outcome", "not_found"));
+            }
+        }
+        respond(exchange, 200, success(results));
+    }
+
+    private static Map<String, Object> success(Object data) {
+        return Map.of("data", data, "status", "Successfully processed request.");
+    }
+
+    private <T> T readBody(HttpExchange exchange, Class<T> type) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        requestContentType.set(contentType);
+        ObjectMapper mapper = SMILE.equals(contentType) && smileSupported ? smileMapper : objectMapper;
+        return mapper.readValue(exchange.getRequestBody(), type);
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        String contentType = accept != null && accept.startsWith(SMILE) && smileSupported ? SMILE : "application/json";
+        byte[] bytes = (contentType.equals(SMILE) ? smileMapper : objectMapper).writeValueAsBytes(body);
+        responseContentType.set(contentType);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.RestClientConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Runs the async client contract against the blocking RestTemplate client
+ */
+class BlockingEmployeeApiClientAdapterTest extends AsyncEmployeeApiClientContractTest {
+
+    @Override
+    protected AsyncEmployeeApiClient createClient(
+            RestClientConfig restClientConfig, RateLimitScheduler rateLimitScheduler) {
+        RestTemplate restTemplate = restClientConfig.restTemplate(new JdkClientHttpRequestFactory(), objectMapper);
+        return new BlockingEmployeeApiClientAdapter(
+                new EmployeeApiClient(restTemplate, restClientConfig, rateLimitScheduler,
+                        new EmployeeClientMetrics(new SimpleMeterRegistry())));
+    }
+}
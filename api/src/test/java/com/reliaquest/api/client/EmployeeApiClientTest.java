@@ -0,0 +1,358 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.RestClientConfig;
+import com.reliaquest.api.exception.RateLimitExceededException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatchResult;
+import com.reliaquest.api.model.EmployeeInput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpMethod.DELETE;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit tests for EmployeeApiClient against a mocked mock-employee server
+ */
+class EmployeeApiClientTest {
+
+    private static final String BASE_URL = "http://localhost:8112";
+
+    private static final String EMPLOYEE_LIST = """
+            {"data":[
+             {"id":"1","employee_name":"John Doe","employee_salary":75000,"employee_age":30},
+             {"id":"2","employee_name":"Jane Smith","employee_salary":85000,"employee_age":28},
+             {"id":"3","employee_name":"Bob Johnson","employee_salary":95000,"employee_age":35}],
+             "status":"Successfully processed request."}
+            """;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MockRestServiceServer server;
+    private EmployeeApiClient employeeApiClient;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        RestClientConfig restClientConfig = new RestClientConfig();
+        ReflectionTestUtils.setField(restClientConfig, "baseUrl", BASE_URL);
+
+        employeeApiClient = new EmployeeApiClient(
+                restTemplate, restClientConfig, new RateLimitScheduler(30000, 30000),
+                new EmployeeClientMetrics(meterRegistry));
+    }
+
+    @Test
+    void searchEmployeesByName_ShouldUseServerSearchEndpoint() {
+        // Given
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/search?name=John"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"1","employee_name":"John Doe"},{"id":"3","employee_name":"Bob Johnson"}],
+                         "status":"Successfully processed request."}
+                        """, MediaType.APPLICATION_JSON));
+
+        // When
+        List<Employee> result = employeeApiClient.searchEmployeesByName("John");
+
+        // Then
+        assertThat(result).extracting(Employee::getEmployeeName)
+                .containsExactly("John Doe", "Bob Johnson");
+        server.verify();
+    }
+
+    @Test
+    void searchEmployeesByName_WhenSearchEndpointMissing_ShouldFilterFullListIgnoringCase() {
+        // Given
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/search?name=JANE"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee"))
+                .andRespond(withSuccess(EMPLOYEE_LIST, MediaType.APPLICATION_JSON));
+        // The missing endpoint is remembered, so the second search goes straight to the full list
+        server.expect(requestTo(BASE_URL + "/api/v1/employee"))
+                .andRespond(withSuccess(EMPLOYEE_LIST, MediaType.APPLICATION_JSON));
+
+        // When
+        List<Employee> first = employeeApiClient.searchEmployeesByName("JANE");
+        List<Employee> second = employeeApiClient.searchEmployeesByName("john");
+
+        // Then
+        assertThat(first).extracting(Employee::getEmployeeName).containsExactly("Jane Smith");
+        assertThat(second).extracting(Employee::getEmployeeName).containsExactly("John Doe", "Bob Johnson");
+        server.verify();
+    }
+
+    @Test
+    void searchEmployeesByName_WhenOlderServerTakesSearchForEmployeeId_ShouldFallBackWithoutRetrying() {
+        // Given: a server without the search endpoint routes it to /{id} and answers the failed UUID conversion with 500
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/search?name=jane"))
+                .andRespond(withServerError().contentType(MediaType.APPLICATION_JSON).body("""
+                        {"status":"Failed to process request.","error":"Method parameter 'id': Failed to convert value \
+                        of type 'java.lang.String' to required type 'java.util.UUID'; Invalid UUID string: search"}
+                        """));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee"))
+                .andRespond(withSuccess(EMPLOYEE_LIST, MediaType.APPLICATION_JSON));
+
+        // When
+        List<Employee> result = employeeApiClient.searchEmployeesByName("jane");
+
+        // Then
+        assertThat(result).extracting(Employee::getEmployeeName).containsExactly("Jane Smith");
+        assertThat(meterRegistry.get("employee.client.attempts").tag("operation", "search").counter().count())
+                .isEqualTo(1);
+        server.verify();
+    }
+
+    @Test
+    void searchEmployeesByName_WhenSearchEndpointMissing_ShouldMatchIndependentOfDefaultLocale() {
+        // Given
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/search?name=JIM"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee"))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"1","employee_name":"Jim Beam"}],"status":"Successfully processed request."}
+                        """, MediaType.APPLICATION_JSON));
+
+        // When
+        List<Employee> result;
+        try {
+            result = employeeApiClient.searchEmployeesByName("JIM");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        // Then
+        assertThat(result).extracting(Employee::getEmployeeName).containsExactly("Jim Beam");
+        server.verify();
+    }
+
+    @Test
+    void getHighestSalary_WhenOlderServerHasNoStatsEndpoint_ShouldFallBackWithoutRetrying() {
+        // Given: a server without the endpoint answers the missing static resource with 500
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/stats/salary/max"))
+                .andRespond(withServerError().contentType(MediaType.APPLICATION_JSON).body("""
+                        {"status":"Failed to process request.",\
+                        "error":"No static resource api/v1/employee/stats/salary/max."}
+                        """));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee"))
+                .andRespond(withSuccess(EMPLOYEE_LIST, MediaType.APPLICATION_JSON));
+
+        // When
+        Integer result = employeeApiClient.getHighestSalary();
+
+        // Then
+        assertThat(result).isEqualTo(95000);
+        assertThat(meterRegistry.find("employee.client.retries").counters()).isEmpty();
+        server.verify();
+    }
+
+    @Test
+    void getHighestSalary_WhenServerHasNoEmployees_ShouldReturnZero() {
+        // Given
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/stats/salary/max"))
+                .andRespond(withSuccess("{\"status\":\"Successfully processed request.\"}", MediaType.APPLICATION_JSON));
+
+        // When
+        Integer result = employeeApiClient.getHighestSalary();
+
+        // Then
+        assertThat(result).isZero();
+        server.verify();
+    }
+
+    @Test
+    void getTopEarningEmployees_WhenTopEndpointMissing_ShouldRankFullList() {
+        // Given
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/top?by=salary&n=2"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee"))
+                .andRespond(withSuccess(EMPLOYEE_LIST, MediaType.APPLICATION_JSON));
+
+        // When
+        List<Employee> result = employeeApiClient.getTopEarningEmployees(2);
+
+        // Then
+        assertThat(result).extracting(Employee::getEmployeeName)
+                .containsExactly("Bob Johnson", "Jane Smith");
+        server.verify();
+    }
+
+    @Test
+    void getAllEmployees_WhenWeakEntityTagStillMatches_ShouldReuseLastList() {
+        // Given
+        String entityTag = "W/\"epoch-7-json\"";
+        server.expect(requestTo(BASE_URL + "/api/v1/employee"))
+                .andExpect(method(GET))
+                .andRespond(withSuccess("""
+                        {"data":[{"id":"1","employee_name":"John Doe"}],"status":"Successfully processed request."}
+                        """, MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, entityTag));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, entityTag))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).header(HttpHeaders.ETAG, entityTag));
+
+        // When
+        List<Employee> first = employeeApiClient.getAllEmployees();
+        List<Employee> second = employeeApiClient.getAllEmployees();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("employee.client.not.modified").tag("operation", "get-all").counter().count())
+                .isEqualTo(1);
+        server.verify();
+    }
+
+    @Test
+    void getEmployeeById_ShouldRecordAttemptAndTimerByOutcome() {
+        // Given
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/1"))
+                .andRespond(withSuccess("""
+                        {"data":{"id":"1","employee_name":"John Doe"},"status":"Successfully processed request."}
+                        """, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/999"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        // When
+        employeeApiClient.getEmployeeById("1");
+        assertThatThrownBy(() -> employeeApiClient.getEmployeeById("999"))
+                .isInstanceOf(HttpClientErrorException.class);
+
+        // Then
+        assertThat(meterRegistry.get("employee.client.attempts").tag("operation", "get-by-id").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("employee.client.requests")
+                .tags("operation", "get-by-id", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employee.client.requests")
+                .tags("operation", "get-by-id", "outcome", "client_error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("employee.client.retries").counters()).isEmpty();
+    }
+
+    @Test
+    void getEmployeeById_WhenRetryAfterPastDeadline_ShouldFailFastWithoutRetrying() {
+        // Given
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/1"))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "60"));
+
+        // When & Then
+        assertThatThrownBy(() -> employeeApiClient.getEmployeeById("1"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e ->
+                        assertThat(e.getRetryAfter()).isBetween(Duration.ofSeconds(59), Duration.ofSeconds(60)));
+        server.verify();
+        assertThat(meterRegistry.get("employee.client.attempts").tag("operation", "get-by-id").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void createEmployees_ShouldSendChunksAndReportResultsByInputPosition() {
+        // Given
+        int total = EmployeeApiClient.MAX_BATCH_SIZE + 1;
+        List<EmployeeInput> inputs = IntStream.range(0, total)
+                .mapToObj(i -> EmployeeInput.builder().name("Hire " + i).salary(50000).age(30).title("Analyst").build())
+                .toList();
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/batch"))
+                .andExpect(method(POST))
+                .andExpect(jsonPath("$.length()").value(EmployeeApiClient.MAX_BATCH_SIZE))
+                .andRespond(withSuccess(batchResponse(EmployeeApiClient.MAX_BATCH_SIZE), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/batch"))
+                .andExpect(method(POST))
+                .andExpect(jsonPath("$[0].name").value("Hire " + EmployeeApiClient.MAX_BATCH_SIZE))
+                .andRespond(withSuccess(batchResponse(1), MediaType.APPLICATION_JSON));
+
+        // When
+        List<EmployeeBatchResult> results = employeeApiClient.createEmployees(inputs);
+
+        // Then
+        assertThat(results).hasSize(total);
+        assertThat(results).extracting(EmployeeBatchResult::getIndex)
+                .containsExactlyElementsOf(IntStream.range(0, total).boxed().toList());
+        assertThat(results).allMatch(result -> result.getOutcome() == EmployeeBatchResult.Outcome.CREATED);
+        server.verify();
+    }
+
+    @Test
+    void deleteEmployeesByIds_WhenBatchEndpointMissing_ShouldLookUpAndDeleteByName() {
+        // Given
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/batch"))
+                .andExpect(method(DELETE))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/1"))
+                .andRespond(withSuccess("""
+                        {"data":{"id":"1","employee_name":"John Doe"},"status":"Successfully processed request."}
+                        """, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee"))
+                .andExpect(method(DELETE))
+                .andExpect(jsonPath("$.name").value("John Doe"))
+                .andRespond(withSuccess("""
+                        {"data":true,"status":"Successfully processed request."}
+                        """, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/999"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        // When
+        List<EmployeeBatchResult> results = employeeApiClient.deleteEmployeesByIds(List.of("1", "999"));
+
+        // Then
+        assertThat(results).extracting(EmployeeBatchResult::getOutcome)
+                .containsExactly(EmployeeBatchResult.Outcome.DELETED, EmployeeBatchResult.Outcome.NOT_FOUND);
+        assertThat(results.get(0).getEmployee().getEmployeeName()).isEqualTo("John Doe");
+        server.verify();
+    }
+
+    @Test
+    void createEmployees_WhenOnlyBatchDeleteIsMissing_ShouldStillUseBatchCreate() {
+        // Given
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/batch"))
+                .andExpect(method(DELETE))
+                .andRespond(withStatus(HttpStatus.METHOD_NOT_ALLOWED));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/999"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(requestTo(BASE_URL + "/api/v1/employee/batch"))
+                .andExpect(method(POST))
+                .andRespond(withSuccess(batchResponse(1), MediaType.APPLICATION_JSON));
+        employeeApiClient.deleteEmployeesByIds(List.of("999"));
+
+        // When
+        List<EmployeeBatchResult> results = employeeApiClient.createEmployees(List.of(
+                EmployeeInput.builder().name("New Hire").salary(50000).age(30).title("Analyst").build()));
+
+        // Then
+        assertThat(results).extracting(EmployeeBatchResult::getOutcome)
+                .containsExactly(EmployeeBatchResult.Outcome.CREATED);
+        server.verify();
+    }
+
+    private static String batchResponse(int size) {
+        String results = IntStream.range(0, size)
+                .mapToObj(i -> "{\"index\":%d,\"outcome\":\"created\",\"employee\":{\"id\":\"id-%d\"}}"
+                        .formatted(i, i))
+                .collect(Collectors.joining(","));
+        return "{\"data\":[" + results + "],\"status\":\"Successfully processed request.\"}";
+    }
+}
@@ -0,0 +1,166 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.reliaquest.api.config.RestClientConfig;
+import com.reliaquest.api.exception.ChangeFeedResetException;
+import com.reliaquest.api.model.ChangeFeedSnapshot;
+import com.reliaquest.api.model.EmployeeChange;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for EmployeeChangeFeedClient against a stub of the mock API's change feed
+ */
+class EmployeeChangeFeedClientTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final AtomicReference<String> streamQuery = new AtomicReference<>();
+    private volatile int streamStatus = 200;
+    private volatile String streamBody = "";
+
+    private HttpServer server;
+    private EmployeeChangeFeedClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/v1/employee/changes/snapshot", exchange -> respond(exchange, 200,
+                "application/json", """
+                        {"data": {"epoch": "e1", "version": 42, "employees": [
+                            {"id": "1", "employee_name": "John Doe", "employee_salary": 75000}
+                        ]}, "status": "Successfully processed request."}"""));
+        server.createContext("/api/v1/employee/changes/stream", exchange -> {
+            streamQuery.set(exchange.getRequestURI().getQuery());
+            respond(exchange, streamStatus, "text/event-stream", streamBody);
+        });
+        server.start();
+
+        RestClientConfig restClientConfig = new RestClientConfig();
+        ReflectionTestUtils.setField(restClientConfig, "baseUrl", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(restClientConfig, "timeout", 5000);
+
+        client = new EmployeeChangeFeedClient(
+                HttpClient.newHttpClient(), restClientConfig, objectMapper, new RateLimitScheduler(0, 5000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void fetchSnapshot_ShouldReturnEmployeesAndVersion() throws Exception {
+        // When
+        ChangeFeedSnapshot snapshot = client.fetchSnapshot();
+
+        // Then
+        assertThat(snapshot.getEpoch()).isEqualTo("e1");
+        assertThat(snapshot.getVersion()).isEqualTo(42);
+        assertThat(snapshot.getEmployees()).singleElement()
+                .satisfies(employee -> assertThat(employee.getEmployeeName()).isEqualTo("John Doe"));
+    }
+
+    @Test
+    void openStream_ShouldParseChangesAndHeartbeats() throws Exception {
+        // Given
+        streamBody = """
+                event:change
+                id:43
+                data:{"sequence":43,"type":"created","id":"2","employee":{"id":"2","employee_name":"Jane Smith"}}
+
+                :heartbeat
+
+                event: change
+                id: 44
+                data: {"sequence":44,"type":"deleted","id":"1"}
+
+                """;
+
+        // When
+        try (EmployeeChangeFeedClient.ChangeStream stream = client.openStream("e1", 42)) {
+            EmployeeChange created = stream.next();
+            EmployeeChange heartbeat = stream.next();
+            EmployeeChange deleted = stream.next();
+
+            // Then
+            assertThat(created.getSequence()).isEqualTo(43);
+            assertThat(created.getType()).isEqualTo(EmployeeChange.Type.CREATED);
+            assertThat(created.getEmployee().getEmployeeName()).isEqualTo("Jane Smith");
+            assertThat(heartbeat).isNull();
+            assertThat(deleted.getType()).isEqualTo(EmployeeChange.Type.DELETED);
+            assertThat(deleted.getId()).isEqualTo("1");
+            assertThatThrownBy(stream::next).isInstanceOf(EOFException.class);
+        }
+        assertThat(streamQuery.get()).isEqualTo("since=42&epoch=e1");
+    }
+
+    @Test
+    void openStream_WhenResetEventSent_ShouldThrowReset() throws Exception {
+        // Given
+        streamBody = """
+                event:reset
+                data:Changes after version 12 are no longer retained.
+
+                """;
+
+        // When & Then
+        try (EmployeeChangeFeedClient.ChangeStream stream = client.openStream("e1", 12)) {
+            assertThatThrownBy(stream::next)
+                    .isInstanceOf(ChangeFeedResetException.class)
+                    .hasMessageContaining("no longer retained");
+        }
+    }
+
+    @Test
+    void openStream_WhenGone_ShouldThrowReset() {
+        // Given
+        streamStatus = 410;
+
+        // When & Then
+        assertThatThrownBy(() -> client.openStream("old-epoch", 12)).isInstanceOf(ChangeFeedResetException.class);
+    }
+
+    @Test
+    void openStream_WhenFeedMissing_ShouldThrowNotFound() {
+        // Given
+        streamStatus = 404;
+
+        // When & Then
+        assertThatThrownBy(() -> client.openStream("e1", 0))
+                .isInstanceOfSatisfying(HttpClientErrorException.class, e ->
+                        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for MissingEndpoints. The 500 bodies are the ones a server from before the 404/405
+ * advice sends for each routing failure; MockEmployeeControllerAdviceTest on the server checks the
+ * same messages.
+ */
+class MissingEndpointsTest {
+
+    @Test
+    void isMissing_WithNotFoundOrMethodNotAllowed_ShouldBeTrue() {
+        assertThat(MissingEndpoints.isMissing(clientError(HttpStatus.NOT_FOUND, ""))).isTrue();
+        assertThat(MissingEndpoints.isMissing(clientError(HttpStatus.METHOD_NOT_ALLOWED, ""))).isTrue();
+    }
+
+    @Test
+    void isMissing_WhenOlderServerHasNoStaticResourceForPath_ShouldBeTrue() {
+        assertThat(MissingEndpoints.isMissing(serverError(
+                "No static resource api/v1/employee/stats/salary/max."))).isTrue();
+    }
+
+    @Test
+    void isMissing_WhenOlderServerHasNoHandlerForPath_ShouldBeTrue() {
+        assertThat(MissingEndpoints.isMissing(serverError(
+                "No endpoint GET /api/v1/employee/changes/snapshot."))).isTrue();
+    }
+
+    @Test
+    void isMissing_WhenOlderServerRejectsMethod_ShouldBeTrue() {
+        assertThat(MissingEndpoints.isMissing(serverError("Request method 'DELETE' is not supported"))).isTrue();
+    }
+
+    @Test
+    void isMissing_WhenOlderServerTakesPathSegmentForEmployeeId_ShouldBeTrue() {
+        assertThat(MissingEndpoints.isMissing(serverError("Method parameter 'id': Failed to convert value of type "
+                + "'java.lang.String' to required type 'java.util.UUID'; Invalid UUID string: search"))).isTrue();
+    }
+
+    @Test
+    void isMissing_WithOtherServerError_ShouldBeFalse() {
+        assertThat(MissingEndpoints.isMissing(serverError("Database unavailable"))).isFalse();
+        assertThat(MissingEndpoints.isMissing(serverError(null))).isFalse();
+    }
+
+    @Test
+    void isMissing_WithOtherClientError_ShouldBeFalse() {
+        assertThat(MissingEndpoints.isMissing(clientError(HttpStatus.BAD_REQUEST,
+                "{\"error\":\"No static resource \"}"))).isFalse();
+    }
+
+    private static RestClientResponseException serverError(String error) {
+        String body = error == null
+                ? "{\"status\":\"Failed to process request.\"}"
+                : "{\"status\":\"Failed to process request.\",\"error\":\"" + error + "\"}";
+        return HttpServerErrorException.create(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                new HttpHeaders(), body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    private static RestClientResponseException clientError(HttpStatus status, String body) {
+        return HttpClientErrorException.create(status, status.getReasonPhrase(), new HttpHeaders(),
+                body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.RestClientConfig;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the async client contract against the non-blocking JDK HttpClient client
+ */
+class NonBlockingEmployeeApiClientTest extends AsyncEmployeeApiClientContractTest {
+
+    @Override
+    protected AsyncEmployeeApiClient createClient(
+            RestClientConfig restClientConfig, RateLimitScheduler rateLimitScheduler) {
+        return new NonBlockingEmployeeApiClient(
+                HttpClient.newHttpClient(), restClientConfig, objectMapper, rateLimitScheduler,
+                new EmployeeClientMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void getAllEmployees_WhenSameReadInFlight_ShouldShareOneRequest() {
+        // Given
+        CountDownLatch release = holdResponses();
+        CompletableFuture<List<Employee>> first = client().getAllEmployees();
+        awaitRequests(1);
+
+        // When
+        CompletableFuture<List<Employee>> second = client().getAllEmployees();
+        release.countDown();
+
+        // Then
+        assertThat(first).succeedsWithin(TIMEOUT).satisfies(result -> assertThat(result).hasSize(2));
+        assertThat(second).succeedsWithin(TIMEOUT).satisfies(result -> assertThat(result).hasSize(2));
+        assertThat(requestCount()).isEqualTo(1);
+    }
+}
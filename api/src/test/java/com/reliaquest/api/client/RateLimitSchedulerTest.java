@@ -0,0 +1,218 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for RateLimitScheduler, driven by a manual clock
+ */
+class RateLimitSchedulerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private RateLimitScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RateLimitScheduler(30 * SECOND, 5 * SECOND, clock::get);
+    }
+
+    @Test
+    void onRateLimited_ShouldLearnBudgetFromAdmittedRequests() {
+        // Given
+        admit(3);
+
+        // When
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.onRateLimited();
+
+        // Then
+        assertThat(scheduler.getLearnedBudget()).isEqualTo(3);
+    }
+
+    @Test
+    void acquire_WhenWindowClosedPastDeadline_ShouldFailFastWithEta() {
+        // Given
+        admit(2);
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.onRateLimited();
+        clock.addAndGet(10 * SECOND);
+
+        // When & Then
+        assertThatThrownBy(() -> scheduler.acquire(scheduler.deadlineFromNow()))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e ->
+                        assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(20)));
+    }
+
+    @Test
+    void acquire_WhenCooldownElapsed_ShouldProbeAndLearnCooldown() {
+        // Given
+        admit(2);
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.onRateLimited();
+        clock.addAndGet(30 * SECOND);
+
+        // When
+        scheduler.acquire(scheduler.deadlineFromNow());
+        clock.addAndGet(SECOND);
+        scheduler.onAdmitted();
+
+        // Then
+        assertThat(scheduler.getLearnedCooldown()).isEqualTo(Duration.ofSeconds(31));
+    }
+
+    @Test
+    void acquire_WhenLearnedBudgetSpent_ShouldHoldBackNextRequest() {
+        // Given
+        admit(2);
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.onRateLimited();
+        clock.addAndGet(30 * SECOND);
+        admit(2);
+
+        // When & Then
+        assertThatThrownBy(() -> scheduler.acquire(scheduler.deadlineFromNow()))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void acquire_WhenRetryAfterGiven_ShouldReopenExactlyThen() {
+        // Given
+        admit(2);
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.onRateLimited(Duration.ofMillis(1500));
+
+        // When
+        clock.addAndGet(SECOND);
+        long wait = scheduler.tryAcquire(scheduler.deadlineFromNow());
+        clock.addAndGet(wait);
+
+        // Then
+        assertThat(wait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(scheduler.tryAcquire(scheduler.deadlineFromNow())).isZero();
+        assertThat(scheduler.getLearnedBudget()).isEqualTo(-1);
+    }
+
+    @Test
+    void acquire_WhenRetryAfterPastDeadline_ShouldFailFastWithAdvertisedEta() {
+        // Given
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.onRateLimited(Duration.ofSeconds(60));
+
+        // When & Then
+        assertThatThrownBy(() -> scheduler.acquire(scheduler.deadlineFromNow()))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e ->
+                        assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(60)));
+    }
+
+    @Test
+    void onAdmitted_WhenRetryAfterGiven_ShouldNotExtendWindowByLearnedCooldown() {
+        // Given
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.onRateLimited(Duration.ofSeconds(2));
+
+        // When
+        scheduler.onAdmitted();
+        clock.addAndGet(2 * SECOND);
+
+        // Then
+        assertThat(scheduler.tryAcquire(scheduler.deadlineFromNow())).isZero();
+    }
+
+    @Test
+    void onAdmitted_AfterAdvertisedWindowReopened_ShouldRestartLearnedCooldown() {
+        // Given
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.onRateLimited(Duration.ofSeconds(2));
+        clock.addAndGet(2 * SECOND);
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.onAdmitted();
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.acquire(scheduler.deadlineFromNow());
+        scheduler.onRateLimited();
+
+        // When
+        clock.addAndGet(SECOND);
+        scheduler.onAdmitted();
+        clock.addAndGet(SECOND);
+
+        // Then
+        assertThat(scheduler.getLearnedCooldown()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(scheduler.tryAcquire(scheduler.deadlineFromNow())).isEqualTo(SECOND);
+    }
+
+    @Test
+    void onRateLimited_WhenRetryAfterHuge_ShouldClampInsteadOfOverflowing() {
+        // Given
+        scheduler.acquire(scheduler.deadlineFromNow());
+
+        // When
+        scheduler.onRateLimited(Duration.ofSeconds(Long.MAX_VALUE));
+
+        // Then
+        assertThatThrownBy(() -> scheduler.acquire(scheduler.deadlineFromNow()))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e ->
+                        assertThat(e.getRetryAfter()).isEqualTo(RateLimitScheduler.MAX_RETRY_AFTER));
+    }
+
+    @Test
+    void retryAfter_WhenHeaderHugeOrPast_ShouldClamp() {
+        // Given
+        Instant now = Instant.parse("2024-06-01T12:00:00Z");
+        HttpHeaders millis = new HttpHeaders();
+        millis.set(RateLimitScheduler.RETRY_AFTER_MS, Long.toString(Long.MAX_VALUE));
+        HttpHeaders seconds = new HttpHeaders();
+        seconds.set(HttpHeaders.RETRY_AFTER, Long.toString(Long.MAX_VALUE));
+        HttpHeaders negative = new HttpHeaders();
+        negative.set(RateLimitScheduler.RETRY_AFTER_MS, "-5");
+        HttpHeaders past = new HttpHeaders();
+        past.set(HttpHeaders.RETRY_AFTER, "Sat, 01 Jun 2024 11:59:00 GMT");
+
+        // When & Then
+        assertThat(RateLimitScheduler.retryAfter(millis, now)).isEqualTo(RateLimitScheduler.MAX_RETRY_AFTER);
+        assertThat(RateLimitScheduler.retryAfter(seconds, now)).isEqualTo(RateLimitScheduler.MAX_RETRY_AFTER);
+        assertThat(RateLimitScheduler.retryAfter(negative, now)).isZero();
+        assertThat(RateLimitScheduler.retryAfter(past, now)).isZero();
+    }
+
+    @Test
+    void retryAfter_ShouldPreferMillisecondsAndReadSecondsOrHttpDate() {
+        // Given
+        Instant now = Instant.parse("2024-06-01T12:00:00Z");
+        HttpHeaders millis = new HttpHeaders();
+        millis.set(HttpHeaders.RETRY_AFTER, "2");
+        millis.set(RateLimitScheduler.RETRY_AFTER_MS, "1250");
+        HttpHeaders seconds = new HttpHeaders();
+        seconds.set(HttpHeaders.RETRY_AFTER, "2");
+        HttpHeaders date = new HttpHeaders();
+        date.set(HttpHeaders.RETRY_AFTER, "Sat, 01 Jun 2024 12:00:30 GMT");
+        HttpHeaders garbled = new HttpHeaders();
+        garbled.set(HttpHeaders.RETRY_AFTER, "soon");
+
+        // When & Then
+        assertThat(RateLimitScheduler.retryAfter(millis, now)).isEqualTo(Duration.ofMillis(1250));
+        assertThat(RateLimitScheduler.retryAfter(seconds, now)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(RateLimitScheduler.retryAfter(date, now)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(RateLimitScheduler.retryAfter(garbled, now)).isNull();
+        assertThat(RateLimitScheduler.retryAfter(new HttpHeaders(), now)).isNull();
+    }
+
+    private void admit(int requests) {
+        for (int i = 0; i < requests; i++) {
+            scheduler.acquire(scheduler.deadlineFromNow());
+            scheduler.onAdmitted();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.reliaquest.api.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SingleFlight
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_WhenCalledConcurrentlyForSameKey_ShouldRunCallOnce() throws Exception {
+        // Given
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("all", () -> {
+                invocations.incrementAndGet();
+                await(release);
+                return "employees";
+            })));
+        }
+        waitUntilWaiting("all", CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("employees");
+        }
+        assertThat(invocations).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_WhenCallFails_ShouldPropagateToAllWaitersAndReleaseKey() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("1", () -> {
+            await(release);
+            throw new IllegalStateException("upstream down");
+        }));
+        waitUntilWaiting("1", 0);
+        Future<String> follower = executor.submit(() -> singleFlight.execute("1", () -> "unexpected"));
+        waitUntilWaiting("1", 1);
+
+        // When
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute("1", () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    void execute_ForDifferentKeys_ShouldNotShareCalls() {
+        assertThat(singleFlight.execute("1", () -> "one")).isEqualTo("one");
+        assertThat(singleFlight.execute("2", () -> "two")).isEqualTo("two");
+    }
+
+    @Test
+    void execute_AfterDetachAll_ShouldStartFreshCallWhileOldOneCompletes() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> before = executor.submit(() -> singleFlight.execute("all", () -> {
+            await(release);
+            return "before write";
+        }));
+        waitUntilWaiting("all", 0);
+
+        // When
+        singleFlight.detachAll();
+        String after = singleFlight.execute("all", () -> "after write");
+        release.countDown();
+
+        // Then
+        assertThat(after).isEqualTo("after write");
+        assertThat(before.get(5, TimeUnit.SECONDS)).isEqualTo("before write");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    /**
+     * Wait until a call for {@code key} is in flight with {@code waiters} callers blocked on it
+     */
+    private void waitUntilWaiting(String key, int waiters) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.inFlightCount() == 0 || singleFlight.waitingCount(key) < waiters) {
+            assertThat(System.nanoTime()).as("callers joined in time").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
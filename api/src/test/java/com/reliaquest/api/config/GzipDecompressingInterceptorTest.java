@@ -0,0 +1,90 @@
+package com.reliaquest.api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit tests for gzip negotiation on the REST client
+ */
+class GzipDecompressingInterceptorTest {
+
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+
+    private MockRestServiceServer server;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(new GzipDecompressingInterceptor()));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void intercept_ShouldRequestGzipAndInflateCompressedBody() throws IOException {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andRespond(withSuccess(gzip("{\"status\":\"ok\"}"), MediaType.APPLICATION_JSON).headers(headers));
+
+        // When
+        String body = restTemplate.getForObject(URL, String.class);
+
+        // Then
+        assertThat(body).isEqualTo("{\"status\":\"ok\"}");
+        server.verify();
+    }
+
+    @Test
+    void intercept_ShouldPassThroughUncompressedBody() {
+        // Given
+        server.expect(requestTo(URL)).andRespond(withSuccess("plain", MediaType.TEXT_PLAIN));
+
+        // When
+        String body = restTemplate.getForObject(URL, String.class);
+
+        // Then
+        assertThat(body).isEqualTo("plain");
+    }
+
+    @Test
+    void intercept_ShouldTolerateEmptyBodyWithGzipEncoding() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        server.expect(requestTo(URL)).andRespond(withStatus(HttpStatus.OK).headers(headers));
+
+        // When
+        String body = restTemplate.getForObject(URL, String.class);
+
+        // Then
+        assertThat(body).isNull();
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
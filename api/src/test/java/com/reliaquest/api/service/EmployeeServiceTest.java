@@ -1,23 +1,37 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.EmployeeReplica;
+import com.reliaquest.api.client.BlockingEmployeeApiClientAdapter;
 import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.EmployeeServiceException;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatchResult;
 import com.reliaquest.api.model.EmployeeInput;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -26,10 +40,18 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceTest {
 
+    private static final String JOHN_ID = "8d3c1f5e-0b7a-4a36-9f0e-4a1d2c6b7e01";
+    private static final String JANE_ID = "8d3c1f5e-0b7a-4a36-9f0e-4a1d2c6b7e02";
+    private static final String BOB_ID = "8d3c1f5e-0b7a-4a36-9f0e-4a1d2c6b7e03";
+    private static final String NEW_ID = "8d3c1f5e-0b7a-4a36-9f0e-4a1d2c6b7e04";
+    private static final String UNKNOWN_ID = "8d3c1f5e-0b7a-4a36-9f0e-4a1d2c6b7e99";
+
     @Mock
     private EmployeeApiClient employeeApiClient;
 
-    @InjectMocks
+    @Spy
+    private EmployeeCache employeeCache = new EmployeeCache(Duration.ofMinutes(1), 100);
+
     private EmployeeService employeeService;
 
     private Employee employee1;
@@ -39,8 +61,12 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
+        employeeService = new EmployeeService(
+                employeeApiClient, new BlockingEmployeeApiClientAdapter(employeeApiClient), employeeCache,
+                EmployeeReplica.disabled());
+
         employee1 = Employee.builder()
-                .id("1")
+                .id(JOHN_ID)
                 .employeeName("John Doe")
                 .employeeSalary(75000)
                 .employeeAge(30)
@@ -49,7 +75,7 @@ class EmployeeServiceTest {
                 .build();
 
         employee2 = Employee.builder()
-                .id("2")
+                .id(JANE_ID)
                 .employeeName("Jane Smith")
                 .employeeSalary(85000)
                 .employeeAge(28)
@@ -58,7 +84,7 @@ class EmployeeServiceTest {
                 .build();
 
         employee3 = Employee.builder()
-                .id("3")
+                .id(BOB_ID)
                 .employeeName("Bob Johnson")
                 .employeeSalary(95000)
                 .employeeAge(35)
@@ -85,7 +111,7 @@ class EmployeeServiceTest {
     @Test
     void getEmployeesByNameSearch_ShouldReturnMatchingEmployees() {
         // Given
-        when(employeeApiClient.getAllEmployees()).thenReturn(allEmployees);
+        when(employeeApiClient.searchEmployeesByName("John")).thenReturn(Arrays.asList(employee1, employee3));
 
         // When
         List<Employee> result = employeeService.getEmployeesByNameSearch("John");
@@ -99,7 +125,7 @@ class EmployeeServiceTest {
     @Test
     void getEmployeesByNameSearch_CaseInsensitive_ShouldReturnMatchingEmployees() {
         // Given
-        when(employeeApiClient.getAllEmployees()).thenReturn(allEmployees);
+        when(employeeApiClient.searchEmployeesByName("JANE")).thenReturn(List.of(employee2));
 
         // When
         List<Employee> result = employeeService.getEmployeesByNameSearch("JANE");
@@ -112,10 +138,10 @@ class EmployeeServiceTest {
     @Test
     void getEmployeeById_ShouldReturnEmployee() {
         // Given
-        when(employeeApiClient.getEmployeeById("1")).thenReturn(employee1);
+        when(employeeApiClient.getEmployeeById(JOHN_ID)).thenReturn(employee1);
 
         // When
-        Employee result = employeeService.getEmployeeById("1");
+        Employee result = employeeService.getEmployeeById(JOHN_ID);
 
         // Then
         assertThat(result).isEqualTo(employee1);
@@ -124,12 +150,33 @@ class EmployeeServiceTest {
     @Test
     void getEmployeeById_WhenNotFound_ShouldThrowException() {
         // Given
-        when(employeeApiClient.getEmployeeById("999")).thenThrow(new RuntimeException("Not found"));
+        when(employeeApiClient.getEmployeeById(UNKNOWN_ID)).thenThrow(HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, new byte[0], null));
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.getEmployeeById(UNKNOWN_ID))
+                .isInstanceOf(EmployeeNotFoundException.class)
+                .hasMessageContaining(UNKNOWN_ID);
+    }
 
+    @Test
+    void getEmployeeById_WithMalformedId_ShouldThrowNotFoundWithoutCallingUpstream() {
         // When & Then
-        assertThatThrownBy(() -> employeeService.getEmployeeById("999"))
+        assertThatThrownBy(() -> employeeService.getEmployeeById("not-a-uuid"))
                 .isInstanceOf(EmployeeNotFoundException.class)
-                .hasMessageContaining("999");
+                .hasMessageContaining("not-a-uuid");
+        verify(employeeApiClient, never()).getEmployeeById(anyString());
+    }
+
+    @Test
+    void getEmployeeById_WhenUpstreamFails_ShouldPropagateFailure() {
+        // Given
+        when(employeeApiClient.getEmployeeById(JOHN_ID)).thenThrow(HttpServerErrorException.create(
+                HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null));
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.getEmployeeById(JOHN_ID))
+                .isInstanceOf(HttpServerErrorException.class);
     }
 
     @Test
@@ -147,7 +194,7 @@ class EmployeeServiceTest {
     @Test
     void getTopTenHighestEarningEmployeeNames_ShouldReturnTopEarners() {
         // Given
-        when(employeeApiClient.getAllEmployees()).thenReturn(allEmployees);
+        when(employeeApiClient.getAllEmployees()).thenReturn(Arrays.asList(employee1, employee3, employee2));
 
         // When
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
@@ -168,7 +215,7 @@ class EmployeeServiceTest {
                 .build();
 
         Employee createdEmployee = Employee.builder()
-                .id("4")
+                .id(NEW_ID)
                 .employeeName("New Employee")
                 .employeeSalary(70000)
                 .employeeAge(25)
@@ -188,24 +235,183 @@ class EmployeeServiceTest {
     @Test
     void deleteEmployeeById_ShouldReturnDeletedEmployeeName() {
         // Given
-        when(employeeApiClient.getEmployeeById("1")).thenReturn(employee1);
-        when(employeeApiClient.deleteEmployeeByName("John Doe")).thenReturn(true);
+        when(employeeApiClient.deleteEmployeesByIds(List.of(JOHN_ID))).thenReturn(List.of(deleted(employee1)));
 
         // When
-        String result = employeeService.deleteEmployeeById("1");
+        String result = employeeService.deleteEmployeeById(JOHN_ID);
 
         // Then
         assertThat(result).isEqualTo("John Doe");
+        verify(employeeApiClient, never()).getEmployeeById(anyString());
     }
 
     @Test
     void deleteEmployeeById_WhenEmployeeNotFound_ShouldThrowException() {
         // Given
-        when(employeeApiClient.getEmployeeById("999")).thenThrow(new RuntimeException("Not found"));
+        when(employeeApiClient.deleteEmployeesByIds(List.of(UNKNOWN_ID))).thenReturn(List.of(
+                EmployeeBatchResult.builder().index(0).outcome(EmployeeBatchResult.Outcome.NOT_FOUND).build()));
 
         // When & Then
-        assertThatThrownBy(() -> employeeService.deleteEmployeeById("999"))
+        assertThatThrownBy(() -> employeeService.deleteEmployeeById(UNKNOWN_ID))
                 .isInstanceOf(EmployeeNotFoundException.class);
     }
-}
 
+    @Test
+    void deleteEmployeeById_WithMalformedId_ShouldThrowNotFoundWithoutCallingUpstream() {
+        // When & Then
+        assertThatThrownBy(() -> employeeService.deleteEmployeeById("not-a-uuid"))
+                .isInstanceOf(EmployeeNotFoundException.class);
+        verify(employeeApiClient, never()).deleteEmployeesByIds(any());
+    }
+
+    @Test
+    void deleteEmployeeById_WhenRetriesExhausted_ShouldPropagateFailure() {
+        // Given
+        when(employeeApiClient.deleteEmployeesByIds(List.of(JOHN_ID)))
+                .thenThrow(new EmployeeServiceException("Failed to execute request after 5 attempts"));
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.deleteEmployeeById(JOHN_ID))
+                .isInstanceOf(EmployeeServiceException.class);
+    }
+
+    @Test
+    void getAllEmployees_WhenCalledTwice_ShouldFetchUpstreamOnce() {
+        // Given
+        when(employeeApiClient.getAllEmployees()).thenReturn(allEmployees);
+
+        // When
+        employeeService.getAllEmployees();
+        List<Employee> result = employeeService.getAllEmployees();
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(allEmployees);
+        verify(employeeApiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void analytics_WhenEmployeeListCached_ShouldNotCallUpstream() {
+        // Given
+        when(employeeApiClient.getAllEmployees()).thenReturn(allEmployees);
+        employeeService.getAllEmployees();
+
+        // When
+        Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
+        List<String> topEarners = employeeService.getTopTenHighestEarningEmployeeNames();
+        List<Employee> matches = employeeService.getEmployeesByNameSearch("JOHN");
+
+        // Then
+        assertThat(highestSalary).isEqualTo(95000);
+        assertThat(topEarners).containsExactly("Bob Johnson", "Jane Smith", "John Doe");
+        assertThat(matches).extracting(Employee::getEmployeeName)
+                .containsExactly("John Doe", "Bob Johnson");
+        verify(employeeApiClient, never()).getHighestSalary();
+        verify(employeeApiClient, never()).getTopEarningEmployees(anyInt());
+        verify(employeeApiClient, never()).searchEmployeesByName(anyString());
+    }
+
+    @Test
+    void createEmployee_ShouldWriteThroughToCachedList() {
+        // Given
+        EmployeeInput input = EmployeeInput.builder()
+                .name("New Employee")
+                .salary(70000)
+                .age(25)
+                .title("Junior Developer")
+                .build();
+        Employee createdEmployee = Employee.builder()
+                .id(NEW_ID)
+                .employeeName("New Employee")
+                .employeeSalary(70000)
+                .build();
+        when(employeeApiClient.getAllEmployees()).thenReturn(allEmployees);
+        when(employeeApiClient.createEmployee(input)).thenReturn(createdEmployee);
+        employeeService.getAllEmployees();
+
+        // When
+        employeeService.createEmployee(input);
+
+        // Then
+        assertThat(employeeService.getAllEmployees()).contains(createdEmployee);
+        assertThat(employeeService.getEmployeeById(NEW_ID)).isEqualTo(createdEmployee);
+        verify(employeeApiClient, times(1)).getAllEmployees();
+        verify(employeeApiClient, never()).getEmployeeById(NEW_ID);
+    }
+
+    @Test
+    void deleteEmployeeById_ShouldEvictFromCachedList() {
+        // Given
+        when(employeeApiClient.getAllEmployees()).thenReturn(allEmployees);
+        when(employeeApiClient.deleteEmployeesByIds(List.of(JOHN_ID))).thenReturn(List.of(deleted(employee1)));
+        employeeService.getAllEmployees();
+
+        // When
+        employeeService.deleteEmployeeById(JOHN_ID);
+
+        // Then
+        assertThat(employeeService.getAllEmployees()).doesNotContain(employee1);
+        verify(employeeApiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void salaryAnalytics_ShouldFollowCreatesAndDeletesWithoutRefetching() {
+        // Given
+        EmployeeInput input = EmployeeInput.builder()
+                .name("New Employee")
+                .salary(120000)
+                .age(25)
+                .title("Principal Engineer")
+                .build();
+        Employee createdEmployee = Employee.builder()
+                .id(NEW_ID)
+                .employeeName("New Employee")
+                .employeeSalary(120000)
+                .build();
+        when(employeeApiClient.getAllEmployees()).thenReturn(allEmployees);
+        when(employeeApiClient.createEmployee(input)).thenReturn(createdEmployee);
+        when(employeeApiClient.deleteEmployeesByIds(List.of(NEW_ID))).thenReturn(List.of(deleted(createdEmployee)));
+        when(employeeApiClient.deleteEmployeesByIds(List.of(BOB_ID))).thenReturn(List.of(deleted(employee3)));
+        employeeService.getHighestSalaryOfEmployees();
+
+        // When
+        employeeService.createEmployee(input);
+        Integer highestAfterCreate = employeeService.getHighestSalaryOfEmployees();
+        employeeService.deleteEmployeeById(NEW_ID);
+        employeeService.deleteEmployeeById(BOB_ID);
+        Integer highestAfterDeletes = employeeService.getHighestSalaryOfEmployees();
+        List<String> topEarners = employeeService.getTopTenHighestEarningEmployeeNames();
+
+        // Then
+        assertThat(highestAfterCreate).isEqualTo(120000);
+        assertThat(highestAfterDeletes).isEqualTo(85000);
+        assertThat(topEarners).containsExactly("Jane Smith", "John Doe");
+        verify(employeeApiClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void salaryAnalytics_WhenAggregateStale_ShouldResyncFromFullList() {
+        // Given
+        employeeCache = new EmployeeCache(Duration.ofMinutes(1), 100, Duration.ZERO);
+        employeeService = new EmployeeService(
+                employeeApiClient, new BlockingEmployeeApiClientAdapter(employeeApiClient), employeeCache,
+                EmployeeReplica.disabled());
+        when(employeeApiClient.getAllEmployees()).thenReturn(allEmployees, List.of(employee1));
+
+        // When
+        Integer first = employeeService.getHighestSalaryOfEmployees();
+        Integer second = employeeService.getHighestSalaryOfEmployees();
+
+        // Then
+        assertThat(first).isEqualTo(95000);
+        assertThat(second).isEqualTo(75000);
+        verify(employeeApiClient, times(2)).getAllEmployees();
+    }
+
+    private static EmployeeBatchResult deleted(Employee employee) {
+        return EmployeeBatchResult.builder()
+                .index(0)
+                .outcome(EmployeeBatchResult.Outcome.DELETED)
+                .employee(employee)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic employee data for benchmarks. Faker is far too slow to build millions of rows, so names and titles
+ * are drawn from small pools instead; a running number keeps names unique.
+ */
+final class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {
+        "Ada", "Alan", "Anna", "Barbara", "Claude", "Donald", "Edsger", "Frances", "Grace", "John", "Joan", "Ken",
+        "Leslie", "Margaret", "Niklaus", "Radia", "Shafi", "Tim", "Whitfield", "Yukihiro"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Allen", "Backus", "Berners-Lee", "Dijkstra", "Goldwasser", "Hamilton", "Hopper", "Knuth", "Lamport",
+        "Liskov", "Lovelace", "Matsumoto", "McCarthy", "Perlman", "Ritchie", "Shannon", "Thompson", "Turing", "Wirth"
+    };
+
+    private static final String[] TITLES = {
+        "Engineer", "Senior Engineer", "Staff Engineer", "Manager", "Director", "Analyst", "Designer", "Architect"
+    };
+
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {}
+
+    static List<MockEmployee> mockEmployees(int size) {
+        final var random = new SplittableRandom(SEED);
+        return IntStream.range(0, size)
+                .mapToObj(i -> MockEmployee.builder()
+                        .id(new UUID(random.nextLong(), random.nextLong()))
+                        .name(name(random, i))
+                        .salary(random.nextInt(30000, 500000))
+                        .age(random.nextInt(16, 70))
+                        .title(TITLES[random.nextInt(TITLES.length)])
+                        .email("employee" + i + "@company.com")
+                        .build())
+                .toList();
+    }
+
+    static List<Employee> employees(int size) {
+        final var random = new SplittableRandom(SEED);
+        return IntStream.range(0, size)
+                .mapToObj(i -> Employee.builder()
+                        .id(new UUID(random.nextLong(), random.nextLong()).toString())
+                        .employeeName(name(random, i))
+                        .employeeSalary(random.nextInt(30000, 500000))
+                        .employeeAge(random.nextInt(16, 70))
+                        .employeeTitle(TITLES[random.nextInt(TITLES.length)])
+                        .employeeEmail("employee" + i + "@company.com")
+                        .build())
+                .toList();
+    }
+
+    private static String name(SplittableRandom random, int index) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                + " " + index;
+    }
+
+    static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (final var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.EmployeeReplica;
+import com.reliaquest.api.client.AsyncEmployeeApiClient;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Analytics queries of the API's employee service, answered from an already cached employee list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var employees = BenchmarkData.employees(size);
+        final var cache = new EmployeeCache(Duration.ofDays(1), size);
+        // With the list cached and the salary aggregate synced, the blocking query client is never reached
+        employeeService =
+                new EmployeeService(null, new FixedEmployeeApiClient(employees), cache, EmployeeReplica.disabled());
+        employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.getEmployeesByNameSearch("lovelace");
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> topTenEarners() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+
+    /**
+     * Answers every call from a fixed employee list. Writes are answered as the mock server would answer them but leave
+     * the list unchanged, so every iteration sees the same data.
+     */
+    private static final class FixedEmployeeApiClient implements AsyncEmployeeApiClient {
+
+        private final List<Employee> employees;
+        private final Map<String, Employee> employeesById;
+        private final Set<String> names;
+
+        FixedEmployeeApiClient(List<Employee> employees) {
+            this.employees = employees;
+            this.employeesById = employees.stream().collect(Collectors.toMap(Employee::getId, Function.identity()));
+            this.names = employees.stream().map(Employee::getEmployeeName).collect(Collectors.toSet());
+        }
+
+        @Override
+        public CompletableFuture<List<Employee>> getAllEmployees() {
+            return CompletableFuture.completedFuture(employees);
+        }
+
+        @Override
+        public CompletableFuture<Employee> getEmployeeById(String id) {
+            final var employee = employeesById.get(id);
+            return employee != null
+                    ? CompletableFuture.completedFuture(employee)
+                    : CompletableFuture.failedFuture(HttpClientErrorException.create(
+                            HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, new byte[0], null));
+        }
+
+        @Override
+        public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+            return CompletableFuture.completedFuture(Employee.builder()
+                    .id(new UUID(0, employees.size()).toString())
+                    .employeeName(employeeInput.getName())
+                    .employeeSalary(employeeInput.getSalary())
+                    .employeeAge(employeeInput.getAge())
+                    .employeeTitle(employeeInput.getTitle())
+                    .build());
+        }
+
+        @Override
+        public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+            return CompletableFuture.completedFuture(names.contains(name));
+        }
+
+        @Override
+        public CompletableFuture<String> deleteEmployeeById(String id) {
+            final var employee = employeesById.get(id);
+            return CompletableFuture.completedFuture(employee != null ? employee.getEmployeeName() : null);
+        }
+    }
+}
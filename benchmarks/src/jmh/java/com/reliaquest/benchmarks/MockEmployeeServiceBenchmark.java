@@ -0,0 +1,113 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.feed.ChangeFeed;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.StoreLayout;
+import jakarta.validation.Validation;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Point lookups, deletes and salary rankings on the mock server's employee service as the table grows, for each
+ * {@link StoreLayout}. Heap footprint per layout is measured separately by {@link StoreFootprint}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    private static final int SAMPLES = 4096;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"objects", "columnar", "mapped"})
+    public String layout;
+
+    private Path directory;
+    private EmployeeStore store;
+    private MockEmployeeService service;
+    private MockEmployee[] samples;
+    private DeleteMockEmployeeInput[] deleteInputs;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final var employees = BenchmarkData.mockEmployees(size);
+        directory = Files.createTempDirectory("employee-store-benchmark");
+        // Journaled into a change feed, as on the server
+        final var changeFeed = new ChangeFeed(10_000);
+        store = StoreLayout.valueOf(layout.toUpperCase(Locale.ROOT)).create(size, changeFeed, directory);
+        store.addAll(employees);
+        service = new MockEmployeeService(
+                new Faker(), store, changeFeed, Validation.buildDefaultValidatorFactory().getValidator());
+
+        final var random = new SplittableRandom(7L);
+        samples = new MockEmployee[SAMPLES];
+        deleteInputs = new DeleteMockEmployeeInput[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = employees.get(random.nextInt(size));
+            deleteInputs[i] = new DeleteMockEmployeeInput();
+            deleteInputs[i].setName(samples[i].getName());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (store instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        BenchmarkData.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return service.findById(samples[nextSample()].getId());
+    }
+
+    @Benchmark
+    public OptionalInt findHighestSalary() {
+        return service.findHighestSalary();
+    }
+
+    @Benchmark
+    public List<MockEmployee> findTopTenBySalary() {
+        return service.findTopBySalary(10);
+    }
+
+    /*
+     * Each delete is followed by re-inserting the same employee so the table size stays fixed across iterations.
+     */
+    @Benchmark
+    public boolean deleteAndReinsert() {
+        final var sample = nextSample();
+        final var deleted = service.delete(deleteInputs[sample]);
+        store.add(samples[sample]);
+        return deleted;
+    }
+
+    private int nextSample() {
+        return next++ & (SAMPLES - 1);
+    }
+}
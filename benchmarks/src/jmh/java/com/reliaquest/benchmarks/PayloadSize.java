@@ -0,0 +1,48 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Prints the size of the full employee list response in each wire format, as sent and gzipped, for each employee count
+ * in {@code args} (default 10K and 1M): {@code ./gradlew benchmarks:payloadSize -PpayloadSizes=10000,1000000}.
+ */
+public final class PayloadSize {
+
+    private PayloadSize() {}
+
+    public static void main(String[] args) throws IOException {
+        final var sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[] {10_000, 1_000_000};
+        for (final var size : sizes) {
+            final var response = Response.handledWith(BenchmarkData.mockEmployees(size));
+            for (final var format : WireFormats.NAMES) {
+                final var payload = WireFormats.listWriter(WireFormats.serverMapper(format))
+                        .writeValueAsBytes(response);
+                final var gzipped = gzip(payload).length;
+                System.out.printf(
+                        Locale.ROOT,
+                        "%-5s %,d employees: %,d bytes (%,d per employee), %,d bytes gzipped (%,d per employee)%n",
+                        format,
+                        size,
+                        payload.length,
+                        payload.length / size,
+                        gzipped,
+                        gzipped / size);
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        final var out = new ByteArrayOutputStream(payload.length / 4);
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.toByteArray();
+    }
+}
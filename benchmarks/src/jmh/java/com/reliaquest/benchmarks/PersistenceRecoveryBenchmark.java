@@ -0,0 +1,88 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.persistence.EmployeePersistence;
+import com.reliaquest.server.store.MappedEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.StoreJournal;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Startup recovery of the mock server's table: loading a snapshot of {@code size} employees, replaying a log tail of
+ * {@code tail} changes written after it, and rebuilding the store's indexes. For comparison, {@link #reopenMapped()}
+ * reopens a mapped store holding the same rows, which only rebuilds its indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersistenceRecoveryBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"0", "100000"})
+    public int tail;
+
+    private Path directory;
+    private Path mappedDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("employee-recovery-benchmark");
+        final var employees = BenchmarkData.mockEmployees(size + tail);
+
+        // First run: log the table and let close() compact it into a snapshot
+        try (final var persistence = EmployeePersistence.open(directory, false)) {
+            final var store = new MockEmployeeStore(size, persistence.journal());
+            persistence.attach(store, Duration.ofDays(1));
+            store.addAll(employees.subList(0, size));
+        }
+
+        // Second run: log the tail without attaching a store, so no snapshot absorbs it
+        try (final var persistence = EmployeePersistence.open(directory, false)) {
+            final var store = new MockEmployeeStore(size + tail, persistence.journal());
+            store.restore(persistence.recoveredEmployees());
+            store.addAll(employees.subList(size, size + tail));
+        }
+
+        mappedDirectory = directory.resolve("mapped");
+        try (final var store = MappedEmployeeStore.open(mappedDirectory, size + tail, StoreJournal.NONE)) {
+            store.addAll(employees);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkData.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public MockEmployeeStore recover() throws IOException {
+        try (final var persistence = EmployeePersistence.open(directory, false)) {
+            final var recovered = persistence.recoveredEmployees();
+            final var store = new MockEmployeeStore(recovered.size(), persistence.journal());
+            store.restore(recovered);
+            return store;
+        }
+    }
+
+    @Benchmark
+    public MappedEmployeeStore reopenMapped() throws IOException {
+        final var store = MappedEmployeeStore.open(mappedDirectory, size + tail, StoreJournal.NONE);
+        store.close();
+        return store;
+    }
+}
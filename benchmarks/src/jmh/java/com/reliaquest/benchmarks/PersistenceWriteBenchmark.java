@@ -0,0 +1,75 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeePersistence;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Durable create throughput of the mock server's store through the write-ahead log, with and without {@code fsync}.
+ * Comparing one writer with many shows how much group commit amortizes each flush.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PersistenceWriteBenchmark {
+
+    private static final int POOL = 4096;
+
+    @Param({"true", "false"})
+    public boolean fsync;
+
+    private Path directory;
+    private EmployeePersistence persistence;
+    private MockEmployeeStore store;
+    private List<MockEmployee> pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("employee-wal-benchmark");
+        persistence = EmployeePersistence.open(directory, fsync);
+        store = new MockEmployeeStore(POOL, persistence.journal());
+        pool = BenchmarkData.mockEmployees(POOL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        persistence.close();
+        BenchmarkData.deleteRecursively(directory);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    /*
+     * Re-inserting employees from a fixed pool keeps the table small; every call still logs one create.
+     */
+    @Benchmark
+    @Threads(1)
+    public void createSingleWriter(Cursor cursor) {
+        store.add(pool.get(cursor.next++ & (POOL - 1)));
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void createConcurrentWriters(Cursor cursor) {
+        store.add(pool.get(cursor.next++ & (POOL - 1)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.web.RequestLimiter;
+import com.reliaquest.server.web.TokenBucketLimiter;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Per-request cost of the mock server's {@link TokenBucketLimiter} with several threads at once, either all on one
+ * client's bucket (the worst case for compare-and-set contention) or spread over many clients. {@code admit} uses a
+ * budget that never runs out, so every call advances its bucket; {@code reject} one that is spent, so every call only
+ * reads it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class RequestLimiterBenchmark {
+
+    private static final String ENDPOINT = "/api/v1/employee/{id}";
+
+    @Param({"1", "1024"})
+    public int clients;
+
+    private TokenBucketLimiter unlimited;
+    private TokenBucketLimiter spent;
+    private String[] clientKeys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        unlimited = new TokenBucketLimiter(
+                new TokenBucketLimiter.Budget(1_000_000_000, Duration.ofSeconds(1)), Map.of());
+        spent = new TokenBucketLimiter(new TokenBucketLimiter.Budget(1, Duration.ofHours(1)), Map.of());
+        clientKeys = IntStream.range(0, clients)
+                .mapToObj(i -> "10.0.%d.%d".formatted(i >> 8, i & 0xff))
+                .toArray(String[]::new);
+        for (final var clientKey : clientKeys) {
+            spent.tryAcquire(clientKey, ENDPOINT);
+        }
+    }
+
+    /**
+     * Each thread walks the client keys from its own starting point.
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+
+        private String[] clientKeys;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(RequestLimiterBenchmark benchmark) {
+            clientKeys = benchmark.clientKeys;
+            next = ThreadLocalRandom.current().nextInt(clientKeys.length);
+        }
+
+        String clientKey() {
+            if (++next == clientKeys.length) {
+                next = 0;
+            }
+            return clientKeys[next];
+        }
+    }
+
+    @Benchmark
+    public RequestLimiter.Decision admit(Caller caller) {
+        return unlimited.tryAcquire(caller.clientKey(), ENDPOINT);
+    }
+
+    @Benchmark
+    public RequestLimiter.Decision reject(Caller caller) {
+        return spent.tryAcquire(caller.clientKey(), ENDPOINT);
+    }
+}
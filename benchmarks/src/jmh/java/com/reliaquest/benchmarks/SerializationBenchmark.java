@@ -0,0 +1,79 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Jackson cost of an employee list on both sides of the wire: the mock server writing its {@link Response} and the
+ * API reading (and writing) {@link ApiResponse.EmployeeListResponse}. Mappers are configured like the applications'.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"100", "10000"})
+    public int count;
+
+    private ObjectWriter serverWriter;
+    private ObjectReader apiReader;
+    private ObjectWriter apiWriter;
+    private Response<List<MockEmployee>> serverResponse;
+    private ApiResponse.EmployeeListResponse apiResponse;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final ObjectMapper serverMapper = JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        final ObjectMapper apiMapper = JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+        serverWriter = serverMapper.writerFor(serverMapper.getTypeFactory()
+                .constructParametricType(
+                        Response.class,
+                        serverMapper.getTypeFactory().constructCollectionType(List.class, MockEmployee.class)));
+        apiReader = apiMapper.readerFor(ApiResponse.EmployeeListResponse.class);
+        apiWriter = apiMapper.writerFor(ApiResponse.EmployeeListResponse.class);
+
+        serverResponse = Response.handledWith(BenchmarkData.mockEmployees(count));
+        json = serverWriter.writeValueAsBytes(serverResponse);
+        apiResponse = apiReader.readValue(json);
+    }
+
+    @Benchmark
+    public byte[] serializeServerResponse() throws IOException {
+        return serverWriter.writeValueAsBytes(serverResponse);
+    }
+
+    @Benchmark
+    public ApiResponse.EmployeeListResponse deserializeApiResponse() throws IOException {
+        return apiReader.readValue(json);
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() throws IOException {
+        return apiWriter.writeValueAsBytes(apiResponse);
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.StoreJournal;
+import com.reliaquest.server.store.StoreLayout;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Prints the heap retained by each store layout once filled with {@code args[0]} employees (default 1M). JMH measures
+ * time, not memory, so this runs on its own: {@code ./gradlew benchmarks:footprint -PfootprintSize=1000000}.
+ *
+ * <p>Each store is filled from a freshly generated list that is dropped before measuring, so the objects layout is
+ * charged for the employees it keeps, the columnar layout only for its arrays and the mapped layout only for its
+ * indexes, its records being outside the heap.
+ */
+public final class StoreFootprint {
+
+    private StoreFootprint() {}
+
+    public static void main(String[] args) throws Exception {
+        final var size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        for (final var layout : StoreLayout.values()) {
+            measure(layout, size);
+        }
+    }
+
+    private static void measure(StoreLayout layout, int size) throws Exception {
+        final var directory = Files.createTempDirectory("employee-store-footprint");
+        final var before = usedHeapAfterGc();
+        final var store = fill(layout, size, directory);
+        final var retained = usedHeapAfterGc() - before;
+        System.out.printf(
+                Locale.ROOT,
+                "%-9s %,d employees: %,d MB retained, %,d bytes per employee%n",
+                layout.name().toLowerCase(Locale.ROOT),
+                store.size(),
+                retained >> 20,
+                retained / size);
+        Reference.reachabilityFence(store);
+        if (store instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        BenchmarkData.deleteRecursively(directory);
+    }
+
+    private static EmployeeStore fill(StoreLayout layout, int size, Path directory) throws IOException {
+        final var store = layout.create(size, StoreJournal.NONE, directory);
+        store.addAll(BenchmarkData.mockEmployees(size));
+        return store;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        final var runtime = Runtime.getRuntime();
+        var used = Long.MAX_VALUE;
+        // Repeat until a collection frees nothing more
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(100);
+            final var now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                return now;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,59 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * CPU cost of the full employee list in each wire format: the mock server encoding its {@link Response} and the API
+ * decoding it into {@link ApiResponse.EmployeeListResponse}. JMH measures time only; the payload sizes are printed by
+ * {@link PayloadSize} ({@code ./gradlew benchmarks:payloadSize}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WireFormatBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    private ObjectWriter serverWriter;
+    private ObjectReader apiReader;
+    private Response<List<MockEmployee>> serverResponse;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        serverWriter = WireFormats.listWriter(WireFormats.serverMapper(format));
+        apiReader = WireFormats.apiMapper(format).readerFor(ApiResponse.EmployeeListResponse.class);
+        serverResponse = Response.handledWith(BenchmarkData.mockEmployees(size));
+        payload = serverWriter.writeValueAsBytes(serverResponse);
+    }
+
+    @Benchmark
+    public byte[] encodeServerResponse() throws IOException {
+        return serverWriter.writeValueAsBytes(serverResponse);
+    }
+
+    @Benchmark
+    public ApiResponse.EmployeeListResponse decodeApiResponse() throws IOException {
+        return apiReader.readValue(payload);
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.util.List;
+
+/**
+ * Mappers for each wire format spoken between the API and the mock server, configured like the applications': the
+ * server's and the API's binary mappers are built by Spring's {@code Jackson2ObjectMapperBuilder}, which leaves unknown
+ * properties unchecked, and Smile back-references repeated short values as well as property names.
+ */
+final class WireFormats {
+
+    static final List<String> NAMES = List.of("json", "smile", "cbor");
+
+    private WireFormats() {}
+
+    static ObjectMapper serverMapper(String format) {
+        if (!format.equals("json")) {
+            return binaryMapper(format);
+        }
+        return JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    static ObjectMapper apiMapper(String format) {
+        if (!format.equals("json")) {
+            return binaryMapper(format);
+        }
+        return JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .build();
+    }
+
+    /**
+     * Writer for the mock server's employee list response.
+     */
+    static ObjectWriter listWriter(ObjectMapper mapper) {
+        final var typeFactory = mapper.getTypeFactory();
+        return mapper.writerFor(typeFactory.constructParametricType(
+                Response.class, typeFactory.constructCollectionType(List.class, MockEmployee.class)));
+    }
+
+    private static ObjectMapper binaryMapper(String format) {
+        return switch (format) {
+            case "smile" -> SmileMapper.builder(SmileFactory.builder()
+                            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                            .build())
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .build();
+            case "cbor" -> CBORMapper.builder()
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown wire format: " + format);
+        };
+    }
+}
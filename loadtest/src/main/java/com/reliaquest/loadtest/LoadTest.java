@@ -0,0 +1,77 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end load test: boots the mock server (with its rate limiting, at fixed limits) and the API in this JVM on
+ * random ports, points the API at the server and drives it with {@link OpenLoadGenerator}. Both applications get their
+ * own config file ({@code loadtest-server.yml}, {@code loadtest-api.yml}) since their {@code application.yml}s collide
+ * on a shared classpath.
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws IOException {
+        final var config = LoadTestConfig.fromSystemProperties();
+        final var upstream = new UpstreamCallCounter();
+
+        try (final var server = startServer(config, upstream);
+                final var api = startApi(config, server)) {
+            final var employees =
+                    server.getBean(MockEmployeeService.class).getMockEmployees();
+            final var generator = new OpenLoadGenerator(
+                    config,
+                    "http://localhost:" + port(api),
+                    employees.stream().map(employee -> employee.getId().toString()).toList(),
+                    employees.stream().map(MockEmployee::getName).toList());
+
+            System.out.printf(
+                    "Load test: %.1f req/s for %s after %s warmup, mix %s, API arguments %s%n",
+                    config.rate(), config.duration(), config.warmup(), config.mix(), config.apiArgs());
+            final var results = generator.run(upstream::reset);
+            final var report = LoadTestReport.of(config, results, upstream.snapshot());
+
+            Files.createDirectories(config.report().toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(config.report().toFile(), report);
+            System.out.printf(
+                    "%.1f req/s, p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, %d upstream calls (%s); report: %s%n",
+                    report.throughput(),
+                    report.overall().p50Ms(),
+                    report.overall().p99Ms(),
+                    report.overall().p999Ms(),
+                    report.upstream().calls(),
+                    report.upstream().statuses(),
+                    config.report().toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext startServer(LoadTestConfig config, UpstreamCallCounter upstream) {
+        return new SpringApplicationBuilder(ServerApplication.class)
+                .initializers(context -> context.getBeanFactory().registerSingleton("upstreamCallCounter", upstream))
+                .run("--spring.config.name=loadtest-server", "--mock.employees.max=" + config.employees());
+    }
+
+    private static ConfigurableApplicationContext startApi(
+            LoadTestConfig config, ConfigurableApplicationContext server) {
+        final var args = new ArrayList<String>();
+        args.add("--spring.config.name=loadtest-api");
+        args.add("--employee.service.base-url=http://localhost:" + port(server));
+        args.addAll(config.apiArgs());
+        return new SpringApplicationBuilder(ApiApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static String port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port");
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties (see the {@code loadTest} task).
+ *
+ * @param rate requests started per second, independent of how fast the API answers
+ * @param mix relative weight of each operation
+ * @param employees employees the mock server starts with
+ * @param apiArgs further {@code --name=value} arguments the API is started with, e.g. to compare thread modes
+ */
+record LoadTestConfig(
+        double rate,
+        Duration duration,
+        Duration warmup,
+        Map<Operation, Integer> mix,
+        int employees,
+        Duration requestTimeout,
+        List<String> apiArgs,
+        Path report) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Double.parseDouble(System.getProperty("loadtest.rate", "50")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "60s")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s")),
+                parseMix(System.getProperty("loadtest.mix", "search:30,top-ten:20,get-by-id:30,create:10,delete:10")),
+                Integer.parseInt(System.getProperty("loadtest.employees", "1000")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.request-timeout", "60s")),
+                parseArgs(System.getProperty("loadtest.api-args", "")),
+                Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/report.json")));
+    }
+
+    static List<String> parseArgs(String args) {
+        return args.isBlank() ? List.of() : List.of(args.trim().split("\\s+"));
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        final var weights = new EnumMap<Operation, Integer>(Operation.class);
+        for (final var entry : mix.split(",")) {
+            final var parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries must look like operation:weight, got " + entry);
+            }
+            final var weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative, got " + entry);
+            }
+            weights.put(Operation.fromKey(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must give at least one operation a positive weight.");
+        }
+        return Collections.unmodifiableMap(weights);
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Machine-readable result of a load test run. Latencies are in milliseconds and measured from when a request was
+ * scheduled to start, so time spent queued behind a slow API counts against it.
+ */
+record LoadTestReport(
+        Settings settings,
+        double measuredSeconds,
+        double throughput,
+        OperationStats overall,
+        Map<String, OperationStats> operations,
+        UpstreamStats upstream) {
+
+    record Settings(
+            double rate,
+            String duration,
+            String warmup,
+            Map<String, Integer> mix,
+            int employees,
+            List<String> apiArgs) {}
+
+    record OperationStats(
+            long requests,
+            long succeeded,
+            long failed,
+            long timedOut,
+            long skipped,
+            Map<Integer, Long> statuses,
+            double p50Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs) {}
+
+    /**
+     * Calls the mock server received from the API while measuring, by response status.
+     */
+    record UpstreamStats(long calls, Map<Integer, Long> statuses, double callsPerRequest) {}
+
+    static LoadTestReport of(
+            LoadTestConfig config, Map<Operation, OpenLoadGenerator.Results> results, Map<Integer, Long> upstream) {
+        final var mix = new LinkedHashMap<String, Integer>();
+        config.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        final var settings = new Settings(
+                config.rate(),
+                config.duration().toString(),
+                config.warmup().toString(),
+                mix,
+                config.employees(),
+                config.apiArgs());
+
+        final var operations = new LinkedHashMap<String, OperationStats>();
+        final var all = new OpenLoadGenerator.Results();
+        results.forEach((operation, operationResults) -> {
+            operations.put(operation.key(), stats(operationResults));
+            all.add(operationResults);
+        });
+        final var overall = stats(all);
+
+        final var upstreamCalls =
+                upstream.values().stream().mapToLong(Long::longValue).sum();
+        final var measuredSeconds = config.duration().toNanos() / (double) Duration.ofSeconds(1).toNanos();
+        final var completed = overall.succeeded() + overall.failed();
+        return new LoadTestReport(
+                settings,
+                measuredSeconds,
+                completed / measuredSeconds,
+                overall,
+                operations,
+                new UpstreamStats(
+                        upstreamCalls,
+                        upstream,
+                        overall.requests() == 0 ? 0 : upstreamCalls / (double) overall.requests()));
+    }
+
+    private static OperationStats stats(OpenLoadGenerator.Results results) {
+        final var latencies = results.latencies().sorted();
+        final var statuses = new TreeMap<Integer, Long>();
+        results.statuses().forEach((status, count) -> statuses.put(status, count.sum()));
+        final var succeeded = results.succeeded().sum();
+        final var failed = results.failed().sum();
+        final var timedOut = results.timedOut().sum();
+        return new OperationStats(
+                succeeded + failed + timedOut,
+                succeeded,
+                failed,
+                timedOut,
+                results.skipped().sum(),
+                statuses,
+                millis(LatencyRecorder.percentile(latencies, 50)),
+                millis(LatencyRecorder.percentile(latencies, 99)),
+                millis(LatencyRecorder.percentile(latencies, 99.9)),
+                millis(LatencyRecorder.percentile(latencies, 100)));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,267 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model workload: requests start on a fixed schedule whatever the API's response times, each on its own virtual
+ * thread, so a slow API builds up concurrency instead of quietly lowering the offered load. Latency is measured from
+ * the scheduled start, which keeps queueing delay in the numbers (no coordinated omission).
+ */
+final class OpenLoadGenerator {
+
+    private static final String EMPLOYEES = "/api/v1/employee";
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final List<String> ids;
+    private final List<String> names;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Map<Operation, Results> results = new EnumMap<>(Operation.class);
+
+    /*
+     * Employees created by the run. Deletes only remove these, so the seeded employees stay available to get-by-id.
+     */
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong createdCount = new AtomicLong();
+
+    /**
+     * @param ids IDs of employees known to exist, used by get-by-id
+     * @param names names of existing employees, used to build search fragments
+     */
+    OpenLoadGenerator(LoadTestConfig config, String baseUrl, List<String> ids, List<String> names) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.ids = List.copyOf(ids);
+        this.names = List.copyOf(names);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        final var weighted =
+                config.mix().entrySet().stream().filter(entry -> entry.getValue() > 0).toList();
+        this.operations = new Operation[weighted.size()];
+        this.cumulativeWeights = new int[weighted.size()];
+        int total = 0;
+        for (int i = 0; i < weighted.size(); i++) {
+            total += weighted.get(i).getValue();
+            operations[i] = weighted.get(i).getKey();
+            cumulativeWeights[i] = total;
+        }
+        config.mix().keySet().forEach(operation -> results.put(operation, new Results()));
+    }
+
+    /**
+     * Runs the warmup and then the measured phase, returning once every started request has finished or timed out.
+     * Every warmup request has finished or timed out before the measured phase starts, so upstream calls made on behalf
+     * of the warmup are not counted against the measured phase. The measured schedule starts once the warmup has
+     * drained, so the time spent draining does not show up as queueing delay of the first measured requests.
+     *
+     * @param onMeasurementStart called when the warmup has drained, before the first measured request starts
+     */
+    Map<Operation, Results> run(Runnable onMeasurementStart) {
+        runPhase(config.warmup(), false);
+        onMeasurementStart.run();
+        runPhase(config.duration(), true);
+        return Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * Starts requests on schedule for {@code duration} and waits until all of them have finished or timed out.
+     */
+    private void runPhase(Duration duration, boolean record) {
+        final var intervalNanos = 1_000_000_000.0 / config.rate();
+        final var start = System.nanoTime();
+        final var end = start + duration.toNanos();
+
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                final var scheduled = start + (long) (i * intervalNanos);
+                if (scheduled - end >= 0) {
+                    break;
+                }
+                long wait;
+                while ((wait = scheduled - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                final var operation = nextOperation();
+                executor.execute(() -> execute(operation, scheduled, record));
+            }
+        }
+    }
+
+    private void execute(Operation operation, long scheduledNanos, boolean record) {
+        final var operationResults = results.get(operation);
+        final var request = request(operation);
+        if (request == null) {
+            if (record) {
+                operationResults.skipped().increment();
+            }
+            return;
+        }
+
+        int status;
+        String body = null;
+        try {
+            final var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            body = response.body();
+        } catch (HttpTimeoutException e) {
+            if (record) {
+                operationResults.timedOut().increment();
+            }
+            return;
+        } catch (IOException e) {
+            status = 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        final var latency = System.nanoTime() - scheduledNanos;
+
+        final var succeeded = status >= 200 && status < 300;
+        if (operation == Operation.CREATE && succeeded) {
+            rememberCreated(body);
+        }
+        if (record) {
+            operationResults.latencies().record(latency);
+            operationResults.statuses().computeIfAbsent(status, ignored -> new LongAdder()).increment();
+            (succeeded ? operationResults.succeeded() : operationResults.failed()).increment();
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        final var random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case SEARCH -> get(EMPLOYEES + "/search/" + pathSegment(searchFragment(random)));
+            case TOP_TEN -> get(EMPLOYEES + "/topTenHighestEarningEmployeeNames");
+            case GET_BY_ID -> ids.isEmpty() ? null : get(EMPLOYEES + "/" + ids.get(random.nextInt(ids.size())));
+            case CREATE -> builder(EMPLOYEES)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody(random)))
+                    .build();
+            case DELETE -> {
+                final var id = created.poll();
+                yield id == null ? null : builder(EMPLOYEES + "/" + id).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(config.requestTimeout())
+                .header("Accept", "application/json");
+    }
+
+    private String searchFragment(ThreadLocalRandom random) {
+        if (names.isEmpty()) {
+            return "an";
+        }
+        final var name = names.get(random.nextInt(names.size()));
+        final var length = Math.min(name.length(), 3);
+        final var from = random.nextInt(name.length() - length + 1);
+        return name.substring(from, from + length);
+    }
+
+    private String createBody(ThreadLocalRandom random) {
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "name", "Load Test " + createdCount.incrementAndGet(),
+                    "salary", random.nextInt(30000, 500000),
+                    "age", random.nextInt(16, 76),
+                    "title", "Load Tester"));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void rememberCreated(String body) {
+        try {
+            final var id = objectMapper.readTree(body).path("id").asText(null);
+            if (id != null) {
+                created.add(id);
+            }
+        } catch (JsonProcessingException e) {
+            // Not an employee; nothing to delete later
+        }
+    }
+
+    private Operation nextOperation() {
+        final var pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static String pathSegment(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * Outcome counters and latency samples of one operation during the measured phase.
+     */
+    record Results(
+            LatencyRecorder latencies,
+            LongAdder succeeded,
+            LongAdder failed,
+            LongAdder timedOut,
+            LongAdder skipped,
+            Map<Integer, LongAdder> statuses) {
+
+        Results() {
+            this(
+                    new LatencyRecorder(),
+                    new LongAdder(),
+                    new LongAdder(),
+                    new LongAdder(),
+                    new LongAdder(),
+                    new ConcurrentHashMap<>());
+        }
+
+        void add(Results other) {
+            for (final var latency : other.latencies().sorted()) {
+                latencies.record(latency);
+            }
+            succeeded.add(other.succeeded().sum());
+            failed.add(other.failed().sum());
+            timedOut.add(other.timedOut().sum());
+            skipped.add(other.skipped().sum());
+            other.statuses()
+                    .forEach((status, count) ->
+                            statuses.computeIfAbsent(status, ignored -> new LongAdder()).add(count.sum()));
+        }
+    }
+}
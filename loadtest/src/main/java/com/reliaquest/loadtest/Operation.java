@@ -0,0 +1,31 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * API operations the load test can mix, keyed by the names used in {@code loadtest.mix}.
+ */
+enum Operation {
+    SEARCH("search"),
+    TOP_TEN("top-ten"),
+    GET_BY_ID("get-by-id"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + key));
+    }
+}
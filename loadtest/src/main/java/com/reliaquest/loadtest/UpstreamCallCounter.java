@@ -0,0 +1,45 @@
+package com.reliaquest.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Registered in the mock server to count the requests the API sends upstream, by response status. Rate limited calls
+ * show up as 429.
+ */
+final class UpstreamCallCounter extends OncePerRequestFilter {
+
+    private final Map<Integer, LongAdder> byStatus = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            byStatus.computeIfAbsent(response.getStatus(), ignored -> new LongAdder())
+                    .increment();
+        }
+    }
+
+    /**
+     * Forgets the calls counted so far. Called once the warmup has drained, so only the measured phase is reported.
+     */
+    void reset() {
+        byStatus.clear();
+    }
+
+    Map<Integer, Long> snapshot() {
+        final var counts = new TreeMap<Integer, Long>();
+        byStatus.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
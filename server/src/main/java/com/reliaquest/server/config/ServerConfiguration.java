@@ -1,59 +1,222 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.reliaquest.server.feed.ChangeFeed;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.persistence.EmployeePersistence;
+import com.reliaquest.server.persistence.SeedFile;
+import com.reliaquest.server.seed.EmployeeSeedGenerator;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.StoreLayout;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import com.reliaquest.server.web.RequestLimiter;
+import com.reliaquest.server.web.TokenBucketLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<RequestLimiter> requestLimiter;
+
+    @Value("${mock.rate-limit.client-header:}")
+    private String rateLimitClientHeader;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Binary encodings of the same responses, used when a client asks for them in Accept. Both replace the converters
+     * Spring MVC would add on its own, so they get the application's Jackson settings, and keep their place after the
+     * JSON converter: a client that accepts anything still gets JSON. Smile refers back to property names it has
+     * already written, and here also to short repeated values such as titles.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        final var factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(factory).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /*
+     * Token bucket per client, refilling mock.rate-limit.capacity requests every mock.rate-limit.period-ms. Either is
+     * picked at random on startup when not configured (5 to 9 requests, 30 to 89 seconds), so clients cannot rely on
+     * fixed numbers; set both for repeatable runs. mock.rate-limit.endpoints gives endpoints budgets of their own.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public RequestLimiter requestLimiter(
+            @Value("${mock.rate-limit.enabled:true}") boolean enabled,
+            @Value("${mock.rate-limit.capacity:0}") int capacity,
+            @Value("${mock.rate-limit.period-ms:0}") long periodMs,
+            @Value("${mock.rate-limit.endpoints:}") String endpoints) {
+        if (!enabled) {
+            log.info("Request rate limit disabled");
+            return RequestLimiter.UNLIMITED;
+        }
+        final var random = RandomGenerator.getDefault();
+        final var budget = new TokenBucketLimiter.Budget(
+                capacity > 0 ? capacity : random.nextInt(5, 10),
+                Duration.ofMillis(periodMs > 0 ? periodMs : random.nextLong(30_000, 90_000)));
+        final var endpointBudgets = TokenBucketLimiter.Budget.parseEndpoints(endpoints);
+        log.info(
+                "Request rate limit: {} requests per {} ms per client, endpoint budgets {}",
+                budget.capacity(),
+                budget.period().toMillis(),
+                endpointBudgets);
+        return new TokenBucketLimiter(budget, endpointBudgets);
+    }
+
+    /*
+     * Numbers every change to the store for replicas; only the latest mock.changes.retained changes are kept.
+     */
+    @Bean
+    public ChangeFeed changeFeed(@Value("${mock.changes.retained:10000}") int retained) {
+        return new ChangeFeed(retained);
+    }
+
+    /*
+     * Opened (and recovered) before the store is built; closing it writes a final snapshot.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public EmployeePersistence employeePersistence(
+            @Value("${mock.persistence.directory:data}") String directory,
+            @Value("${mock.persistence.fsync:true}") boolean fsync)
+            throws IOException {
+        return EmployeePersistence.open(Path.of(directory), fsync);
+    }
+
+    /*
+     * Down while the write-ahead log has failed and writes are rejected, until the next write recovers it.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public HealthIndicator employeePersistenceHealthIndicator(EmployeePersistence persistence) {
+        return () -> persistence
+                .failure()
+                .map(failure -> Health.down(failure).build())
+                .orElseGet(() -> Health.up().build());
+    }
+
+    /*
+     * This store is modifiable by design for CRUD operations. With persistence enabled, data from a previous run is
+     * recovered instead of generating a new random table. mock.store.layout picks the layout; the mapped layout keeps
+     * the table in mock.store.directory itself, and is closed (forcing it to disk) through its inferred close method.
+     * Every change, the seed included, is also numbered by the change feed, once the write-ahead log has made it
+     * durable. If the log fails and the store is put back to its durable table, the feed starts a new epoch.
+     */
+    @Bean
+    public EmployeeStore mockEmployeeStore(
+            @Value("${mock.store.layout:objects}") StoreLayout layout,
+            @Value("${mock.store.directory:data/store}") String storeDirectory,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.seed-file:}") String seedFile,
+            ObjectProvider<EmployeePersistence> persistenceProvider,
+            ChangeFeed changeFeed,
+            @Value("${mock.persistence.snapshot-interval-ms:300000}") long snapshotIntervalMs)
+            throws IOException {
+        final var persistence = persistenceProvider.getIfAvailable();
+        if (layout.isPersistent()) {
+            if (persistence != null) {
+                throw new IllegalStateException(
+                        "The %s store layout persists the table itself; disable mock.persistence.".formatted(layout));
+            }
+            final var store = layout.create(maxEmployees, changeFeed, Path.of(storeDirectory));
+            if (store.size() == 0) {
+                store.addAll(seedEmployees(maxEmployees, seed, seedFile));
+            }
+            return store;
+        }
+        if (persistence == null) {
+            final var store = layout.create(maxEmployees, changeFeed, Path.of(storeDirectory));
+            store.addAll(seedEmployees(maxEmployees, seed, seedFile));
+            return store;
+        }
+
+        final var journal = persistence.journal().andThen(changeFeed);
+        final EmployeeStore store;
+        if (persistence.isEmpty()) {
+            store = layout.create(maxEmployees, journal, Path.of(storeDirectory));
+            // One batch, so the whole seed is made durable with a single flush
+            store.addAll(seedEmployees(maxEmployees, seed, seedFile));
+        } else {
+            final var recovered = persistence.recoveredEmployees();
+            store = layout.create(recovered.size(), journal, Path.of(storeDirectory));
+            store.restore(recovered);
+        }
+        persistence.attach(store, Duration.ofMillis(snapshotIntervalMs), changeFeed::restart);
+        return store;
+    }
+
+    /*
+     * Reads the seed file if there is one; otherwise generates the employees (from a random seed unless one is
+     * configured) and, if a seed file is configured, writes them to it for the next start.
+     */
+    private static List<MockEmployee> seedEmployees(int maxEmployees, Long seed, String seedFile) throws IOException {
+        final var started = System.nanoTime();
+        final var file = seedFile.isBlank() ? null : Path.of(seedFile);
+        if (file != null && Files.exists(file)) {
+            final var employees = SeedFile.read(file);
+            log.info("Loaded {} employees from seed file {} in {} ms", employees.size(), file, elapsedMs(started));
+            return employees;
+        }
+
+        final var effectiveSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        final var employees = new EmployeeSeedGenerator(Locale.getDefault(), effectiveSeed).generate(maxEmployees);
+        log.info("Generated {} employees from seed {} in {} ms", employees.size(), effectiveSeed, elapsedMs(started));
+        if (file != null) {
+            SeedFile.write(file, employees);
+            log.info("Wrote seed file {}", file);
+        }
+        return employees;
+    }
+
+    private static long elapsedMs(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(
+                new RequestLimitInterceptor(requestLimiter.getObject(), rateLimitClientHeader, meterRegistry));
     }
 }
@@ -0,0 +1,128 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.feed.ChangeHistoryUnavailableException;
+import com.reliaquest.server.model.ChangeFeedSnapshot;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.InvalidRequestException;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * The change feed: a snapshot of the table at a version, then every create and delete after it, numbered in the order
+ * the store applied them. A replica bootstraps from {@code /snapshot} once and then follows {@code /stream}, or polls
+ * {@code ?since=}. A version the feed can no longer serve answers 410, or a {@code reset} event on the stream, and the
+ * client starts again from a snapshot.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/employee/changes")
+@RequiredArgsConstructor
+public class EmployeeChangeController {
+
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(5);
+
+    private final MockEmployeeService mockEmployeeService;
+
+    /* Streams spend nearly all their time waiting for changes, so each gets a virtual thread. */
+    private final ExecutorService streams = Executors.newVirtualThreadPerTaskExecutor();
+
+    @GetMapping("/snapshot")
+    public Response<ChangeFeedSnapshot> getSnapshot() {
+        return Response.handledWith(mockEmployeeService.getChangeFeedSnapshot());
+    }
+
+    /**
+     * Returns up to {@code limit} changes after version {@code since}; {@code has_more} in the response is set when
+     * there are further changes to fetch from the returned {@code version}.
+     */
+    @GetMapping()
+    public Response<EmployeeChanges> getChanges(
+            @RequestParam("since") long since,
+            @RequestParam(name = "epoch", required = false) String epoch,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit) {
+        if (limit < 1 || limit > MockEmployeeController.MAX_PAGE_LIMIT) {
+            throw new InvalidRequestException(
+                    "limit must be between 1 and %d.".formatted(MockEmployeeController.MAX_PAGE_LIMIT));
+        }
+        return Response.handledWith(mockEmployeeService.getChanges(epoch, since, limit));
+    }
+
+    /**
+     * Streams the changes after version {@code since} as server-sent {@code change} events whose id is the change's
+     * sequence, with a comment every {@link #HEARTBEAT_INTERVAL} while nothing changes. The stream stays open until
+     * the client closes it; if the client falls behind the retained history it gets a {@code reset} event instead.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam("since") long since, @RequestParam(name = "epoch", required = false) String epoch) {
+        final var emitter = new SseEmitter(0L);
+        streams.execute(() -> sendChanges(emitter, epoch, since));
+        return emitter;
+    }
+
+    @PreDestroy
+    void closeStreams() {
+        streams.shutdownNow();
+    }
+
+    private void sendChanges(SseEmitter emitter, String epoch, long since) {
+        var version = since;
+        try {
+            while (true) {
+                final var changes = mockEmployeeService.awaitChanges(
+                        epoch, version, MockEmployeeController.STREAM_CHUNK_SIZE, HEARTBEAT_INTERVAL);
+                if (changes.isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                // One write and flush per chunk rather than per event
+                emitter.send(changeEvents(changes));
+                version = changes.getLast().sequence();
+            }
+        } catch (ChangeHistoryUnavailableException e) {
+            log.debug("Resetting change stream: {}", e.getMessage());
+            try {
+                emitter.send(SseEmitter.event().name("reset").data(e.getMessage()));
+                emitter.complete();
+            } catch (IOException | IllegalStateException ignored) {
+                // The client has gone already
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client closed the stream; the container completes the request
+            log.debug("Change stream closed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+
+    private static Set<ResponseBodyEmitter.DataWithMediaType> changeEvents(List<EmployeeChange> changes) {
+        final var events = new LinkedHashSet<ResponseBodyEmitter.DataWithMediaType>();
+        for (final var change : changes) {
+            events.addAll(SseEmitter.event()
+                    .name("change")
+                    .id(Long.toString(change.sequence()))
+                    .data(change, MediaType.APPLICATION_JSON)
+                    .build());
+        }
+        return events;
+    }
+}
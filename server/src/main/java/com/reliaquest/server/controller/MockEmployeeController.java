@@ -1,38 +1,188 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.server.model.BatchDeleteMockEmployeeInput;
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.InvalidRequestException;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeField;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    static final int DEFAULT_PAGE_LIMIT = 100;
+    static final int MAX_PAGE_LIMIT = 1000;
+    static final int STREAM_CHUNK_SIZE = 1000;
+    static final int MAX_BATCH_SIZE = 1000;
+
+    /*
+     * Formats the message converters can write a response in, in the order they are registered, so that of several
+     * equally acceptable formats the first is the one Spring MVC picks.
+     */
+    private static final List<MediaType> FORMATS = List.of(
+            MediaType.APPLICATION_JSON, new MediaType("application", "x-jackson-smile"), MediaType.APPLICATION_CBOR);
+
     private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
+    private final ContentNegotiationManager contentNegotiationManager;
 
+    /**
+     * Without parameters, returns every employee in a single response, read from the store in chunks of
+     * {@value #STREAM_CHUNK_SIZE} while it is written, so the whole table is never copied at once. Supplying
+     * {@code limit} and/or {@code cursor} switches to keyset pagination, where {@code next_cursor} in the response is
+     * passed back to fetch the following page and is absent on the last one. {@code fields} restricts each employee to
+     * the listed JSON properties.
+     *
+     * <p>Every variant carries the store's entity tag for the negotiated format, and a request whose
+     * {@code If-None-Match} still matches it is answered with 304 and no body.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public Response<Iterable<?>> getEmployees(
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "fields", required = false) String fields,
+            NativeWebRequest webRequest) {
+        if (checkNotModified(webRequest)) {
+            return null;
+        }
+        if (limit == null && cursor == null && fields == null) {
+            return Response.handledWith(mockEmployeeService.getMockEmployeesInPages(STREAM_CHUNK_SIZE));
+        }
+
+        final Function<MockEmployee, Object> view;
+        if (fields == null) {
+            view = employee -> employee;
+        } else {
+            final var projection = MockEmployeeField.parse(fields);
+            view = employee -> MockEmployeeField.project(employee, projection);
+        }
+        if (limit == null && cursor == null) {
+            final var employees = mockEmployeeService.getMockEmployeesInPages(STREAM_CHUNK_SIZE);
+            final Iterable<Object> projected = () -> StreamSupport.stream(employees.spliterator(), false)
+                    .map(view)
+                    .iterator();
+            return Response.handledWith(projected);
+        }
+
+        final var pageLimit = limit == null ? DEFAULT_PAGE_LIMIT : limit;
+        if (pageLimit < 1 || pageLimit > MAX_PAGE_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and %d.".formatted(MAX_PAGE_LIMIT));
+        }
+        final var page = mockEmployeeService.getMockEmployeePage(
+                cursor == null ? 0L : PageCursor.decode(cursor), pageLimit);
+        return Response.handledWith(
+                page.employees().stream().map(view).toList(),
+                page.hasNext() ? PageCursor.encode(page.lastSequence()) : null);
+    }
+
+    /**
+     * Writes every employee as newline delimited JSON, one object per line. Rows are read from the store in chunks of
+     * {@value #STREAM_CHUNK_SIZE} and flushed after each chunk, so memory use does not depend on the size of the table.
+     * The mapped store layout writes the JSON straight from its records.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(this::writeEmployees);
+    }
+
+    private void writeEmployees(OutputStream outputStream) throws IOException {
+        final var writer =
+                objectMapper.writerFor(MockEmployee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            var afterSequence = 0L;
+            while (true) {
+                final var lastSequence =
+                        mockEmployeeService.writeMockEmployeePage(afterSequence, STREAM_CHUNK_SIZE, generator, writer);
+                generator.flush();
+                if (lastSequence == null) {
+                    return;
+                }
+                afterSequence = lastSequence;
+            }
+        }
+    }
+
+    @GetMapping("/search")
+    public Response<List<MockEmployee>> searchEmployees(@RequestParam("name") String name) {
+        if (name.isBlank()) {
+            throw new InvalidRequestException("name must not be blank.");
+        }
+        return Response.handledWith(mockEmployeeService.searchByName(name));
+    }
+
+    /**
+     * {@code data} is absent when there are no employees with a salary.
+     */
+    @GetMapping("/stats/salary/max")
+    public Response<Integer> getHighestSalary() {
+        final var highest = mockEmployeeService.findHighestSalary();
+        return highest.isPresent() ? Response.handledWith(highest.getAsInt()) : Response.handled();
     }
 
+    /**
+     * Highest salaries first. Employees with equal salaries are ranked in the order they were created, the order of the
+     * full list.
+     */
+    @GetMapping("/top")
+    public Response<List<MockEmployee>> getTopEmployees(
+            @RequestParam(name = "by", defaultValue = "salary") String by,
+            @RequestParam(name = "n", defaultValue = "10") int n) {
+        if (!"salary".equalsIgnoreCase(by)) {
+            throw new InvalidRequestException("Unsupported ranking: " + by);
+        }
+        if (n < 1 || n > MAX_PAGE_LIMIT) {
+            throw new InvalidRequestException("n must be between 1 and %d.".formatted(MAX_PAGE_LIMIT));
+        }
+        return Response.handledWith(mockEmployeeService.findTopBySalary(n));
+    }
+
+    /**
+     * Answered with 304 and no body while {@code If-None-Match} matches the store's entity tag for the negotiated
+     * format.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
+    public ResponseEntity<Response<MockEmployee>> getEmployee(
+            @PathVariable("id") UUID uuid, NativeWebRequest webRequest) {
+        if (checkNotModified(webRequest)) {
+            return null;
+        }
         return mockEmployeeService
                 .findById(uuid)
                 .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
@@ -48,4 +198,67 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /**
+     * Creates every valid employee in the request in one atomic write. The response holds one result per item, in
+     * request order; invalid items are reported there rather than rejecting the batch.
+     */
+    @PostMapping("/batch")
+    public Response<List<BatchItemResult>> createEmployees(
+            @RequestBody(required = false) List<CreateMockEmployeeInput> inputs) {
+        checkBatchSize(inputs);
+        return Response.handledWith(mockEmployeeService.createAll(inputs));
+    }
+
+    /**
+     * Deletes one employee per item, by {@code id} or else by {@code name}, in one atomic write. The response holds one
+     * result per item, in request order.
+     */
+    @DeleteMapping("/batch")
+    public Response<List<BatchItemResult>> deleteEmployees(
+            @RequestBody(required = false) List<BatchDeleteMockEmployeeInput> inputs) {
+        checkBatchSize(inputs);
+        return Response.handledWith(mockEmployeeService.deleteAll(inputs));
+    }
+
+    /**
+     * Sets the store's entity tag for the format the response will be written in and checks it against
+     * {@code If-None-Match}. The response, a 304 included, varies with {@code Accept}.
+     */
+    private boolean checkNotModified(NativeWebRequest webRequest) {
+        final var response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return webRequest.checkNotModified(mockEmployeeService.getStoreEntityTag(negotiatedFormat(webRequest)));
+    }
+
+    /**
+     * The subtype of the format the message converters will pick for the request's {@code Accept} header: the first
+     * format compatible with the most preferred acceptable type. An unreadable header is left for the converters to
+     * reject.
+     */
+    private String negotiatedFormat(NativeWebRequest webRequest) {
+        final List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(contentNegotiationManager.resolveMediaTypes(webRequest));
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return MediaType.APPLICATION_JSON.getSubtype();
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (final var acceptable : accepted) {
+            for (final var format : FORMATS) {
+                if (acceptable.isCompatibleWith(format)) {
+                    return format.getSubtype();
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON.getSubtype();
+    }
+
+    private static void checkBatchSize(List<?> inputs) {
+        if (inputs == null || inputs.isEmpty() || inputs.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("Batch size must be between 1 and %d.".formatted(MAX_BATCH_SIZE));
+        }
+    }
 }
@@ -1,15 +1,75 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.feed.ChangeHistoryUnavailableException;
+import com.reliaquest.server.model.InvalidRequestException;
 import com.reliaquest.server.model.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    /**
+     * Only input the controllers rejected is the client's fault; an {@link IllegalArgumentException} from deeper down
+     * is a bug and falls through to the server error handler.
+     */
+    @ExceptionHandler
+    protected ResponseEntity<?> handleInvalidRequest(InvalidRequestException ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    /**
+     * A missing query parameter, or a parameter or path variable of the wrong type such as {@code ?limit=abc}, is
+     * rejected input too.
+     */
+    @ExceptionHandler({MethodArgumentTypeMismatchException.class, MissingServletRequestParameterException.class})
+    protected ResponseEntity<?> handleInvalidParameter(Exception ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    /**
+     * No endpoint for the path. Clients tell this apart from a server error to fall back to the endpoints they can use.
+     */
+    @ExceptionHandler({NoHandlerFoundException.class, NoResourceFoundException.class})
+    protected ResponseEntity<?> handleNoEndpoint(Exception ex) {
+        log.debug("No endpoint for web request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.error(ex.getMessage()));
+    }
+
+    /**
+     * The path exists, but not for this method.
+     */
+    @ExceptionHandler
+    protected ResponseEntity<?> handleMethodNotSupported(HttpRequestMethodNotSupportedException ex) {
+        log.debug("Method not supported for web request: {}", ex.getMessage());
+        final var response = ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED);
+        if (ex.getSupportedHttpMethods() != null) {
+            response.allow(ex.getSupportedHttpMethods().toArray(HttpMethod[]::new));
+        }
+        return response.body(Response.error(ex.getMessage()));
+    }
+
+    /**
+     * The client has to start again from a change feed snapshot.
+     */
+    @ExceptionHandler
+    protected ResponseEntity<?> handleChangeHistoryUnavailable(ChangeHistoryUnavailableException ex) {
+        log.debug("Change history unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE).body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
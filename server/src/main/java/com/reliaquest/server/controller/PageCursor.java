@@ -0,0 +1,38 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.InvalidRequestException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Opaque, URL safe encoding of a store sequence number. Callers must treat cursors as tokens and pass them back
+ * unmodified.
+ */
+final class PageCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private PageCursor() {}
+
+    static String encode(long sequence) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(sequence).array());
+    }
+
+    static long decode(String cursor) {
+        final byte[] bytes;
+        try {
+            bytes = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Malformed cursor: " + cursor, e);
+        }
+        if (bytes.length != Long.BYTES) {
+            throw new InvalidRequestException("Malformed cursor: " + cursor);
+        }
+        final var sequence = ByteBuffer.wrap(bytes).getLong();
+        if (sequence < 0) {
+            throw new InvalidRequestException("Malformed cursor: " + cursor);
+        }
+        return sequence;
+    }
+}
@@ -0,0 +1,166 @@
+package com.reliaquest.server.feed;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.StoreJournal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Numbered history of the creates and deletes applied to the employee store, for clients that keep a replica of the
+ * table. The feed is (part of) the store's {@link StoreJournal}, so changes are numbered in the order the store applied
+ * them, and {@link #version()} read from the marker of {@link com.reliaquest.server.store.EmployeeStore#findAllAndMark}
+ * is the version of the copied table. Behind a write-ahead log the feed only numbers a change once it is durable, so
+ * the copy may already hold changes numbered after that version; replaying them onto it is harmless, since a create
+ * puts the row and a delete removes it whatever the copy holds.
+ *
+ * <p>If the store is ever put back to an earlier durable state, {@link #restart()} starts a new epoch, since the
+ * retained changes no longer lead to the table.
+ *
+ * <p>Only the most recent {@code retained} changes are kept; a client that falls further behind has to start again
+ * from a snapshot. Numbering restarts with every start of the server, so each run has its own random {@link #epoch()}
+ * and a version from another epoch is refused the same way.
+ */
+public class ChangeFeed implements StoreJournal {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private volatile String epoch = UUID.randomUUID().toString();
+
+    /* Ring of the retained changes; change n sits at index (n - 1) % length. */
+    private final EmployeeChange[] changes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+
+    private long version;
+
+    public ChangeFeed(int retained) {
+        if (retained < 1) {
+            throw new IllegalArgumentException("The change feed must retain at least one change.");
+        }
+        this.changes = new EmployeeChange[retained];
+    }
+
+    @Override
+    public CompletableFuture<?> created(MockEmployee employee) {
+        lock.lock();
+        try {
+            append(EmployeeChange.created(version + 1, employee));
+        } finally {
+            lock.unlock();
+        }
+        return DONE;
+    }
+
+    @Override
+    public CompletableFuture<?> deleted(UUID id) {
+        lock.lock();
+        try {
+            append(EmployeeChange.deleted(version + 1, id));
+        } finally {
+            lock.unlock();
+        }
+        return DONE;
+    }
+
+    /**
+     * Starts a new epoch with no retained changes. Clients of the previous epoch have to start again from a snapshot.
+     */
+    public void restart() {
+        lock.lock();
+        try {
+            epoch = UUID.randomUUID().toString();
+            version = 0;
+            Arrays.fill(changes, null);
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    /**
+     * The sequence of the latest change, or 0 before the first.
+     */
+    public long version() {
+        lock.lock();
+        try {
+            return version;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} changes after {@code since}, oldest first. {@code epoch} may be {@code null} when the
+     * client has not seen one yet.
+     *
+     * @throws ChangeHistoryUnavailableException if the changes after {@code since} are not all retained or
+     *     {@code since} is not a version of this epoch
+     */
+    public List<EmployeeChange> changesSince(String epoch, long since, int limit) {
+        lock.lock();
+        try {
+            return copySince(epoch, since, limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Like {@link #changesSince}, but waits up to {@code timeout} for a change when there are none yet, returning an
+     * empty list if none arrives.
+     */
+    public List<EmployeeChange> awaitChangesSince(String epoch, long since, int limit, Duration timeout)
+            throws InterruptedException {
+        var remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (true) {
+                final var result = copySince(epoch, since, limit);
+                if (!result.isEmpty() || remaining <= 0) {
+                    return result;
+                }
+                remaining = appended.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(EmployeeChange change) {
+        version = change.sequence();
+        changes[(int) ((version - 1) % changes.length)] = change;
+        appended.signalAll();
+    }
+
+    private List<EmployeeChange> copySince(String epoch, long since, int limit) {
+        if (epoch != null && !epoch.equals(this.epoch)) {
+            throw new ChangeHistoryUnavailableException("Epoch %s has ended.".formatted(epoch));
+        }
+        if (since < 0 || since > version) {
+            throw new ChangeHistoryUnavailableException(
+                    "Version %d is not a version of epoch %s.".formatted(since, this.epoch));
+        }
+        if (since < version - changes.length) {
+            throw new ChangeHistoryUnavailableException(
+                    "Changes after version %d are no longer retained.".formatted(since));
+        }
+        final var count = (int) Math.min(limit, version - since);
+        final var result = new ArrayList<EmployeeChange>(count);
+        for (var sequence = since + 1; sequence <= since + count; sequence++) {
+            result.add(changes[(int) ((sequence - 1) % changes.length)]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.server.feed;
+
+/**
+ * Thrown when the changes a client asked for cannot be served, because they are older than the retained history or
+ * belong to another epoch. The client has to start again from a snapshot.
+ */
+public class ChangeHistoryUnavailableException extends RuntimeException {
+
+    public ChangeHistoryUnavailableException(String message) {
+        super(message);
+    }
+}
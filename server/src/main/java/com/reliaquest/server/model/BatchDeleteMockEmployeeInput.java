@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+import lombok.Data;
+
+/**
+ * One item of a batch delete: the employee with {@code id} if given, otherwise the oldest employee named {@code name}.
+ * The id is kept as text so a malformed one fails only its own item.
+ */
+@Data
+public class BatchDeleteMockEmployeeInput {
+
+    private String id;
+
+    private String name;
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Outcome of one item of a batch request. {@code index} is the item's position in the request; {@code employee} is the
+ * created or deleted employee and {@code error} explains an invalid item.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult(int index, Outcome outcome, MockEmployee employee, String error) {
+
+    public static BatchItemResult created(int index, MockEmployee employee) {
+        return new BatchItemResult(index, Outcome.CREATED, employee, null);
+    }
+
+    public static BatchItemResult deleted(int index, MockEmployee employee) {
+        return new BatchItemResult(index, Outcome.DELETED, employee, null);
+    }
+
+    public static BatchItemResult notFound(int index) {
+        return new BatchItemResult(index, Outcome.NOT_FOUND, null, null);
+    }
+
+    public static BatchItemResult invalid(int index, String error) {
+        return new BatchItemResult(index, Outcome.INVALID, null, error);
+    }
+
+    public enum Outcome {
+        @JsonProperty("created")
+        CREATED,
+        @JsonProperty("deleted")
+        DELETED,
+        @JsonProperty("not_found")
+        NOT_FOUND,
+        @JsonProperty("invalid")
+        INVALID
+    }
+}
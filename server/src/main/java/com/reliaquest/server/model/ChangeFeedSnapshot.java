@@ -0,0 +1,8 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Every employee as of {@code version} of the change feed, the point from which a new replica follows the feed.
+ */
+public record ChangeFeedSnapshot(String epoch, long version, List<MockEmployee> employees) {}
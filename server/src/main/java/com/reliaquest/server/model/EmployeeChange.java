@@ -0,0 +1,28 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.UUID;
+
+/**
+ * One create or delete in the change feed. {@code sequence} numbers the changes in the order the store applied them;
+ * {@code employee} is only present on a create.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmployeeChange(long sequence, Type type, UUID id, MockEmployee employee) {
+
+    public static EmployeeChange created(long sequence, MockEmployee employee) {
+        return new EmployeeChange(sequence, Type.CREATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChange deleted(long sequence, UUID id) {
+        return new EmployeeChange(sequence, Type.DELETED, id, null);
+    }
+
+    public enum Type {
+        @JsonProperty("created")
+        CREATED,
+        @JsonProperty("deleted")
+        DELETED
+    }
+}
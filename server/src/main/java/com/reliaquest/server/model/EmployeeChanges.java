@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * A run of the change feed. {@code version} is the version a client reaches by applying {@code changes}, and
+ * {@code has_more} is set when the feed had already moved past it.
+ */
+public record EmployeeChanges(
+        String epoch, long version, List<EmployeeChange> changes, @JsonProperty("has_more") boolean hasMore) {}
@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+/**
+ * Thrown when a request is malformed or asks for something out of range. Answered with 400; anything else that goes
+ * wrong while handling a request is a server error.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.server.model;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Columns of {@link MockEmployee} that callers may select with a {@code fields=} projection. Names match the JSON
+ * property names produced by {@link MockEmployee.PrefixNamingStrategy}.
+ */
+public enum MockEmployeeField {
+    ID("id", MockEmployee::getId),
+    NAME("employee_name", MockEmployee::getName),
+    SALARY("employee_salary", MockEmployee::getSalary),
+    AGE("employee_age", MockEmployee::getAge),
+    TITLE("employee_title", MockEmployee::getTitle),
+    EMAIL("employee_email", MockEmployee::getEmail);
+
+    @Getter
+    private final String jsonName;
+
+    private final Function<MockEmployee, Object> accessor;
+
+    MockEmployeeField(String jsonName, Function<MockEmployee, Object> accessor) {
+        this.jsonName = jsonName;
+        this.accessor = accessor;
+    }
+
+    /**
+     * Parses a comma separated list of JSON property names, e.g. {@code id,employee_salary}, preserving order.
+     */
+    public static List<MockEmployeeField> parse(@NonNull String fields) {
+        final var selected = new LinkedHashSet<MockEmployeeField>();
+        for (final var name : fields.split(",")) {
+            final var trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                    .filter(field -> field.jsonName.equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidRequestException("Unknown employee field: " + trimmed)));
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidRequestException("At least one employee field must be selected.");
+        }
+        return List.copyOf(selected);
+    }
+
+    public static Map<String, Object> project(@NonNull MockEmployee employee, @NonNull List<MockEmployeeField> fields) {
+        final var projection = new LinkedHashMap<String, Object>(fields.size() * 2);
+        fields.forEach(field -> projection.put(field.jsonName, field.accessor.apply(employee)));
+        return projection;
+    }
+}
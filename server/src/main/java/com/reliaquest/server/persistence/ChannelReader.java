@@ -0,0 +1,50 @@
+package com.reliaquest.server.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Sequential reads from a file channel through one reusable buffer, so a large file is decoded without reading it
+ * into memory whole.
+ */
+final class ChannelReader {
+
+    private final FileChannel channel;
+
+    private ByteBuffer buffer;
+
+    ChannelReader(FileChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize).flip();
+    }
+
+    /**
+     * Makes at least {@code bytes} bytes available in {@link #buffer()}, reading more from the channel as needed.
+     * Returns {@code false} if the file ends first.
+     */
+    boolean ensure(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        if (bytes > buffer.capacity()) {
+            final var grown = ByteBuffer.allocateDirect(Math.max(bytes, buffer.capacity() * 2));
+            grown.put(buffer);
+            buffer = grown;
+        } else {
+            buffer.compact();
+        }
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                buffer.flip();
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    ByteBuffer buffer() {
+        return buffer;
+    }
+}
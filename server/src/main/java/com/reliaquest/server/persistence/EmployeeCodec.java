@@ -0,0 +1,131 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary encoding of employees and of the changes written to the log.
+ *
+ * <p>An employee is its id as two longs followed by each remaining field in declaration order. Strings are a length
+ * prefix and UTF-8 bytes, integers a presence byte and the value; a length of {@code -1} or a presence byte of
+ * {@code 0} stands for {@code null}. A log record is a length prefix, a CRC32C of the payload and the payload: a
+ * change type byte followed by the employee for a create or the id for a delete.
+ */
+final class EmployeeCodec {
+
+    static final byte CREATED = 1;
+    static final byte DELETED = 2;
+
+    static final int RECORD_HEADER_BYTES = Integer.BYTES * 2;
+
+    /*
+     * Largest payload a reader accepts; anything bigger is a torn or corrupt length prefix.
+     */
+    static final int MAX_PAYLOAD_BYTES = 1 << 20;
+
+    private EmployeeCodec() {}
+
+    static byte[] encode(MockEmployee employee) {
+        final var name = utf8(employee.getName());
+        final var title = utf8(employee.getTitle());
+        final var email = utf8(employee.getEmail());
+        final var buffer = ByteBuffer.allocate(Long.BYTES * 2
+                + stringSize(name)
+                + stringSize(title)
+                + stringSize(email)
+                + (1 + Integer.BYTES) * 2);
+        putId(buffer, employee.getId());
+        putString(buffer, name);
+        putInteger(buffer, employee.getSalary());
+        putInteger(buffer, employee.getAge());
+        putString(buffer, title);
+        putString(buffer, email);
+        return buffer.array();
+    }
+
+    static MockEmployee decode(ByteBuffer buffer) {
+        return MockEmployee.builder()
+                .id(getId(buffer))
+                .name(getString(buffer))
+                .salary(getInteger(buffer))
+                .age(getInteger(buffer))
+                .title(getString(buffer))
+                .email(getString(buffer))
+                .build();
+    }
+
+    static byte[] createdRecord(MockEmployee employee) {
+        final var encoded = encode(employee);
+        final var payload = ByteBuffer.allocate(1 + encoded.length);
+        payload.put(CREATED).put(encoded);
+        return frame(payload.array());
+    }
+
+    static byte[] deletedRecord(UUID id) {
+        final var payload = ByteBuffer.allocate(1 + Long.BYTES * 2);
+        payload.put(DELETED);
+        putId(payload, id);
+        return frame(payload.array());
+    }
+
+    static int checksum(byte[] bytes, int offset, int length) {
+        final var crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    static UUID getId(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static byte[] frame(byte[] payload) {
+        return ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt(checksum(payload, 0, payload.length))
+                .put(payload)
+                .array();
+    }
+
+    private static void putId(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putInteger(ByteBuffer buffer, Integer value) {
+        buffer.put((byte) (value == null ? 0 : 1)).putInt(value == null ? 0 : value);
+    }
+
+    private static Integer getInteger(ByteBuffer buffer) {
+        final var present = buffer.get() != 0;
+        final var value = buffer.getInt();
+        return present ? value : null;
+    }
+}
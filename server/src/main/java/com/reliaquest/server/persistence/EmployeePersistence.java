@@ -0,0 +1,290 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.StoreJournal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Durable storage for the mock employee table: a compacted snapshot plus a write-ahead log of the changes made since.
+ *
+ * <p>{@link #open(Path, boolean)} recovers the table by loading the snapshot and replaying the log segments written
+ * after it, then starts a new segment for this run. Once a store is attached, a snapshot is taken periodically (and on
+ * close) whenever changes have been logged since the last one, and the segments it covers are deleted, so recovery
+ * only ever replays a short tail.
+ *
+ * <p>If the log fails, every write made through {@link #journal()} fails with it, and the first of them
+ * {@linkplain #recover() recovers}: the failed log is closed, the durable table is read back from disk, the attached
+ * store is put back to it and a new log takes over. Until then {@link #failure()} reports the error.
+ */
+@Slf4j
+public class EmployeePersistence implements Closeable {
+
+    private final Path directory;
+    private final boolean fsync;
+    private final List<MockEmployee> recovered;
+    private final boolean empty;
+    private final Object snapshotLock = new Object();
+    private final StoreJournal journal = new Journal();
+
+    /*
+     * Replaced under the store's write lock when the log is recovered, so every change goes to exactly one log.
+     */
+    private volatile WriteAheadLog writeAheadLog;
+
+    private ScheduledExecutorService snapshots;
+    private EmployeeStore store;
+    private Runnable onRecovered = () -> {};
+    private long recordsAtLastSnapshot;
+
+    private EmployeePersistence(
+            Path directory,
+            boolean fsync,
+            WriteAheadLog writeAheadLog,
+            List<MockEmployee> recovered,
+            boolean empty,
+            long replayed) {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.writeAheadLog = writeAheadLog;
+        this.recovered = recovered;
+        this.empty = empty;
+        // A replayed tail is compacted into the first snapshot even if nothing new is logged
+        this.recordsAtLastSnapshot = replayed > 0 ? -1 : 0;
+    }
+
+    public static EmployeePersistence open(@NonNull Path directory, boolean fsync) throws IOException {
+        Files.createDirectories(directory);
+        final var durable = DurableTable.read(directory);
+        return new EmployeePersistence(
+                directory,
+                fsync,
+                new WriteAheadLog(directory, durable.nextSegment(), fsync),
+                durable.employees(),
+                !durable.fromSnapshot() && durable.replayed() == 0,
+                durable.replayed());
+    }
+
+    /**
+     * Whether nothing had been persisted yet, so the table has to be seeded.
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * The employees recovered on open, in insertion order.
+     */
+    public List<MockEmployee> recoveredEmployees() {
+        return recovered;
+    }
+
+    public StoreJournal journal() {
+        return journal;
+    }
+
+    /**
+     * The I/O error that stopped the write-ahead log, while the log has not been recovered from it.
+     */
+    public Optional<IOException> failure() {
+        return writeAheadLog.failure();
+    }
+
+    /**
+     * Starts taking snapshots of {@code store}, which must write through {@link #journal()}.
+     */
+    public void attach(@NonNull EmployeeStore store, @NonNull Duration snapshotInterval) {
+        attach(store, snapshotInterval, () -> {});
+    }
+
+    /**
+     * Starts taking snapshots of {@code store}, which must write through {@link #journal()}. {@code onRecovered} runs
+     * whenever the store is put back to its durable table after the log failed, at that point in the write order.
+     */
+    public void attach(
+            @NonNull EmployeeStore store, @NonNull Duration snapshotInterval, @NonNull Runnable onRecovered) {
+        synchronized (snapshotLock) {
+            this.store = store;
+            this.onRecovered = onRecovered;
+        }
+        snapshots = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("employee-snapshot").daemon().factory());
+        snapshots.scheduleWithFixedDelay(
+                this::snapshotQuietly,
+                snapshotInterval.toMillis(),
+                snapshotInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Replaces a failed write-ahead log: closes it, reads the durable table back from disk, puts the attached store
+     * back to it and starts a new log segment. Does nothing while the log is healthy, so every write that failed along
+     * with the log may call it. If no new log can be opened the failed one stays in place, so writes keep failing and
+     * keep putting the store back.
+     */
+    public void recover() throws IOException {
+        synchronized (snapshotLock) {
+            final var failed = writeAheadLog;
+            if (failed.failure().isEmpty()) {
+                return;
+            }
+            log.warn("Recovering the employee table from {} after its write-ahead log failed", directory);
+            failed.close();
+            final var durable = DurableTable.read(directory);
+
+            WriteAheadLog replacement;
+            IOException openFailure = null;
+            try {
+                replacement = new WriteAheadLog(directory, durable.nextSegment(), fsync);
+            } catch (IOException e) {
+                replacement = failed;
+                openFailure = e;
+            }
+            final var next = replacement;
+            if (store != null) {
+                store.reset(durable.employees(), () -> {
+                    writeAheadLog = next;
+                    onRecovered.run();
+                });
+            } else {
+                writeAheadLog = next;
+            }
+            if (openFailure != null) {
+                throw openFailure;
+            }
+            // The replayed tail is compacted into the next snapshot
+            recordsAtLastSnapshot = -1;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the attached store if anything has been logged since the last one, and deletes the log
+     * segments it makes redundant.
+     */
+    public void snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            final var writeAheadLog = this.writeAheadLog;
+            if (store == null || writeAheadLog.appendedRecords() == recordsAtLastSnapshot) {
+                return;
+            }
+            final var rotated = new AtomicReference<CompletableFuture<Long>>();
+            final var records = new AtomicLong();
+            final var employees = store.findAllAndMark(() -> {
+                records.set(writeAheadLog.appendedRecords());
+                rotated.set(writeAheadLog.rotate());
+            });
+
+            final var started = System.nanoTime();
+            final long firstSegment = rotated.get().join();
+            EmployeeSnapshot.write(directory, firstSegment, employees);
+            writeAheadLog.deleteSegmentsBefore(firstSegment);
+            recordsAtLastSnapshot = records.get();
+            log.info(
+                    "Wrote snapshot of {} employees in {} ms",
+                    employees.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (snapshots != null) {
+            snapshots.shutdown();
+        }
+        try {
+            snapshot();
+        } finally {
+            writeAheadLog.close();
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to write employee snapshot", e);
+        }
+    }
+
+    /**
+     * Passes every change to the current write-ahead log.
+     */
+    private class Journal implements StoreJournal {
+
+        @Override
+        public CompletableFuture<?> created(MockEmployee employee) {
+            return writeAheadLog.created(employee);
+        }
+
+        @Override
+        public CompletableFuture<?> deleted(UUID id) {
+            return writeAheadLog.deleted(id);
+        }
+
+        @Override
+        public void recover() {
+            try {
+                EmployeePersistence.this.recover();
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to recover the employee write-ahead log", e);
+            }
+        }
+    }
+
+    /**
+     * The table as read back from the snapshot and the log segments written after it.
+     *
+     * @param nextSegment number of the segment that takes the changes made from now on
+     */
+    private record DurableTable(List<MockEmployee> employees, boolean fromSnapshot, long replayed, long nextSegment) {
+
+        static DurableTable read(Path directory) throws IOException {
+            final var started = System.nanoTime();
+            final var snapshot = EmployeeSnapshot.read(directory);
+            final var firstSegment = snapshot == null ? 0 : snapshot.firstSegment();
+            final Map<UUID, MockEmployee> employees = new LinkedHashMap<>();
+            if (snapshot != null) {
+                snapshot.employees().forEach(employee -> employees.put(employee.getId(), employee));
+            }
+
+            long replayed = 0;
+            long nextSegment = firstSegment;
+            for (final var segment : WriteAheadLog.segments(directory).entrySet()) {
+                if (segment.getKey() < firstSegment) {
+                    // Left behind by a crash between writing a snapshot and deleting the segments it covers
+                    Files.deleteIfExists(segment.getValue());
+                    continue;
+                }
+                replayed += WriteAheadLog.replay(segment.getValue(), employees);
+                nextSegment = segment.getKey() + 1;
+            }
+
+            log.info(
+                    "Recovered {} employees from {} ({} from snapshot, {} logged changes replayed) in {} ms",
+                    employees.size(),
+                    directory,
+                    snapshot == null ? 0 : snapshot.employees().size(),
+                    replayed,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return new DurableTable(new ArrayList<>(employees.values()), snapshot != null, replayed, nextSegment);
+        }
+    }
+}
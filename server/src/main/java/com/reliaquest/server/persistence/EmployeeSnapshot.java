@@ -0,0 +1,121 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * A compacted copy of the whole employee table, plus the number of the first log segment written after it was taken.
+ *
+ * <p>The file is a header (magic, format version, first segment, row count), one length-prefixed employee per row in
+ * insertion order, and a CRC32C of the rows. It is written to a temporary file, forced to disk and then moved over the
+ * previous snapshot, so a crash leaves either the old snapshot or the new one in place.
+ */
+record EmployeeSnapshot(long firstSegment, List<MockEmployee> employees) {
+
+    static final String FILE_NAME = "employees.snapshot";
+
+    private static final int MAGIC = 0x454d5053;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES * 2;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    static void write(Path directory, long firstSegment, Collection<MockEmployee> employees) throws IOException {
+        writeFile(directory.resolve(FILE_NAME), firstSegment, employees);
+    }
+
+    /**
+     * Reads the snapshot in {@code directory}, or returns {@code null} if none has been written yet.
+     */
+    static EmployeeSnapshot read(Path directory) throws IOException {
+        final var source = directory.resolve(FILE_NAME);
+        return Files.exists(source) ? readFile(source) : null;
+    }
+
+    static void writeFile(Path target, long firstSegment, Collection<MockEmployee> employees) throws IOException {
+        final var temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (final var channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final var buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(firstSegment).putLong(employees.size());
+            final var crc = new CRC32C();
+            for (final var employee : employees) {
+                final var encoded = EmployeeCodec.encode(employee);
+                if (buffer.remaining() < Integer.BYTES + encoded.length) {
+                    drain(channel, buffer);
+                }
+                buffer.putInt(encoded.length);
+                crc.update(encoded);
+                if (encoded.length > buffer.remaining()) {
+                    drain(channel, buffer);
+                    writeFully(channel, ByteBuffer.wrap(encoded));
+                } else {
+                    buffer.put(encoded);
+                }
+            }
+            if (buffer.remaining() < Long.BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putLong(crc.getValue());
+            drain(channel, buffer);
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static EmployeeSnapshot readFile(Path source) throws IOException {
+        try (final var channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            final var reader = new ChannelReader(channel, BUFFER_BYTES);
+            if (!reader.ensure(HEADER_BYTES)) {
+                throw new IOException("Truncated snapshot header in " + source);
+            }
+            final var header = reader.buffer();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Unrecognized snapshot format in " + source);
+            }
+            final var firstSegment = header.getLong();
+            final var count = header.getLong();
+
+            final var employees = new ArrayList<MockEmployee>((int) Math.min(count, Integer.MAX_VALUE - 8));
+            final var crc = new CRC32C();
+            for (long i = 0; i < count; i++) {
+                if (!reader.ensure(Integer.BYTES)) {
+                    throw new IOException("Truncated snapshot " + source);
+                }
+                final var length = reader.buffer().getInt();
+                if (length < 0 || length > EmployeeCodec.MAX_PAYLOAD_BYTES || !reader.ensure(length)) {
+                    throw new IOException("Corrupt row " + i + " in snapshot " + source);
+                }
+                final var encoded = new byte[length];
+                reader.buffer().get(encoded);
+                crc.update(encoded);
+                employees.add(EmployeeCodec.decode(ByteBuffer.wrap(encoded)));
+            }
+            if (!reader.ensure(Long.BYTES) || reader.buffer().getLong() != crc.getValue()) {
+                throw new IOException("Checksum mismatch in snapshot " + source);
+            }
+            return new EmployeeSnapshot(firstSegment, employees);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
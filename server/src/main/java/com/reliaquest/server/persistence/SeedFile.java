@@ -0,0 +1,25 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * A pre-generated employee table to start from, stored in the same binary format as a snapshot so it loads without
+ * any parsing or generation work.
+ */
+public final class SeedFile {
+
+    private SeedFile() {}
+
+    public static List<MockEmployee> read(@NonNull Path file) throws IOException {
+        return EmployeeSnapshot.readFile(file).employees();
+    }
+
+    public static void write(@NonNull Path file, @NonNull Collection<MockEmployee> employees) throws IOException {
+        EmployeeSnapshot.writeFile(file, 0, employees);
+    }
+}
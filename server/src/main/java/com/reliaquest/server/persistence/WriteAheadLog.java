@@ -0,0 +1,323 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.StoreJournal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of creates and deletes, split into numbered segment files.
+ *
+ * <p>Changes are queued by the store and written by a single committer thread. While one batch is being written and
+ * forced to disk, new changes queue up behind it and go out together in the next batch, so concurrent writers share
+ * one {@code fsync} (group commit) without any fixed delay. Each change's future completes once its batch is durable.
+ * After an I/O error the log stops accepting changes, since anything written after the gap could not be replayed
+ * consistently; {@link EmployeePersistence} then replaces it with a new log.
+ *
+ * <p>{@link #rotate()} closes the current segment at a point in the change order, so a snapshot taken at that point
+ * makes every earlier segment redundant.
+ */
+@Slf4j
+public class WriteAheadLog implements StoreJournal, Closeable {
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final Path directory;
+    private final boolean fsync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition queued = lock.newCondition();
+    private final Thread committer;
+    private final ByteBuffer batchBuffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+    private List<Entry> pending = new ArrayList<>();
+    private long appendedRecords;
+    private boolean closed;
+    private IOException failure;
+
+    /*
+     * Only touched by the committer thread once it has started.
+     */
+    private FileChannel segment;
+    private long segmentNumber;
+
+    WriteAheadLog(Path directory, long segmentNumber, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.segmentNumber = segmentNumber;
+        this.segment = openSegment(segmentNumber);
+        this.committer = Thread.ofPlatform()
+                .name("employee-wal-committer")
+                .daemon()
+                .start(this::commitLoop);
+    }
+
+    @Override
+    public CompletableFuture<?> created(MockEmployee employee) {
+        return enqueue(EmployeeCodec.createdRecord(employee));
+    }
+
+    @Override
+    public CompletableFuture<?> deleted(UUID id) {
+        return enqueue(EmployeeCodec.deletedRecord(id));
+    }
+
+    /**
+     * Ends the current segment after every change queued so far. The future completes with the number of the segment
+     * that receives the changes queued from now on.
+     */
+    public CompletableFuture<Long> rotate() {
+        return enqueue(null).thenApply(Long.class::cast);
+    }
+
+    /**
+     * Number of changes queued since the log was opened.
+     */
+    public long appendedRecords() {
+        lock.lock();
+        try {
+            return appendedRecords;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The I/O error that stopped the log, if any.
+     */
+    public Optional<IOException> failure() {
+        lock.lock();
+        try {
+            return Optional.ofNullable(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the segments numbered below {@code segmentNumber}, once a snapshot covers them.
+     */
+    void deleteSegmentsBefore(long segmentNumber) throws IOException {
+        for (final var entry : segments(directory).entrySet()) {
+            if (entry.getKey() < segmentNumber) {
+                Files.deleteIfExists(entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            queued.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        segment.close();
+    }
+
+    /**
+     * Log segments in {@code directory} by segment number, in ascending order.
+     */
+    static Map<Long, Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            final var segments = new TreeMap<Long, Path>();
+            files.forEach(file -> {
+                final var name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    segments.put(
+                            Long.parseLong(
+                                    name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())),
+                            file);
+                }
+            });
+            return segments;
+        }
+    }
+
+    /**
+     * Applies the changes in one segment to {@code employees}, in log order, and returns how many were applied. A
+     * record that is cut short or fails its checksum ends the segment: it is the tail of a write that never completed.
+     */
+    static long replay(Path segment, Map<UUID, MockEmployee> employees) throws IOException {
+        long applied = 0;
+        try (final var channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            final var reader = new ChannelReader(channel, BUFFER_BYTES);
+            while (reader.ensure(EmployeeCodec.RECORD_HEADER_BYTES)) {
+                final var length = reader.buffer().getInt();
+                final var checksum = reader.buffer().getInt();
+                if (length <= 0 || length > EmployeeCodec.MAX_PAYLOAD_BYTES || !reader.ensure(length)) {
+                    log.warn("Ignoring incomplete record at the end of {}", segment);
+                    break;
+                }
+                final var payload = new byte[length];
+                reader.buffer().get(payload);
+                if (EmployeeCodec.checksum(payload, 0, length) != checksum) {
+                    log.warn("Ignoring corrupt record at the end of {}", segment);
+                    break;
+                }
+                apply(ByteBuffer.wrap(payload), employees);
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private static void apply(ByteBuffer payload, Map<UUID, MockEmployee> employees) throws IOException {
+        final var type = payload.get();
+        if (type == EmployeeCodec.CREATED) {
+            final var employee = EmployeeCodec.decode(payload);
+            // Re-inserting an id moves it to the end, as it does in the store
+            employees.remove(employee.getId());
+            employees.put(employee.getId(), employee);
+        } else if (type == EmployeeCodec.DELETED) {
+            employees.remove(EmployeeCodec.getId(payload));
+        } else {
+            throw new IOException("Unknown change type " + type);
+        }
+    }
+
+    private CompletableFuture<Object> enqueue(byte[] record) {
+        final var done = new CompletableFuture<Object>();
+        lock.lock();
+        try {
+            if (failure != null) {
+                done.completeExceptionally(new UncheckedIOException("Write-ahead log failed", failure));
+            } else if (closed) {
+                done.completeExceptionally(new IllegalStateException("Write-ahead log is closed."));
+            } else {
+                pending.add(new Entry(record, done));
+                if (record != null) {
+                    appendedRecords++;
+                }
+                queued.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return done;
+    }
+
+    private void commitLoop() {
+        while (true) {
+            final List<Entry> batch;
+            lock.lock();
+            try {
+                while (pending.isEmpty() && !closed) {
+                    queued.awaitUninterruptibly();
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+            commit(batch);
+        }
+    }
+
+    private void commit(List<Entry> batch) {
+        if (failure != null) {
+            // Queued before the failure was recorded
+            fail(batch);
+            return;
+        }
+        final var written = new ArrayList<CompletableFuture<Object>>(batch.size());
+        try {
+            for (final var entry : batch) {
+                if (entry.record() == null) {
+                    sync(written);
+                    segment.close();
+                    segment = openSegment(++segmentNumber);
+                    entry.done().complete(segmentNumber);
+                } else {
+                    append(entry.record());
+                    written.add(entry.done());
+                }
+            }
+            sync(written);
+        } catch (IOException e) {
+            log.error("Write-ahead log failed, rejecting further changes", e);
+            lock.lock();
+            try {
+                failure = e;
+            } finally {
+                lock.unlock();
+            }
+            fail(batch);
+        }
+    }
+
+    private void fail(List<Entry> batch) {
+        final var exception = new UncheckedIOException("Write-ahead log failed", failure);
+        batch.forEach(entry -> entry.done().completeExceptionally(exception));
+    }
+
+    private void append(byte[] record) throws IOException {
+        if (record.length > batchBuffer.remaining()) {
+            flush();
+        }
+        if (record.length > batchBuffer.remaining()) {
+            EmployeeSnapshot.writeFully(segment, ByteBuffer.wrap(record));
+        } else {
+            batchBuffer.put(record);
+        }
+    }
+
+    private void sync(List<CompletableFuture<Object>> written) throws IOException {
+        if (written.isEmpty()) {
+            return;
+        }
+        flush();
+        if (fsync) {
+            segment.force(false);
+        }
+        written.forEach(done -> done.complete(null));
+        written.clear();
+    }
+
+    private void flush() throws IOException {
+        batchBuffer.flip();
+        EmployeeSnapshot.writeFully(segment, batchBuffer);
+        batchBuffer.clear();
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(
+                directory.resolve(SEGMENT_PREFIX + "%016d".formatted(number) + SEGMENT_SUFFIX),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    /*
+     * A queued change, or a rotation marker when there is no record.
+     */
+    private record Entry(byte[] record, CompletableFuture<Object> done) {}
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.server.seed;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import net.datafaker.Faker;
+
+/**
+ * Generates large employee tables quickly and reproducibly.
+ *
+ * <p>Faker is far too slow to call for every field of millions of rows, so it is only used to fill small pools of
+ * first names, last names, titles and user names, each slice of a pool by its own {@link Faker} instance. Rows are
+ * then assembled from the pools in parallel, in fixed-size chunks. Every row draws from its own
+ * {@link SplittableRandom}, derived from the seed and the row's index alone, so the same seed produces the same table
+ * however the rows are split into chunks and the chunks scheduled across threads.
+ */
+public class EmployeeSeedGenerator {
+
+    private static final int POOL_SIZE = 2048;
+    private static final int POOL_SLICES = 16;
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Locale locale;
+    private final long seed;
+    private final int chunkSize;
+
+    public EmployeeSeedGenerator(@NonNull Locale locale, long seed) {
+        this(locale, seed, CHUNK_SIZE);
+    }
+
+    EmployeeSeedGenerator(@NonNull Locale locale, long seed, int chunkSize) {
+        this.locale = locale;
+        this.seed = seed;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<MockEmployee> generate(int count) {
+        final var pools = Pools.build(locale, seed);
+        final var employees = new MockEmployee[count];
+        final var chunks = (count + chunkSize - 1) / chunkSize;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final var end = Math.min(count, (chunk + 1) * chunkSize);
+            for (int i = chunk * chunkSize; i < end; i++) {
+                employees[i] = pools.employee(new SplittableRandom(mix(seed, i)), i);
+            }
+        });
+        return Arrays.asList(employees);
+    }
+
+    private static long mix(long seed, long stream) {
+        // SplitMix64 finalizer, so neighbouring indexes get unrelated seeds
+        var z = seed + (stream + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Pools(String[] firstNames, String[] lastNames, String[] titles, String[] userNames) {
+
+        static Pools build(Locale locale, long seed) {
+            final var pools = new Pools(
+                    new String[POOL_SIZE], new String[POOL_SIZE], new String[POOL_SIZE], new String[POOL_SIZE]);
+            final var sliceSize = POOL_SIZE / POOL_SLICES;
+            IntStream.range(0, POOL_SLICES).parallel().forEach(slice -> {
+                final var faker = new Faker(locale, new Random(mix(~seed, slice)));
+                for (int i = slice * sliceSize; i < (slice + 1) * sliceSize; i++) {
+                    pools.firstNames[i] = faker.name().firstName();
+                    pools.lastNames[i] = faker.name().lastName();
+                    pools.titles[i] = faker.job().title();
+                    pools.userNames[i] = faker.twitter().userName().toLowerCase(locale);
+                }
+            });
+            return pools;
+        }
+
+        MockEmployee employee(SplittableRandom random, int index) {
+            // Random (version 4) UUIDs, drawn from the row's stream so they are reproducible too
+            final var id = new UUID(
+                    (random.nextLong() & ~0xF000L) | 0x4000L,
+                    (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+            return MockEmployee.builder()
+                    .id(id)
+                    .name(pick(firstNames, random) + " " + pick(lastNames, random))
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(pick(titles, random))
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(pick(userNames, random) + index))
+                    .build();
+        }
+
+        private static String pick(String[] pool, SplittableRandom random) {
+            return pool[random.nextInt(pool.length)];
+        }
+    }
+}
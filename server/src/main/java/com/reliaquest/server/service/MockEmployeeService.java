@@ -1,14 +1,35 @@
 package com.reliaquest.server.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.feed.ChangeFeed;
+import com.reliaquest.server.model.BatchDeleteMockEmployeeInput;
+import com.reliaquest.server.model.BatchItemResult;
+import com.reliaquest.server.model.ChangeFeedSnapshot;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeKey;
+import com.reliaquest.server.store.EmployeePage;
+import com.reliaquest.server.store.EmployeeStore;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +43,212 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final EmployeeStore mockEmployeeStore;
+
+    private final ChangeFeed changeFeed;
+
+    private final Validator validator;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.findAll();
+    }
+
+    public EmployeePage getMockEmployeePage(long afterSequence, int limit) {
+        return mockEmployeeStore.findPage(afterSequence, limit);
+    }
+
+    /**
+     * Every employee, read from the store {@code pageSize} at a time as the result is iterated, so a response written
+     * from it holds one page in memory however large the table is. Like following the page cursor, this is not a
+     * snapshot: a change made during the iteration shows up if it lands past the page being read.
+     */
+    public Iterable<MockEmployee> getMockEmployeesInPages(int pageSize) {
+        return () -> new Iterator<>() {
+
+            private Iterator<MockEmployee> page = Collections.emptyIterator();
+            private Long lastSequence = 0L;
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && lastSequence != null) {
+                    final var next = mockEmployeeStore.findPage(lastSequence, pageSize);
+                    page = next.employees().iterator();
+                    lastSequence = next.lastSequence();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public MockEmployee next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            }
+        };
+    }
+
+    /**
+     * Writes a page of employees as newline delimited JSON, returning the sequence to continue from or {@code null}
+     * after the last page.
+     */
+    public Long writeMockEmployeePage(
+            long afterSequence, int limit, @NonNull JsonGenerator generator, @NonNull ObjectWriter writer)
+            throws IOException {
+        return mockEmployeeStore.writePage(afterSequence, limit, generator, writer);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
+    }
+
+    public List<MockEmployee> searchByName(@NonNull String fragment) {
+        return mockEmployeeStore.findByNameContaining(fragment);
+    }
+
+    public OptionalInt findHighestSalary() {
+        return mockEmployeeStore.findMaxSalary();
+    }
+
+    public List<MockEmployee> findTopBySalary(int limit) {
+        return mockEmployeeStore.findTopBySalary(limit);
+    }
+
+    /**
+     * Entity tag for the current contents of the store written in {@code format}: the change feed's epoch and version,
+     * so it changes with every create and delete and with every restart, and the format, so each encoding of the same
+     * contents has a tag of its own. The tag is weak because the bytes are not fixed: the unpaged list is read while it
+     * is written and the server may compress it. Read it before the data it describes, so a tag is never newer than the
+     * response it is sent with.
+     */
+    public String getStoreEntityTag(@NonNull String format) {
+        return "W/\"%s-%d-%s\"".formatted(changeFeed.epoch(), changeFeed.version(), format);
+    }
+
+    /**
+     * Returns every employee together with the change feed version the copy was taken at, so a replica can follow the
+     * feed from exactly that point.
+     */
+    public ChangeFeedSnapshot getChangeFeedSnapshot() {
+        final var version = new AtomicLong();
+        final var employees = mockEmployeeStore.findAllAndMark(() -> version.set(changeFeed.version()));
+        return new ChangeFeedSnapshot(changeFeed.epoch(), version.get(), employees);
+    }
+
+    public EmployeeChanges getChanges(String epoch, long since, int limit) {
+        final var changes = changeFeed.changesSince(epoch, since, limit);
+        final var version = changes.isEmpty() ? since : changes.getLast().sequence();
+        return new EmployeeChanges(changeFeed.epoch(), version, changes, version < changeFeed.version());
+    }
+
+    /**
+     * Waits up to {@code timeout} for changes after {@code since}, returning an empty list if there are none.
+     */
+    public List<EmployeeChange> awaitChanges(String epoch, long since, int limit, @NonNull Duration timeout)
+            throws InterruptedException {
+        return changeFeed.awaitChangesSince(epoch, since, limit, timeout);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = newMockEmployee(input);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final var mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
+    }
+
+    /**
+     * Validates every input, then adds all the valid ones to the store in a single write. Invalid inputs are reported
+     * in their result instead of failing the whole batch.
+     */
+    public List<BatchItemResult> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var results = new BatchItemResult[inputs.size()];
+        final var created = new ArrayList<MockEmployee>(inputs.size());
+        final var createdIndexes = new int[inputs.size()];
+        for (int i = 0; i < inputs.size(); i++) {
+            final var input = inputs.get(i);
+            final var error = input == null ? "Employee input must not be null." : validate(input);
+            if (error != null) {
+                results[i] = BatchItemResult.invalid(i, error);
+                continue;
+            }
+            createdIndexes[created.size()] = i;
+            created.add(newMockEmployee(input));
         }
+        mockEmployeeStore.addAll(created);
+        for (int i = 0; i < created.size(); i++) {
+            results[createdIndexes[i]] = BatchItemResult.created(createdIndexes[i], created.get(i));
+        }
+        log.debug("Added {} of {} employees in batch.", created.size(), inputs.size());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Removes the employee identified by each input in a single write: by id when one is given, otherwise the oldest
+     * employee with the given name.
+     */
+    public List<BatchItemResult> deleteAll(@NonNull List<BatchDeleteMockEmployeeInput> inputs) {
+        final var results = new BatchItemResult[inputs.size()];
+        final var keys = new ArrayList<EmployeeKey>(inputs.size());
+        final var keyIndexes = new int[inputs.size()];
+        for (int i = 0; i < inputs.size(); i++) {
+            final var input = inputs.get(i);
+            if (input != null && input.getId() != null) {
+                final var id = parseId(input.getId());
+                if (id == null) {
+                    results[i] = BatchItemResult.invalid(i, "Malformed id: " + input.getId());
+                    continue;
+                }
+                keys.add(EmployeeKey.ofId(id));
+            } else if (input != null && input.getName() != null && !input.getName().isBlank()) {
+                keys.add(EmployeeKey.ofName(input.getName()));
+            } else {
+                results[i] = BatchItemResult.invalid(i, "Either id or name is required.");
+                continue;
+            }
+            keyIndexes[keys.size() - 1] = i;
+        }
+        final var removed = mockEmployeeStore.removeAll(keys);
+        for (int i = 0; i < removed.size(); i++) {
+            final var index = keyIndexes[i];
+            results[index] = removed.get(i) == null
+                    ? BatchItemResult.notFound(index)
+                    : BatchItemResult.deleted(index, removed.get(i));
+        }
+        log.debug(
+                "Removed {} of {} employees in batch.",
+                removed.stream().filter(Objects::nonNull).count(),
+                inputs.size());
+        return Arrays.asList(results);
+    }
+
+    private MockEmployee newMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 
-        return false;
+    private String validate(CreateMockEmployeeInput input) {
+        final var violations = validator.validate(input);
+        return violations.isEmpty()
+                ? null
+                : violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
     }
 }
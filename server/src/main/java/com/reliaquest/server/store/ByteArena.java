@@ -0,0 +1,132 @@
+package com.reliaquest.server.store;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Strings stored back to back as UTF-8 in one growing byte array, addressed by entry number. Entries are appended in
+ * order and only ever removed in bulk by {@link #retain(BitSet)}, which moves the survivors down in place.
+ */
+final class ByteArena {
+
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private byte[] bytes;
+
+    /*
+     * End offset of each entry; an entry starts where the previous one ends.
+     */
+    private int[] ends;
+
+    private final BitSet nulls = new BitSet();
+
+    private int count;
+
+    private int used;
+
+    ByteArena(int expectedEntries, int expectedBytesPerEntry) {
+        this.ends = new int[Math.max(16, expectedEntries)];
+        final var capacity = Math.min(MAX_ARRAY_LENGTH, Math.max(256L, (long) ends.length * expectedBytesPerEntry));
+        this.bytes = new byte[(int) capacity];
+    }
+
+    int count() {
+        return count;
+    }
+
+    void add(String value) {
+        if (count == ends.length) {
+            ends = Arrays.copyOf(ends, grow(ends.length, count + 1));
+        }
+        if (value == null) {
+            nulls.set(count);
+        } else {
+            final var encoded = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length - used < encoded.length) {
+                bytes = Arrays.copyOf(bytes, grow(bytes.length, (long) used + encoded.length));
+            }
+            System.arraycopy(encoded, 0, bytes, used, encoded.length);
+            used += encoded.length;
+        }
+        ends[count++] = used;
+    }
+
+    String get(int entry) {
+        if (nulls.get(entry)) {
+            return null;
+        }
+        final var start = start(entry);
+        return new String(bytes, start, ends[entry] - start, StandardCharsets.UTF_8);
+    }
+
+    boolean isNull(int entry) {
+        return nulls.get(entry);
+    }
+
+    /**
+     * Whether the entry contains {@code needle}, which must be lower-case ASCII, comparing ASCII letters without regard
+     * to case. Returns {@code null} when the entry holds non-ASCII text, which this byte-level comparison cannot fold.
+     */
+    Boolean containsAsciiIgnoreCase(int entry, byte[] needle) {
+        final var start = start(entry);
+        final var end = ends[entry];
+        for (int i = start; i < end; i++) {
+            if (bytes[i] < 0) {
+                return null;
+            }
+        }
+        for (int i = start, last = end - needle.length; i <= last; i++) {
+            var matched = true;
+            for (int j = 0; j < needle.length; j++) {
+                if (lowerAscii(bytes[i + j]) != needle[j]) {
+                    matched = false;
+                    break;
+                }
+            }
+            if (matched) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the entries set in {@code removed} and renumbers the rest in order, reusing the same arrays.
+     */
+    void retain(BitSet removed) {
+        int kept = 0;
+        int write = 0;
+        int readStart = 0;
+        for (int entry = 0; entry < count; entry++) {
+            final var end = ends[entry];
+            if (!removed.get(entry)) {
+                final var length = end - readStart;
+                System.arraycopy(bytes, readStart, bytes, write, length);
+                write += length;
+                nulls.set(kept, nulls.get(entry));
+                ends[kept++] = write;
+            }
+            readStart = end;
+        }
+        nulls.clear(kept, Math.max(kept, count));
+        count = kept;
+        used = write;
+    }
+
+    private int start(int entry) {
+        return entry == 0 ? 0 : ends[entry - 1];
+    }
+
+    private static byte lowerAscii(byte value) {
+        return value >= 'A' && value <= 'Z' ? (byte) (value + ('a' - 'A')) : value;
+    }
+
+    private static int grow(int length, long required) {
+        final var grown = Math.max(required, length + (length >> 1) + 16L);
+        if (required > MAX_ARRAY_LENGTH) {
+            throw new IllegalStateException("Byte arena is full.");
+        }
+        return (int) Math.min(grown, MAX_ARRAY_LENGTH);
+    }
+}
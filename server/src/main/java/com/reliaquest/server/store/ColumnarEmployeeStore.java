@@ -0,0 +1,405 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Employee table laid out column by column in primitive arrays instead of one {@link MockEmployee} object per row.
+ *
+ * <p>Each row occupies one slot across the columns: the id as two {@code long}s, salary and age as {@code int}s (with
+ * {@link Integer#MIN_VALUE} standing for a missing value), the title as a code into a shared dictionary, and the name
+ * and email as UTF-8 in byte arenas. Slots are appended in insertion order, so the sequence column is sorted and pages
+ * are found by binary search. Deletes only set a tombstone; once tombstones outnumber live rows the columns are
+ * compacted in place and the indexes rebuilt.
+ *
+ * <p>Ids are indexed by an open-addressing table of slots and names by hash chains threaded through the slots, both
+ * compared against the columns rather than holding keys of their own. Max salary and top-N are plain loops over the
+ * salary column, which tombstoned rows drop out of by having their salary cleared. Employees are only materialised as
+ * objects when they are returned.
+ */
+public class ColumnarEmployeeStore extends JournaledEmployeeStore {
+
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+
+    private static final int MIN_COMPACTION_ROWS = 1024;
+    private static final int EXPECTED_NAME_BYTES = 16;
+    private static final int EXPECTED_EMAIL_BYTES = 32;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private long[] sequences;
+    private long[] idHighs;
+    private long[] idLows;
+    private int[] salaries;
+    private int[] ages;
+    private int[] titleCodes;
+    private int[] nameHashes;
+    private int[] nameNext;
+
+    private final ByteArena names;
+    private final ByteArena emails;
+    private StringDictionary titles = new StringDictionary();
+    private final BitSet deleted = new BitSet();
+
+    /*
+     * Linear probing, kept at most half full. Entries for tombstoned slots stay until the table is rebuilt.
+     */
+    private int[] idTable;
+    private int idTableEntries;
+
+    /*
+     * Head of each name chain; chains run from the newest slot to the oldest.
+     */
+    private int[] nameBuckets;
+
+    private int slotCount;
+    private int deletedCount;
+    private long lastSequence;
+
+    public ColumnarEmployeeStore() {
+        this(SlotTables.MIN_CAPACITY);
+    }
+
+    public ColumnarEmployeeStore(int expectedSize) {
+        this(expectedSize, StoreJournal.NONE);
+    }
+
+    public ColumnarEmployeeStore(int expectedSize, @NonNull StoreJournal journal) {
+        super(journal);
+        final var capacity = Math.max(SlotTables.MIN_CAPACITY, expectedSize);
+        sequences = new long[capacity];
+        idHighs = new long[capacity];
+        idLows = new long[capacity];
+        salaries = new int[capacity];
+        ages = new int[capacity];
+        titleCodes = new int[capacity];
+        nameHashes = new int[capacity];
+        nameNext = new int[capacity];
+        names = new ByteArena(capacity, EXPECTED_NAME_BYTES);
+        emails = new ByteArena(capacity, EXPECTED_EMAIL_BYTES);
+        idTable = new int[SlotTables.tableLength(2L * capacity)];
+        nameBuckets = new int[SlotTables.tableLength(capacity)];
+    }
+
+    @Override
+    public int size() {
+        return read(() -> slotCount - deletedCount);
+    }
+
+    @Override
+    public EmployeePage findPage(long afterSequence, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive.");
+        }
+        return read(() -> {
+            final var employees = new ArrayList<MockEmployee>(Math.min(limit, slotCount - deletedCount));
+            final var found = Arrays.binarySearch(sequences, 0, slotCount, afterSequence);
+            final var first = found >= 0 ? found + 1 : -found - 1;
+            long last = afterSequence;
+            for (int slot = deleted.nextClearBit(first); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+                if (employees.size() == limit) {
+                    return new EmployeePage(employees, last);
+                }
+                employees.add(employee(slot));
+                last = sequences[slot];
+            }
+            return new EmployeePage(employees, null);
+        });
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return read(() -> {
+            final var slot = slotOf(id);
+            return slot < 0 ? Optional.empty() : Optional.of(employee(slot));
+        });
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        final var folded = fold(name);
+        return read(() -> {
+            final var slot = firstSlotNamed(folded);
+            return slot < 0 ? Optional.empty() : Optional.of(employee(slot));
+        });
+    }
+
+    /**
+     * ASCII names are matched byte by byte in the arena, without decoding them.
+     */
+    @Override
+    public List<MockEmployee> findByNameContaining(@NonNull String fragment) {
+        final var needle = fold(fragment);
+        final var asciiNeedle =
+                needle.chars().allMatch(c -> c < 0x80) ? needle.getBytes(StandardCharsets.US_ASCII) : null;
+        return read(() -> {
+            final var matches = new ArrayList<MockEmployee>();
+            for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+                if (!names.isNull(slot) && nameContains(slot, needle, asciiNeedle)) {
+                    matches.add(employee(slot));
+                }
+            }
+            return matches;
+        });
+    }
+
+    @Override
+    public OptionalInt findMaxSalary() {
+        return read(() -> {
+            final var column = salaries;
+            var max = NO_VALUE;
+            for (int slot = 0, end = slotCount; slot < end; slot++) {
+                max = Math.max(max, column[slot]);
+            }
+            return max == NO_VALUE ? OptionalInt.empty() : OptionalInt.of(max);
+        });
+    }
+
+    @Override
+    public List<MockEmployee> findTopBySalary(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive.");
+        }
+        return read(() -> Arrays.stream(topSlotsBySalary(limit))
+                .mapToObj(this::employee)
+                .toList());
+    }
+
+    @Override
+    List<MockEmployee> copyAll() {
+        final var employees = new ArrayList<MockEmployee>(slotCount - deletedCount);
+        for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+            employees.add(employee(slot));
+        }
+        return employees;
+    }
+
+    @Override
+    void insert(MockEmployee employee) {
+        final var id = Objects.requireNonNull(employee.getId(), "Employee id must not be null.");
+        final var previous = slotOf(id);
+        if (previous >= 0) {
+            tombstone(previous);
+        }
+        ensureCapacity(slotCount + 1);
+
+        final var slot = slotCount++;
+        sequences[slot] = ++lastSequence;
+        idHighs[slot] = id.getMostSignificantBits();
+        idLows[slot] = id.getLeastSignificantBits();
+        salaries[slot] = valueOrNone(employee.getSalary());
+        ages[slot] = valueOrNone(employee.getAge());
+        titleCodes[slot] = titles.encode(employee.getTitle());
+        names.add(employee.getName());
+        emails.add(employee.getEmail());
+        indexId(slot);
+        indexName(slot, employee.getName() == null ? null : fold(employee.getName()));
+
+        if (previous >= 0) {
+            compactIfSparse();
+        }
+    }
+
+    @Override
+    MockEmployee unlink(UUID id) {
+        return unlinkSlot(slotOf(id));
+    }
+
+    @Override
+    MockEmployee unlinkFirstByName(String name) {
+        return unlinkSlot(firstSlotNamed(fold(name)));
+    }
+
+    private MockEmployee unlinkSlot(int slot) {
+        if (slot < 0) {
+            return null;
+        }
+        final var employee = employee(slot);
+        tombstone(slot);
+        compactIfSparse();
+        return employee;
+    }
+
+    private MockEmployee employee(int slot) {
+        return MockEmployee.builder()
+                .id(new UUID(idHighs[slot], idLows[slot]))
+                .name(names.get(slot))
+                .salary(valueOrNull(salaries[slot]))
+                .age(valueOrNull(ages[slot]))
+                .title(titles.decode(titleCodes[slot]))
+                .email(emails.get(slot))
+                .build();
+    }
+
+    private boolean nameContains(int slot, String needle, byte[] asciiNeedle) {
+        if (asciiNeedle != null) {
+            final var contained = names.containsAsciiIgnoreCase(slot, asciiNeedle);
+            if (contained != null) {
+                return contained;
+            }
+        }
+        return fold(names.get(slot)).contains(needle);
+    }
+
+    /**
+     * Returns the slots of up to {@code limit} rows with the highest salaries, ranked, from one pass over the salary
+     * column.
+     */
+    private int[] topSlotsBySalary(int limit) {
+        final var column = salaries;
+        final var heap = new SalaryHeap(Math.min(limit, slotCount - deletedCount), slot -> column[slot]);
+        for (int slot = 0, end = slotCount; slot < end; slot++) {
+            final var salary = column[slot];
+            if (salary != NO_VALUE) {
+                heap.offer(slot, salary);
+            }
+        }
+        return heap.ranked();
+    }
+
+    private int slotOf(UUID id) {
+        final var high = id.getMostSignificantBits();
+        final var low = id.getLeastSignificantBits();
+        final var mask = idTable.length - 1;
+        for (int index = SlotTables.idHash(high, low) & mask; ; index = (index + 1) & mask) {
+            final var entry = idTable[index];
+            if (entry == SlotTables.EMPTY) {
+                return -1;
+            }
+            final var slot = entry - 1;
+            if (idHighs[slot] == high && idLows[slot] == low && !deleted.get(slot)) {
+                return slot;
+            }
+        }
+    }
+
+    private int firstSlotNamed(String folded) {
+        final var hash = SlotTables.nameHash(folded);
+        var found = -1;
+        for (int entry = nameBuckets[hash & (nameBuckets.length - 1)];
+                entry != SlotTables.EMPTY;
+                entry = nameNext[entry - 1]) {
+            final var slot = entry - 1;
+            // Chains run newest first, so the last match is the oldest
+            if (nameHashes[slot] == hash && !deleted.get(slot) && folded.equals(fold(names.get(slot)))) {
+                found = slot;
+            }
+        }
+        return found;
+    }
+
+    private void indexId(int slot) {
+        final var mask = idTable.length - 1;
+        var index = SlotTables.idHash(idHighs[slot], idLows[slot]) & mask;
+        while (idTable[index] != SlotTables.EMPTY) {
+            index = (index + 1) & mask;
+        }
+        idTable[index] = slot + 1;
+        idTableEntries++;
+    }
+
+    private void indexName(int slot, String folded) {
+        if (folded == null) {
+            nameHashes[slot] = 0;
+            nameNext[slot] = SlotTables.EMPTY;
+            return;
+        }
+        nameHashes[slot] = SlotTables.nameHash(folded);
+        linkName(slot);
+    }
+
+    private void linkName(int slot) {
+        final var bucket = nameHashes[slot] & (nameBuckets.length - 1);
+        nameNext[slot] = nameBuckets[bucket];
+        nameBuckets[bucket] = slot + 1;
+    }
+
+    private void tombstone(int slot) {
+        deleted.set(slot);
+        deletedCount++;
+        salaries[slot] = NO_VALUE;
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows > sequences.length) {
+            final var capacity = (int) Math.min(MAX_ARRAY_LENGTH, Math.max(rows, sequences.length * 3L / 2));
+            sequences = Arrays.copyOf(sequences, capacity);
+            idHighs = Arrays.copyOf(idHighs, capacity);
+            idLows = Arrays.copyOf(idLows, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            titleCodes = Arrays.copyOf(titleCodes, capacity);
+            nameHashes = Arrays.copyOf(nameHashes, capacity);
+            nameNext = Arrays.copyOf(nameNext, capacity);
+        }
+        if ((idTableEntries + 1L) * 2 > idTable.length) {
+            // Rebuilt a quarter full, so replacing rows does not trigger a rebuild on every insert
+            rebuildIdTable(SlotTables.tableLength(4L * (slotCount - deletedCount + 1)));
+        }
+        if (rows > nameBuckets.length) {
+            rebuildNameBuckets(SlotTables.tableLength(2L * rows));
+        }
+    }
+
+    /**
+     * Compacts once tombstones make up more than half the slots, so scans never cover more than twice the live rows.
+     */
+    private void compactIfSparse() {
+        if (deletedCount < MIN_COMPACTION_ROWS || deletedCount * 2 <= slotCount) {
+            return;
+        }
+        final var compactedTitles = new StringDictionary();
+        var kept = 0;
+        for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+            sequences[kept] = sequences[slot];
+            idHighs[kept] = idHighs[slot];
+            idLows[kept] = idLows[slot];
+            salaries[kept] = salaries[slot];
+            ages[kept] = ages[slot];
+            titleCodes[kept] = compactedTitles.encode(titles.decode(titleCodes[slot]));
+            nameHashes[kept] = nameHashes[slot];
+            kept++;
+        }
+        names.retain(deleted);
+        emails.retain(deleted);
+        titles = compactedTitles;
+        deleted.clear();
+        deletedCount = 0;
+        slotCount = kept;
+        rebuildIdTable(SlotTables.tableLength(2L * Math.max(SlotTables.MIN_CAPACITY, kept)));
+        rebuildNameBuckets(SlotTables.tableLength(Math.max(SlotTables.MIN_CAPACITY, kept)));
+    }
+
+    private void rebuildIdTable(int length) {
+        idTable = new int[length];
+        idTableEntries = 0;
+        for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+            indexId(slot);
+        }
+    }
+
+    private void rebuildNameBuckets(int length) {
+        nameBuckets = new int[length];
+        for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+            if (!names.isNull(slot)) {
+                linkName(slot);
+            }
+        }
+    }
+
+    private static int valueOrNone(Integer value) {
+        return value == null ? NO_VALUE : value;
+    }
+
+    private static Integer valueOrNull(int value) {
+        return value == NO_VALUE ? null : value;
+    }
+}
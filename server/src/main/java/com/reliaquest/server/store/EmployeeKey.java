@@ -0,0 +1,18 @@
+package com.reliaquest.server.store;
+
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Identifies one employee to remove: by id, or else the oldest employee with the given name, ignoring case.
+ */
+public record EmployeeKey(UUID id, String name) {
+
+    public static EmployeeKey ofId(@NonNull UUID id) {
+        return new EmployeeKey(id, null);
+    }
+
+    public static EmployeeKey ofName(@NonNull String name) {
+        return new EmployeeKey(null, name);
+    }
+}
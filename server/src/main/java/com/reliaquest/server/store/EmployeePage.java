@@ -0,0 +1,15 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+
+/**
+ * A slice of the employee table. {@code lastSequence} is the sequence of the final row in the slice, or {@code null}
+ * when the table has no rows beyond it.
+ */
+public record EmployeePage(List<MockEmployee> employees, Long lastSequence) {
+
+    public boolean hasNext() {
+        return lastSequence != null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.reliaquest.server.store;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * The mock server's employee table.
+ *
+ * <p>Every row is stamped with a monotonically increasing sequence number on insert. Sequences are never reused, which
+ * makes them stable keyset cursors for paging through the table while it is being modified. Name lookups ignore case.
+ *
+ * <p>Writes are passed to a {@link StoreJournal} in the order they are applied, and return once the journal reports
+ * them durable. Readers see a write as soon as it is applied; if the journal then fails to make it durable, the journal
+ * puts the table back to its durable state through {@link #reset} before the write fails. Implementations differ only
+ * in how and where rows are laid out; see {@link StoreLayout}.
+ */
+public interface EmployeeStore {
+
+    int size();
+
+    /**
+     * Returns all employees in insertion order.
+     */
+    List<MockEmployee> findAll();
+
+    /**
+     * Returns all employees in insertion order and runs {@code marker} at the same point in the write order: no write is
+     * applied, or passed to the journal, between the copy and the marker.
+     */
+    List<MockEmployee> findAllAndMark(Runnable marker);
+
+    /**
+     * Returns up to {@code limit} employees inserted after the row with sequence {@code afterSequence}, in insertion
+     * order. Pass {@code 0} to start from the beginning of the table.
+     */
+    EmployeePage findPage(long afterSequence, int limit);
+
+    /**
+     * Writes the employees {@link #findPage} would return to {@code generator} as newline delimited JSON, one object
+     * per line, and returns the page's {@code lastSequence}. {@code writer} serialises a {@link MockEmployee}; layouts
+     * that can write rows without materialising them may ignore it.
+     */
+    default Long writePage(long afterSequence, int limit, JsonGenerator generator, ObjectWriter writer)
+            throws IOException {
+        final var page = findPage(afterSequence, limit);
+        for (final var employee : page.employees()) {
+            writer.writeValue(generator, employee);
+            generator.writeRaw('\n');
+        }
+        return page.lastSequence();
+    }
+
+    Optional<MockEmployee> findById(UUID id);
+
+    /**
+     * Returns the oldest employee whose name matches, ignoring case.
+     */
+    Optional<MockEmployee> findFirstByName(String name);
+
+    /**
+     * Returns employees whose name contains {@code fragment}, ignoring case, in insertion order.
+     */
+    List<MockEmployee> findByNameContaining(String fragment);
+
+    OptionalInt findMaxSalary();
+
+    /**
+     * Returns up to {@code limit} employees with the highest salaries, highest first and ties in insertion order.
+     */
+    List<MockEmployee> findTopBySalary(int limit);
+
+    void add(MockEmployee employee);
+
+    /**
+     * Adds all employees in one write, made durable with a single wait on the journal.
+     */
+    void addAll(Collection<MockEmployee> employees);
+
+    /**
+     * Loads employees recovered from durable storage without passing them to the journal again.
+     */
+    void restore(Collection<MockEmployee> employees);
+
+    /**
+     * Puts the table back to {@code employees}, read back from durable storage after the journal failed, without
+     * passing anything to the journal, and runs {@code marker} at the same point in the write order. Rows present in
+     * both keep their place and sequence; rows only in {@code employees} are added at the end.
+     */
+    void reset(Collection<MockEmployee> employees, Runnable marker);
+
+    Optional<MockEmployee> remove(UUID id);
+
+    /**
+     * Removes the employee identified by each key in one write and returns the removed employees in key order, with
+     * {@code null} for keys that matched nobody. Later keys see the removals made for earlier ones.
+     */
+    List<MockEmployee> removeAll(List<EmployeeKey> keys);
+
+    /**
+     * Atomically finds and removes the oldest employee whose name matches, ignoring case.
+     */
+    Optional<MockEmployee> removeFirstByName(String name);
+}
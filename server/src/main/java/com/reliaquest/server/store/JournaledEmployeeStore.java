@@ -0,0 +1,217 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * Locking and journaling shared by the store layouts. Subclasses only lay out rows: their {@code insert} and
+ * {@code unlink} methods are called with the write lock held, and their queries run through {@link #read(Supplier)}.
+ *
+ * <p>Changes are passed to the journal under the write lock, so the journal sees them in the order they were applied,
+ * and awaited after it is released, so concurrent writers can share one flush. A write whose changes fail to become
+ * durable asks the journal to {@link StoreJournal#recover() recover} before it fails, so the caller never sees its
+ * failed change still applied.
+ */
+abstract class JournaledEmployeeStore implements EmployeeStore {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final StoreJournal journal;
+
+    JournaledEmployeeStore(@NonNull StoreJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Adds a row, replacing any row with the same id.
+     */
+    abstract void insert(MockEmployee employee);
+
+    /**
+     * Removes the row with this id, returning it, or {@code null} if there is none.
+     */
+    abstract MockEmployee unlink(UUID id);
+
+    /**
+     * Removes the oldest row whose name matches, ignoring case, returning it, or {@code null} if there is none.
+     */
+    abstract MockEmployee unlinkFirstByName(String name);
+
+    /**
+     * Copies every row in insertion order.
+     */
+    abstract List<MockEmployee> copyAll();
+
+    /**
+     * Rejects a row this layout cannot hold. Called for every row of a write before any of them is applied, so a
+     * rejected batch leaves the table untouched.
+     */
+    void check(MockEmployee employee) {}
+
+    final <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public final List<MockEmployee> findAll() {
+        return read(this::copyAll);
+    }
+
+    @Override
+    public final List<MockEmployee> findAllAndMark(@NonNull Runnable marker) {
+        return read(() -> {
+            final var employees = copyAll();
+            marker.run();
+            return employees;
+        });
+    }
+
+    @Override
+    public final void add(@NonNull MockEmployee employee) {
+        check(employee);
+        final CompletableFuture<?> durable;
+        lock.writeLock().lock();
+        try {
+            insert(employee);
+            durable = journal.created(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(durable);
+    }
+
+    @Override
+    public final void addAll(@NonNull Collection<MockEmployee> employees) {
+        employees.forEach(this::check);
+        // The journal makes changes durable in order, so the last one covers the whole batch
+        CompletableFuture<?> durable = null;
+        lock.writeLock().lock();
+        try {
+            for (final var employee : employees) {
+                insert(employee);
+                durable = journal.created(employee);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(durable);
+    }
+
+    @Override
+    public final void restore(@NonNull Collection<MockEmployee> employees) {
+        employees.forEach(this::check);
+        lock.writeLock().lock();
+        try {
+            employees.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public final void reset(@NonNull Collection<MockEmployee> employees, @NonNull Runnable marker) {
+        employees.forEach(this::check);
+        lock.writeLock().lock();
+        try {
+            final var durable = new LinkedHashMap<UUID, MockEmployee>();
+            employees.forEach(employee -> durable.put(employee.getId(), employee));
+            for (final var employee : copyAll()) {
+                if (employee.equals(durable.get(employee.getId()))) {
+                    durable.remove(employee.getId());
+                } else {
+                    unlink(employee.getId());
+                }
+            }
+            durable.values().forEach(this::insert);
+            marker.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public final Optional<MockEmployee> remove(@NonNull UUID id) {
+        final MockEmployee removed;
+        final CompletableFuture<?> durable;
+        lock.writeLock().lock();
+        try {
+            removed = unlink(id);
+            durable = removed == null ? null : journal.deleted(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(durable);
+        return Optional.ofNullable(removed);
+    }
+
+    @Override
+    public final List<MockEmployee> removeAll(@NonNull List<EmployeeKey> keys) {
+        final var removed = new ArrayList<MockEmployee>(keys.size());
+        CompletableFuture<?> durable = null;
+        lock.writeLock().lock();
+        try {
+            for (final var key : keys) {
+                final var employee = key.id() != null ? unlink(key.id()) : unlinkFirstByName(key.name());
+                if (employee != null) {
+                    durable = journal.deleted(employee.getId());
+                }
+                removed.add(employee);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(durable);
+        return removed;
+    }
+
+    @Override
+    public final Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        final MockEmployee removed;
+        final CompletableFuture<?> durable;
+        lock.writeLock().lock();
+        try {
+            removed = unlinkFirstByName(name);
+            durable = removed == null ? null : journal.deleted(removed.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        awaitDurable(durable);
+        return Optional.ofNullable(removed);
+    }
+
+    private void awaitDurable(CompletableFuture<?> durable) {
+        if (durable == null) {
+            return;
+        }
+        try {
+            durable.join();
+        } catch (CompletionException e) {
+            journal.recover();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,803 @@
+package com.reliaquest.server.store;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.server.model.InvalidRequestException;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Employee table kept in memory-mapped files rather than on the heap. Rows are fixed-width records in segment files of
+ * {@value #SEGMENT_RECORDS} records each; the heap only holds the indexes, as primitive arrays of slot numbers, so heap
+ * size and GC work do not grow with the row objects.
+ *
+ * <p>A record holds a state byte, the name hash, the sequence, the id as two {@code long}s, salary and age as
+ * {@code int}s (with {@link Integer#MIN_VALUE} standing for a missing value), and the name, title and email as
+ * length-prefixed UTF-8 in fixed-width fields. Rows whose text does not fit are rejected. Slots are appended in
+ * insertion order, so sequences are sorted across the slots and pages are found by binary search. As in
+ * {@link ColumnarEmployeeStore}, deletes only mark the record and the slots are compacted in place once deleted
+ * records outnumber live ones; ids are indexed by an open-addressing table and names by hash chains through the slots.
+ *
+ * <p>Every record is written in full before its state byte marks it live, and a compaction clears a record's state
+ * before overwriting it, so the files are consistent whenever the process stops. Opening the directory again recovers
+ * the table, finishing a compaction that was interrupted. Writes reach the page cache immediately, which survives a
+ * crash of the server; {@link #close()} forces them to disk.
+ */
+@Slf4j
+public class MappedEmployeeStore extends JournaledEmployeeStore implements AutoCloseable {
+
+    static final int SEGMENT_RECORDS = 1 << 16;
+    static final int RECORD_BYTES = 320;
+
+    private static final int SEGMENT_SHIFT = 16;
+    private static final long SEGMENT_BYTES = (long) SEGMENT_RECORDS * RECORD_BYTES;
+
+    private static final String HEADER_FILE = "employees.meta";
+    private static final String SEGMENT_FILE = "employees-%05d.seg";
+    private static final int HEADER_BYTES = 32;
+    private static final int MAGIC = 0x454D5053;
+    private static final int VERSION = 1;
+
+    /*
+     * Header layout.
+     */
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_RECORD_BYTES = 8;
+    private static final int HEADER_SEGMENT_RECORDS = 12;
+    private static final int HEADER_LAST_SEQUENCE = 16;
+
+    /*
+     * Record layout.
+     */
+    private static final int STATE = 0;
+    private static final int NAME_HASH = 4;
+    private static final int SEQUENCE = 8;
+    private static final int ID_HIGH = 16;
+    private static final int ID_LOW = 24;
+    private static final int SALARY = 32;
+    private static final int AGE = 36;
+    private static final TextField NAME = new TextField("name", 40, 80);
+    private static final TextField TITLE = new TextField("title", 122, 96);
+    private static final TextField EMAIL = new TextField("email", 220, 98);
+
+    private static final byte UNUSED = 0;
+    private static final byte LIVE = 1;
+    private static final byte DELETED = 2;
+
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final int MIN_COMPACTION_ROWS = 1024;
+
+    /*
+     * Property names as MockEmployee serialises them.
+     */
+    private static final SerializableString ID_PROPERTY = new SerializedString("id");
+    private static final SerializableString NAME_PROPERTY = new SerializedString("employee_name");
+    private static final SerializableString SALARY_PROPERTY = new SerializedString("employee_salary");
+    private static final SerializableString AGE_PROPERTY = new SerializedString("employee_age");
+    private static final SerializableString TITLE_PROPERTY = new SerializedString("employee_title");
+    private static final SerializableString EMAIL_PROPERTY = new SerializedString("employee_email");
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final BitSet deleted = new BitSet();
+
+    /*
+     * Linear probing, kept at most half full. Entries for deleted slots stay until the table is rebuilt.
+     */
+    private int[] idTable;
+    private int idTableEntries;
+
+    /*
+     * Head of each name chain and the next slot in it; chains run from the newest slot to the oldest.
+     */
+    private int[] nameBuckets;
+    private int[] nameNext;
+
+    private int slotCount;
+    private int deletedCount;
+    private long lastSequence;
+
+    private MappedEmployeeStore(Path directory, int expectedSize, StoreJournal journal) throws IOException {
+        super(journal);
+        this.directory = Files.createDirectories(directory);
+        this.header = map(directory.resolve(HEADER_FILE), HEADER_BYTES);
+        checkHeader();
+        while (Files.exists(segmentPath(segments.size()))) {
+            segments.add(map(segmentPath(segments.size()), SEGMENT_BYTES));
+        }
+        recover(Math.max(SlotTables.MIN_CAPACITY, expectedSize));
+    }
+
+    /**
+     * Opens the table in {@code directory}, creating it if it does not exist yet.
+     */
+    public static MappedEmployeeStore open(
+            @NonNull Path directory, int expectedSize, @NonNull StoreJournal journal) throws IOException {
+        return new MappedEmployeeStore(directory, expectedSize, journal);
+    }
+
+    @Override
+    public int size() {
+        return read(() -> slotCount - deletedCount);
+    }
+
+    @Override
+    public EmployeePage findPage(long afterSequence, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive.");
+        }
+        return read(() -> {
+            final var employees = new ArrayList<MockEmployee>(Math.min(limit, slotCount - deletedCount));
+            long last = afterSequence;
+            for (int slot = deleted.nextClearBit(firstSlotAfter(afterSequence));
+                    slot < slotCount;
+                    slot = deleted.nextClearBit(slot + 1)) {
+                if (employees.size() == limit) {
+                    return new EmployeePage(employees, last);
+                }
+                employees.add(employee(slot));
+                last = sequence(slot);
+            }
+            return new EmployeePage(employees, null);
+        });
+    }
+
+    /**
+     * The page's records are copied out of the segments under the read lock in one pass, then written as JSON from the
+     * copy after the lock is released, so a slow client never holds up writers. No {@link MockEmployee} or
+     * {@link String} is created per row.
+     */
+    @Override
+    public Long writePage(long afterSequence, int limit, JsonGenerator generator, ObjectWriter writer)
+            throws IOException {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive.");
+        }
+        final var records = new byte[Math.min(limit, SEGMENT_RECORDS) * RECORD_BYTES];
+        final var copied = read(() -> copyRecords(afterSequence, Math.min(limit, SEGMENT_RECORDS), records));
+        final var buffer = ByteBuffer.wrap(records);
+        final var uuid = new char[36];
+        for (int i = 0; i < copied.count(); i++) {
+            writeRecord(generator, buffer, i * RECORD_BYTES, uuid);
+            generator.writeRaw('\n');
+        }
+        return copied.lastSequence();
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return read(() -> {
+            final var slot = slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return slot < 0 ? Optional.empty() : Optional.of(employee(slot));
+        });
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        final var folded = fold(name);
+        return read(() -> {
+            final var slot = firstSlotNamed(folded);
+            return slot < 0 ? Optional.empty() : Optional.of(employee(slot));
+        });
+    }
+
+    /**
+     * ASCII names are matched byte by byte in the mapped records, without decoding them.
+     */
+    @Override
+    public List<MockEmployee> findByNameContaining(@NonNull String fragment) {
+        final var needle = fold(fragment);
+        final var asciiNeedle =
+                needle.chars().allMatch(c -> c < 0x80) ? needle.getBytes(StandardCharsets.US_ASCII) : null;
+        return read(() -> {
+            final var matches = new ArrayList<MockEmployee>();
+            for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+                if (nameContains(slot, needle, asciiNeedle)) {
+                    matches.add(employee(slot));
+                }
+            }
+            return matches;
+        });
+    }
+
+    @Override
+    public OptionalInt findMaxSalary() {
+        return read(() -> {
+            var max = NO_VALUE;
+            for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+                max = Math.max(max, salary(slot));
+            }
+            return max == NO_VALUE ? OptionalInt.empty() : OptionalInt.of(max);
+        });
+    }
+
+    @Override
+    public List<MockEmployee> findTopBySalary(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive.");
+        }
+        return read(() -> {
+            final var heap = new SalaryHeap(Math.min(limit, slotCount - deletedCount), this::salary);
+            for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+                final var salary = salary(slot);
+                if (salary != NO_VALUE) {
+                    heap.offer(slot, salary);
+                }
+            }
+            return Arrays.stream(heap.ranked()).mapToObj(this::employee).toList();
+        });
+    }
+
+    /**
+     * Forces the header and every segment to disk.
+     */
+    @Override
+    public void close() {
+        read(() -> {
+            header.force();
+            segments.forEach(MappedByteBuffer::force);
+            return null;
+        });
+        log.info("Closed employee store in {} with {} employees", directory, size());
+    }
+
+    @Override
+    List<MockEmployee> copyAll() {
+        final var employees = new ArrayList<MockEmployee>(slotCount - deletedCount);
+        for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+            employees.add(employee(slot));
+        }
+        return employees;
+    }
+
+    @Override
+    void check(MockEmployee employee) {
+        NAME.check(employee.getName());
+        TITLE.check(employee.getTitle());
+        EMAIL.check(employee.getEmail());
+    }
+
+    @Override
+    void insert(MockEmployee employee) {
+        final var id = Objects.requireNonNull(employee.getId(), "Employee id must not be null.");
+        final var previous = slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (previous >= 0) {
+            delete(previous);
+        }
+        ensureCapacity(slotCount + 1);
+
+        final var slot = slotCount++;
+        final var segment = segment(slot);
+        final var base = offset(slot);
+        final var name = employee.getName();
+        segment.putInt(base + NAME_HASH, name == null ? 0 : SlotTables.nameHash(fold(name)));
+        segment.putLong(base + SEQUENCE, ++lastSequence);
+        segment.putLong(base + ID_HIGH, id.getMostSignificantBits());
+        segment.putLong(base + ID_LOW, id.getLeastSignificantBits());
+        segment.putInt(base + SALARY, valueOrNone(employee.getSalary()));
+        segment.putInt(base + AGE, valueOrNone(employee.getAge()));
+        NAME.put(segment, base, name);
+        TITLE.put(segment, base, employee.getTitle());
+        EMAIL.put(segment, base, employee.getEmail());
+        // Marked live only once the rest of the record is in place
+        segment.put(base + STATE, LIVE);
+        header.putLong(HEADER_LAST_SEQUENCE, lastSequence);
+
+        indexId(slot);
+        if (name != null) {
+            linkName(slot);
+        }
+        if (previous >= 0) {
+            compactIfSparse();
+        }
+    }
+
+    @Override
+    MockEmployee unlink(UUID id) {
+        return unlinkSlot(slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+    }
+
+    @Override
+    MockEmployee unlinkFirstByName(String name) {
+        return unlinkSlot(firstSlotNamed(fold(name)));
+    }
+
+    private MockEmployee unlinkSlot(int slot) {
+        if (slot < 0) {
+            return null;
+        }
+        final var employee = employee(slot);
+        delete(slot);
+        compactIfSparse();
+        return employee;
+    }
+
+    private MockEmployee employee(int slot) {
+        final var segment = segment(slot);
+        final var base = offset(slot);
+        return MockEmployee.builder()
+                .id(new UUID(segment.getLong(base + ID_HIGH), segment.getLong(base + ID_LOW)))
+                .name(NAME.get(segment, base))
+                .salary(valueOrNull(segment.getInt(base + SALARY)))
+                .age(valueOrNull(segment.getInt(base + AGE)))
+                .title(TITLE.get(segment, base))
+                .email(EMAIL.get(segment, base))
+                .build();
+    }
+
+    /**
+     * Copies up to {@code limit} live records after {@code afterSequence} into {@code records}, moving each run of
+     * consecutive live records within a segment in one bulk copy.
+     */
+    private CopiedRecords copyRecords(long afterSequence, int limit, byte[] records) {
+        var count = 0;
+        long last = afterSequence;
+        var slot = deleted.nextClearBit(firstSlotAfter(afterSequence));
+        while (slot < slotCount) {
+            if (count == limit) {
+                return new CopiedRecords(count, last);
+            }
+            final var nextDeleted = deleted.nextSetBit(slot);
+            final var segmentEnd = (slot | (SEGMENT_RECORDS - 1)) + 1;
+            final var runEnd = Math.min(
+                    Math.min(nextDeleted < 0 ? slotCount : Math.min(nextDeleted, slotCount), segmentEnd),
+                    slot + limit - count);
+            final var run = runEnd - slot;
+            segment(slot).get(offset(slot), records, count * RECORD_BYTES, run * RECORD_BYTES);
+            count += run;
+            last = sequence(runEnd - 1);
+            slot = deleted.nextClearBit(runEnd);
+        }
+        return new CopiedRecords(count, null);
+    }
+
+    private static void writeRecord(JsonGenerator generator, ByteBuffer records, int base, char[] uuid)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(ID_PROPERTY);
+        formatUuid(records.getLong(base + ID_HIGH), records.getLong(base + ID_LOW), uuid);
+        generator.writeString(uuid, 0, uuid.length);
+        generator.writeFieldName(NAME_PROPERTY);
+        NAME.write(generator, records, base);
+        generator.writeFieldName(SALARY_PROPERTY);
+        writeValue(generator, records.getInt(base + SALARY));
+        generator.writeFieldName(AGE_PROPERTY);
+        writeValue(generator, records.getInt(base + AGE));
+        generator.writeFieldName(TITLE_PROPERTY);
+        TITLE.write(generator, records, base);
+        generator.writeFieldName(EMAIL_PROPERTY);
+        EMAIL.write(generator, records, base);
+        generator.writeEndObject();
+    }
+
+    private static void writeValue(JsonGenerator generator, int value) throws IOException {
+        if (value == NO_VALUE) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    /**
+     * Writes the id in {@link UUID#toString()} form.
+     */
+    private static void formatUuid(long high, long low, char[] chars) {
+        formatHex(high >>> 32, chars, 0, 8);
+        chars[8] = '-';
+        formatHex(high >>> 16, chars, 9, 4);
+        chars[13] = '-';
+        formatHex(high, chars, 14, 4);
+        chars[18] = '-';
+        formatHex(low >>> 48, chars, 19, 4);
+        chars[23] = '-';
+        formatHex(low, chars, 24, 12);
+    }
+
+    private static void formatHex(long value, char[] chars, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+
+    private boolean nameContains(int slot, String needle, byte[] asciiNeedle) {
+        final var segment = segment(slot);
+        final var base = offset(slot);
+        if (asciiNeedle != null) {
+            final var contained = NAME.containsAsciiIgnoreCase(segment, base, asciiNeedle);
+            if (contained != null) {
+                return contained;
+            }
+        }
+        final var name = NAME.get(segment, base);
+        return name != null && fold(name).contains(needle);
+    }
+
+    private int firstSlotAfter(long afterSequence) {
+        var low = 0;
+        var high = slotCount;
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (sequence(middle) <= afterSequence) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int slotOf(long high, long low) {
+        final var mask = idTable.length - 1;
+        for (int index = SlotTables.idHash(high, low) & mask; ; index = (index + 1) & mask) {
+            final var entry = idTable[index];
+            if (entry == SlotTables.EMPTY) {
+                return -1;
+            }
+            final var slot = entry - 1;
+            final var segment = segment(slot);
+            final var base = offset(slot);
+            if (segment.getLong(base + ID_HIGH) == high
+                    && segment.getLong(base + ID_LOW) == low
+                    && !deleted.get(slot)) {
+                return slot;
+            }
+        }
+    }
+
+    private int firstSlotNamed(String folded) {
+        final var hash = SlotTables.nameHash(folded);
+        var found = -1;
+        for (int entry = nameBuckets[hash & (nameBuckets.length - 1)];
+                entry != SlotTables.EMPTY;
+                entry = nameNext[entry - 1]) {
+            final var slot = entry - 1;
+            final var segment = segment(slot);
+            final var base = offset(slot);
+            // Chains run newest first, so the last match is the oldest
+            if (segment.getInt(base + NAME_HASH) == hash
+                    && !deleted.get(slot)
+                    && folded.equals(fold(NAME.get(segment, base)))) {
+                found = slot;
+            }
+        }
+        return found;
+    }
+
+    private void indexId(int slot) {
+        final var segment = segment(slot);
+        final var base = offset(slot);
+        final var mask = idTable.length - 1;
+        var index = SlotTables.idHash(segment.getLong(base + ID_HIGH), segment.getLong(base + ID_LOW)) & mask;
+        while (idTable[index] != SlotTables.EMPTY) {
+            index = (index + 1) & mask;
+        }
+        idTable[index] = slot + 1;
+        idTableEntries++;
+    }
+
+    private void linkName(int slot) {
+        final var bucket = segment(slot).getInt(offset(slot) + NAME_HASH) & (nameBuckets.length - 1);
+        nameNext[slot] = nameBuckets[bucket];
+        nameBuckets[bucket] = slot + 1;
+    }
+
+    private void delete(int slot) {
+        segment(slot).put(offset(slot) + STATE, DELETED);
+        markDeleted(slot);
+    }
+
+    private void markDeleted(int slot) {
+        deleted.set(slot);
+        deletedCount++;
+    }
+
+    private void ensureCapacity(int rows) {
+        while (rows > segments.size() * SEGMENT_RECORDS) {
+            try {
+                segments.add(map(segmentPath(segments.size()), SEGMENT_BYTES));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not map a new employee segment in " + directory, e);
+            }
+        }
+        if (rows > nameNext.length) {
+            nameNext = Arrays.copyOf(nameNext, Math.max(rows, nameNext.length + (nameNext.length >> 1)));
+        }
+        if ((idTableEntries + 1L) * 2 > idTable.length) {
+            // Rebuilt a quarter full, so replacing rows does not trigger a rebuild on every insert
+            rebuildIdTable(SlotTables.tableLength(4L * (slotCount - deletedCount + 1)));
+        }
+        if (rows > nameBuckets.length) {
+            rebuildNameBuckets(SlotTables.tableLength(2L * rows));
+        }
+    }
+
+    /**
+     * Compacts once deleted records make up more than half the slots, so scans never cover more than twice the live
+     * rows.
+     */
+    private void compactIfSparse() {
+        if (deletedCount >= MIN_COMPACTION_ROWS && deletedCount * 2 > slotCount) {
+            compact();
+        }
+    }
+
+    /**
+     * Moves the live records down over the deleted ones, keeping their order, then marks the freed tail unused. A
+     * record's state is cleared before it is overwritten and set once the copy is complete, so if the process stops
+     * part way each live row is still intact in at least one slot, and {@link #recover(int)} finishes the job.
+     */
+    private void compact() {
+        var kept = 0;
+        for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+            if (slot != kept) {
+                final var target = segment(kept);
+                final var base = offset(kept);
+                // Whatever the target held has been deleted or already moved further down
+                target.put(base + STATE, DELETED);
+                target.put(base + STATE + 1, segment(slot), offset(slot) + STATE + 1, RECORD_BYTES - 1);
+                target.put(base + STATE, LIVE);
+            }
+            kept++;
+        }
+        for (int slot = kept; slot < slotCount; slot++) {
+            segment(slot).put(offset(slot) + STATE, UNUSED);
+        }
+        deleted.clear();
+        deletedCount = 0;
+        slotCount = kept;
+        rebuildIdTable(SlotTables.tableLength(2L * Math.max(SlotTables.MIN_CAPACITY, kept)));
+        rebuildNameBuckets(SlotTables.tableLength(Math.max(SlotTables.MIN_CAPACITY, kept)));
+    }
+
+    /**
+     * Rebuilds the indexes from the segments. A compaction that was interrupted leaves unused slots among the used
+     * ones, or a live row in two slots; the later copy is deleted and the compaction is run again.
+     */
+    private void recover(int expectedSize) {
+        for (int slot = segments.size() * SEGMENT_RECORDS - 1; slot >= 0; slot--) {
+            if (state(slot) != UNUSED) {
+                slotCount = slot + 1;
+                break;
+            }
+        }
+        final var capacity = Math.max(expectedSize, slotCount);
+        idTable = new int[SlotTables.tableLength(2L * capacity)];
+        nameBuckets = new int[SlotTables.tableLength(capacity)];
+        nameNext = new int[capacity];
+        lastSequence = header.getLong(HEADER_LAST_SEQUENCE);
+
+        var interrupted = false;
+        long previous = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            final var state = state(slot);
+            if (state == UNUSED) {
+                interrupted = true;
+                markDeleted(slot);
+                continue;
+            }
+            final var sequence = sequence(slot);
+            interrupted |= sequence <= previous;
+            previous = sequence;
+            lastSequence = Math.max(lastSequence, sequence);
+            final var segment = segment(slot);
+            final var base = offset(slot);
+            if (state != LIVE) {
+                markDeleted(slot);
+            } else if (slotOf(segment.getLong(base + ID_HIGH), segment.getLong(base + ID_LOW)) >= 0) {
+                delete(slot);
+            } else {
+                indexId(slot);
+                if (NAME.length(segment, base) >= 0) {
+                    linkName(slot);
+                }
+            }
+        }
+        if (interrupted) {
+            log.warn("Finishing an interrupted compaction of the employee store in {}", directory);
+            compact();
+        } else {
+            compactIfSparse();
+        }
+        log.info("Opened employee store in {} with {} employees", directory, slotCount - deletedCount);
+    }
+
+    private void rebuildIdTable(int length) {
+        idTable = new int[length];
+        idTableEntries = 0;
+        for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+            indexId(slot);
+        }
+    }
+
+    private void rebuildNameBuckets(int length) {
+        nameBuckets = new int[length];
+        for (int slot = deleted.nextClearBit(0); slot < slotCount; slot = deleted.nextClearBit(slot + 1)) {
+            if (NAME.length(segment(slot), offset(slot)) >= 0) {
+                linkName(slot);
+            }
+        }
+    }
+
+    private void checkHeader() {
+        if (header.getInt(HEADER_MAGIC) == 0) {
+            header.putInt(HEADER_VERSION, VERSION);
+            header.putInt(HEADER_RECORD_BYTES, RECORD_BYTES);
+            header.putInt(HEADER_SEGMENT_RECORDS, SEGMENT_RECORDS);
+            header.putInt(HEADER_MAGIC, MAGIC);
+            return;
+        }
+        if (header.getInt(HEADER_MAGIC) != MAGIC
+                || header.getInt(HEADER_VERSION) != VERSION
+                || header.getInt(HEADER_RECORD_BYTES) != RECORD_BYTES
+                || header.getInt(HEADER_SEGMENT_RECORDS) != SEGMENT_RECORDS) {
+            throw new IllegalStateException("Unsupported employee store format in " + directory);
+        }
+    }
+
+    private byte state(int slot) {
+        return segment(slot).get(offset(slot) + STATE);
+    }
+
+    private long sequence(int slot) {
+        return segment(slot).getLong(offset(slot) + SEQUENCE);
+    }
+
+    private int salary(int slot) {
+        return segment(slot).getInt(offset(slot) + SALARY);
+    }
+
+    private MappedByteBuffer segment(int slot) {
+        return segments.get(slot >>> SEGMENT_SHIFT);
+    }
+
+    private static int offset(int slot) {
+        return (slot & (SEGMENT_RECORDS - 1)) * RECORD_BYTES;
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(SEGMENT_FILE.formatted(segment));
+    }
+
+    private static MappedByteBuffer map(Path file, long bytes) throws IOException {
+        try (var channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping outlives the channel; mapping past the end of the file extends it
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        }
+    }
+
+    private static int valueOrNone(Integer value) {
+        return value == null ? NO_VALUE : value;
+    }
+
+    private static Integer valueOrNull(int value) {
+        return value == NO_VALUE ? null : value;
+    }
+
+    private record CopiedRecords(int count, Long lastSequence) {}
+
+    /**
+     * A UTF-8 string stored as a signed {@code short} length, {@code -1} for null, followed by up to {@code capacity}
+     * bytes.
+     */
+    private record TextField(String label, int offset, int capacity) {
+
+        void check(String value) {
+            if (value != null && utf8Length(value) > capacity) {
+                throw new InvalidRequestException(
+                        "Employee %s must not be longer than %d bytes in UTF-8.".formatted(label, capacity));
+            }
+        }
+
+        void put(ByteBuffer record, int base, String value) {
+            if (value == null) {
+                record.putShort(base + offset, (short) -1);
+                return;
+            }
+            final var bytes = value.getBytes(StandardCharsets.UTF_8);
+            record.put(base + offset + Short.BYTES, bytes);
+            record.putShort(base + offset, (short) bytes.length);
+        }
+
+        int length(ByteBuffer record, int base) {
+            return record.getShort(base + offset);
+        }
+
+        String get(ByteBuffer record, int base) {
+            final var length = length(record, base);
+            if (length < 0) {
+                return null;
+            }
+            final var bytes = new byte[length];
+            record.get(base + offset + Short.BYTES, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Writes the field from a heap copy of the record, passing its bytes through without decoding them.
+         */
+        void write(JsonGenerator generator, ByteBuffer records, int base) throws IOException {
+            final var length = length(records, base);
+            if (length < 0) {
+                generator.writeNull();
+            } else {
+                generator.writeUTF8String(records.array(), base + offset + Short.BYTES, length);
+            }
+        }
+
+        /**
+         * Whether the field contains {@code needle}, which must be lower-case ASCII, comparing ASCII letters without
+         * regard to case. Returns {@code null} when the field holds non-ASCII text, and {@code false} when it is null.
+         */
+        Boolean containsAsciiIgnoreCase(ByteBuffer record, int base, byte[] needle) {
+            final var start = base + offset + Short.BYTES;
+            final var end = start + length(record, base);
+            for (int i = start; i < end; i++) {
+                if (record.get(i) < 0) {
+                    return null;
+                }
+            }
+            for (int i = start, last = end - needle.length; i <= last; i++) {
+                var matched = true;
+                for (int j = 0; j < needle.length; j++) {
+                    if (lowerAscii(record.get(i + j)) != needle[j]) {
+                        matched = false;
+                        break;
+                    }
+                }
+                if (matched) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static byte lowerAscii(byte value) {
+            return value >= 'A' && value <= 'Z' ? (byte) (value + ('a' - 'A')) : value;
+        }
+
+        private static int utf8Length(String value) {
+            var length = 0;
+            for (int i = 0; i < value.length(); i++) {
+                final var c = value.charAt(i);
+                if (c < 0x80) {
+                    length += 1;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c)
+                        && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * In-memory employee table of {@link MockEmployee} objects, with a primary index on {@link MockEmployee#getId()} and a
+ * secondary, case-insensitive index on {@link MockEmployee#getName()}. Both indexes are updated under the same write
+ * lock so readers never observe one without the other.
+ */
+public class MockEmployeeStore extends JournaledEmployeeStore {
+
+    private static final Comparator<Row> BY_SALARY_DESCENDING = Comparator.<Row>comparingInt(
+                    row -> row.employee().getSalary())
+            .reversed()
+            .thenComparingLong(Row::sequence);
+
+    private final Map<UUID, Row> byId;
+
+    /*
+     * Ordered by insertion sequence so full listings keep the order employees were created in.
+     */
+    private final NavigableMap<Long, MockEmployee> bySequence = new TreeMap<>();
+
+    /*
+     * Names are not unique; each bucket keeps insertion order so the oldest match is removed first.
+     */
+    private final Map<String, LinkedHashSet<UUID>> byName;
+
+    /*
+     * Highest salary first, ties broken by insertion order. Rows without a salary are not indexed.
+     */
+    private final NavigableSet<Row> bySalary = new TreeSet<>(BY_SALARY_DESCENDING);
+
+    private long lastSequence;
+
+    public MockEmployeeStore() {
+        this(16);
+    }
+
+    public MockEmployeeStore(int expectedSize) {
+        this(expectedSize, StoreJournal.NONE);
+    }
+
+    public MockEmployeeStore(int expectedSize, @NonNull StoreJournal journal) {
+        super(journal);
+        final var capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(16, (long) (expectedSize / 0.75f) + 1));
+        this.byId = new HashMap<>(capacity);
+        this.byName = new HashMap<>(capacity);
+    }
+
+    @Override
+    public int size() {
+        return read(byId::size);
+    }
+
+    @Override
+    public EmployeePage findPage(long afterSequence, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive.");
+        }
+        return read(() -> {
+            final var employees = new ArrayList<MockEmployee>(Math.min(limit, bySequence.size()));
+            long last = afterSequence;
+            for (final var entry : bySequence.tailMap(afterSequence, false).entrySet()) {
+                if (employees.size() == limit) {
+                    return new EmployeePage(employees, last);
+                }
+                employees.add(entry.getValue());
+                last = entry.getKey();
+            }
+            return new EmployeePage(employees, null);
+        });
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return read(() -> Optional.ofNullable(byId.get(id)).map(Row::employee));
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(@NonNull String name) {
+        return read(() -> {
+            final var ids = byName.get(fold(name));
+            return ids == null || ids.isEmpty()
+                    ? Optional.empty()
+                    : Optional.ofNullable(byId.get(first(ids))).map(Row::employee);
+        });
+    }
+
+    /**
+     * Only the distinct keys of the name index are scanned, and each key is already case-folded, but that is still
+     * linear in the number of distinct names per query. This endpoint is the API's fallback: while the API holds the
+     * employee list it answers name search from its own trigram index, so the scan is only paid on a cache miss.
+     */
+    @Override
+    public List<MockEmployee> findByNameContaining(@NonNull String fragment) {
+        final var needle = fold(fragment);
+        return read(() -> {
+            final var matches = new ArrayList<Row>();
+            byName.forEach((name, ids) -> {
+                if (name.contains(needle)) {
+                    ids.forEach(id -> matches.add(byId.get(id)));
+                }
+            });
+            matches.sort(Comparator.comparingLong(Row::sequence));
+            return matches.stream().map(Row::employee).toList();
+        });
+    }
+
+    @Override
+    public OptionalInt findMaxSalary() {
+        return read(() -> bySalary.isEmpty()
+                ? OptionalInt.empty()
+                : OptionalInt.of(bySalary.first().employee().getSalary()));
+    }
+
+    @Override
+    public List<MockEmployee> findTopBySalary(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive.");
+        }
+        return read(() -> {
+            final var top = new ArrayList<MockEmployee>(Math.min(limit, bySalary.size()));
+            for (final var row : bySalary) {
+                if (top.size() == limit) {
+                    break;
+                }
+                top.add(row.employee());
+            }
+            return top;
+        });
+    }
+
+    @Override
+    List<MockEmployee> copyAll() {
+        return new ArrayList<>(bySequence.values());
+    }
+
+    @Override
+    void insert(MockEmployee employee) {
+        Objects.requireNonNull(employee.getId(), "Employee id must not be null.");
+        final var row = new Row(++lastSequence, employee);
+        final var previous = byId.put(employee.getId(), row);
+        if (previous != null) {
+            unindex(previous);
+        }
+        bySequence.put(row.sequence(), employee);
+        if (employee.getSalary() != null) {
+            bySalary.add(row);
+        }
+        if (employee.getName() != null) {
+            byName.computeIfAbsent(fold(employee.getName()), ignored -> new LinkedHashSet<>(2))
+                    .add(employee.getId());
+        }
+    }
+
+    @Override
+    MockEmployee unlink(UUID id) {
+        final var row = byId.remove(id);
+        if (row == null) {
+            return null;
+        }
+        unindex(row);
+        return row.employee();
+    }
+
+    @Override
+    MockEmployee unlinkFirstByName(String name) {
+        final var ids = byName.get(fold(name));
+        return ids == null || ids.isEmpty() ? null : unlink(first(ids));
+    }
+
+    private void unindex(Row row) {
+        final var employee = row.employee();
+        bySequence.remove(row.sequence());
+        if (employee.getSalary() != null) {
+            bySalary.remove(row);
+        }
+        if (employee.getName() == null) {
+            return;
+        }
+        final var key = fold(employee.getName());
+        final var ids = byName.get(key);
+        if (ids != null && ids.remove(employee.getId()) && ids.isEmpty()) {
+            byName.remove(key);
+        }
+    }
+
+    private static UUID first(Set<UUID> ids) {
+        return ids.iterator().next();
+    }
+
+    private record Row(long sequence, MockEmployee employee) {}
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.server.store;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Bounded heap of the slots with the highest salaries, for the layouts that rank rows by scanning them. The
+ * lowest-ranked slot sits at the root, so a candidate only has to beat the root to get in.
+ */
+final class SalaryHeap {
+
+    private final int[] slots;
+
+    private final IntUnaryOperator salaryOf;
+
+    private int size;
+
+    SalaryHeap(int capacity, IntUnaryOperator salaryOf) {
+        this.slots = new int[capacity];
+        this.salaryOf = salaryOf;
+    }
+
+    /**
+     * Offers a row with a salary. Slots must be offered in insertion order, so an equal salary never outranks the root.
+     */
+    void offer(int slot, int salary) {
+        if (size < slots.length) {
+            slots[size] = slot;
+            siftUp(size++);
+        } else if (size > 0 && salary > salaryOf.applyAsInt(slots[0])) {
+            slots[0] = slot;
+            siftDown();
+        }
+    }
+
+    /**
+     * Returns the slots kept so far, highest salary first and ties in insertion order, as in {@link MockEmployeeStore}.
+     */
+    int[] ranked() {
+        return Arrays.stream(slots, 0, size)
+                .boxed()
+                .sorted((left, right) -> ranksAbove(left, right) ? -1 : ranksAbove(right, left) ? 1 : 0)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private void siftUp(int index) {
+        final var slot = slots[index];
+        while (index > 0) {
+            final var parent = (index - 1) >>> 1;
+            if (!ranksAbove(slots[parent], slot)) {
+                break;
+            }
+            slots[index] = slots[parent];
+            index = parent;
+        }
+        slots[index] = slot;
+    }
+
+    private void siftDown() {
+        final var slot = slots[0];
+        var index = 0;
+        while (true) {
+            var child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && ranksAbove(slots[child], slots[child + 1])) {
+                child++;
+            }
+            if (!ranksAbove(slot, slots[child])) {
+                break;
+            }
+            slots[index] = slots[child];
+            index = child;
+        }
+        slots[index] = slot;
+    }
+
+    private boolean ranksAbove(int slot, int other) {
+        final var salary = salaryOf.applyAsInt(slot);
+        final var otherSalary = salaryOf.applyAsInt(other);
+        return salary > otherSalary || (salary == otherSalary && slot < other);
+    }
+}
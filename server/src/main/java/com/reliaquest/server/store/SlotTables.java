@@ -0,0 +1,40 @@
+package com.reliaquest.server.store;
+
+/**
+ * Sizing and hashing shared by the layouts that index rows by slot number in open-addressing tables and hash chains.
+ * Table entries hold slot + 1, so a zero entry is empty.
+ */
+final class SlotTables {
+
+    static final int EMPTY = 0;
+
+    static final int MIN_CAPACITY = 16;
+
+    private SlotTables() {}
+
+    /**
+     * The smallest power of two of at least {@code minimum} entries.
+     */
+    static int tableLength(long minimum) {
+        final var length = Math.max(MIN_CAPACITY, minimum);
+        if (length > 1 << 30) {
+            throw new IllegalStateException("Employee store is full.");
+        }
+        return Integer.highestOneBit((int) length - 1) << 1;
+    }
+
+    static int idHash(long high, long low) {
+        return mix(high * 31 + low);
+    }
+
+    static int nameHash(String folded) {
+        return mix(folded.hashCode());
+    }
+
+    private static int mix(long value) {
+        // MurmurHash3 finalizer
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (value ^ (value >>> 33));
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Receives every change applied to an {@link EmployeeStore}, in the order the changes are applied.
+ *
+ * <p>Calls are made while the store's write lock is held, so implementations must only queue the change. The returned
+ * future completes once the change is durable; the store waits for it after releasing the lock, so concurrent writers
+ * can share one flush.
+ */
+public interface StoreJournal {
+
+    StoreJournal NONE = new StoreJournal() {
+
+        private final CompletableFuture<Void> done = CompletableFuture.completedFuture(null);
+
+        @Override
+        public CompletableFuture<?> created(MockEmployee employee) {
+            return done;
+        }
+
+        @Override
+        public CompletableFuture<?> deleted(UUID id) {
+            return done;
+        }
+    };
+
+    CompletableFuture<?> created(MockEmployee employee);
+
+    CompletableFuture<?> deleted(UUID id);
+
+    /**
+     * Called by the store, with its write lock released, after a change it passed to this journal failed to become
+     * durable. The store may still hold changes that never became durable; a journal that can read the durable state
+     * back puts the store back to it before returning. Does nothing by default.
+     */
+    default void recover() {}
+
+    /**
+     * Returns a journal that passes every change to this journal and, once this journal has made it durable, to
+     * {@code next}, and whose futures complete once both have. This journal must complete its futures in the order it
+     * received the changes, so {@code next} sees them in that order too; a change that fails to become durable never
+     * reaches {@code next}.
+     */
+    default StoreJournal andThen(StoreJournal next) {
+        final var first = this;
+        return new StoreJournal() {
+
+            @Override
+            public CompletableFuture<?> created(MockEmployee employee) {
+                return first.created(employee).thenCompose(durable -> next.created(employee));
+            }
+
+            @Override
+            public CompletableFuture<?> deleted(UUID id) {
+                return first.deleted(id).thenCompose(durable -> next.deleted(id));
+            }
+
+            @Override
+            public void recover() {
+                first.recover();
+                next.recover();
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.server.store;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import lombok.NonNull;
+
+/**
+ * Layouts of the employee table, selected with {@code mock.store.layout}.
+ */
+public enum StoreLayout {
+    /**
+     * One {@link com.reliaquest.server.model.MockEmployee} per row, indexed by hash and tree maps.
+     */
+    OBJECTS((expectedSize, journal, directory) -> new MockEmployeeStore(expectedSize, journal)),
+    /**
+     * Primitive columns, byte arenas and a title dictionary: a fraction of the heap per row and cache-friendly scans.
+     */
+    COLUMNAR((expectedSize, journal, directory) -> new ColumnarEmployeeStore(expectedSize, journal)),
+    /**
+     * Fixed-width records in memory-mapped files under the store directory: only the indexes are on the heap, and the
+     * table survives a restart without a journal.
+     */
+    MAPPED(MappedEmployeeStore::open);
+
+    private final Factory factory;
+
+    StoreLayout(Factory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Whether the layout keeps the table in {@code directory} itself, so a new store may already hold rows.
+     */
+    public boolean isPersistent() {
+        return this == MAPPED;
+    }
+
+    /**
+     * Creates a store, or for a persistent layout opens the one in {@code directory}, which other layouts ignore.
+     */
+    public EmployeeStore create(int expectedSize, @NonNull StoreJournal journal, @NonNull Path directory)
+            throws IOException {
+        return factory.create(expectedSize, journal, directory);
+    }
+
+    @FunctionalInterface
+    private interface Factory {
+
+        EmployeeStore create(int expectedSize, StoreJournal journal, Path directory) throws IOException;
+    }
+}
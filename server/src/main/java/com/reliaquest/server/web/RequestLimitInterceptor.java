@@ -0,0 +1,93 @@
+package com.reliaquest.server.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Rejects requests with 429 when the {@link RequestLimiter} has no budget left for their client. A client is identified
+ * by its remote address. Only when a {@code clientHeader} is configured, for callers behind a proxy that sets it, is
+ * that request header trusted instead where present; otherwise any client could pick a new identity, and with it a full
+ * budget, on every request. The dispatch that ends an async request (such as a change stream) is not counted again.
+ *
+ * <p>Every limited response tells the client where it stands, so it never has to guess: {@code RateLimit-Limit},
+ * {@code RateLimit-Remaining} and {@code RateLimit-Reset} (seconds until the budget is full again) on every response,
+ * and on a 429 {@code Retry-After} in whole seconds, rounded up, with the exact figure in {@code Retry-After-Ms}.
+ */
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    private static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+    private static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+    private static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+    private static final String RETRY_AFTER_MS = "Retry-After-Ms";
+
+    private final RequestLimiter requestLimiter;
+
+    /* Trusted client id header, or null to tell clients apart by remote address only. */
+    private final String clientHeader;
+
+    private final Counter admitted;
+    private final Counter rejected;
+
+    public RequestLimitInterceptor(RequestLimiter requestLimiter, String clientHeader, MeterRegistry meterRegistry) {
+        this.requestLimiter = requestLimiter;
+        this.clientHeader = clientHeader == null || clientHeader.isBlank() ? null : clientHeader;
+        this.admitted = requestCounter(meterRegistry, "admitted");
+        this.rejected = requestCounter(meterRegistry, "rejected");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        final var endpoint = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        final var decision = requestLimiter.tryAcquire(clientKey(request), endpoint);
+        if (decision.limit() > 0) {
+            response.setIntHeader(RATE_LIMIT_LIMIT, decision.limit());
+            response.setIntHeader(RATE_LIMIT_REMAINING, decision.remaining());
+            response.setHeader(RATE_LIMIT_RESET, Long.toString(ceilDiv(decision.resetNanos(), TimeUnit.SECONDS)));
+        }
+        if (!decision.admitted()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(
+                    HttpHeaders.RETRY_AFTER, Long.toString(ceilDiv(decision.retryAfterNanos(), TimeUnit.SECONDS)));
+            response.setHeader(
+                    RETRY_AFTER_MS, Long.toString(ceilDiv(decision.retryAfterNanos(), TimeUnit.MILLISECONDS)));
+            rejected.increment();
+            return false;
+        }
+
+        admitted.increment();
+        return true;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        if (clientHeader == null) {
+            return request.getRemoteAddr();
+        }
+        final var client = request.getHeader(clientHeader);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+
+    /**
+     * Rounds up, so a client that waits as long as it is told is never early.
+     */
+    private static long ceilDiv(long nanos, TimeUnit unit) {
+        return Math.ceilDiv(nanos, unit.toNanos(1));
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("mock.rate.limit.requests")
+                .description("Requests seen by the request limit")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.server.web;
+
+/**
+ * Decides whether a request may be served now. Called for every request, from many threads at once, so implementations
+ * must be thread-safe and cheap.
+ */
+public interface RequestLimiter {
+
+    RequestLimiter UNLIMITED = (clientKey, endpoint) -> Decision.UNLIMITED;
+
+    /**
+     * Takes one request from the budget of {@code clientKey} for {@code endpoint}.
+     *
+     * @param clientKey identifies the caller
+     * @param endpoint URL pattern of the handler the request was mapped to, or {@code null} if it was not mapped
+     * @return whether the request is admitted, and what is left of the budget it was counted against
+     */
+    Decision tryAcquire(String clientKey, String endpoint);
+
+    /**
+     * The outcome of one request and the state of its budget right after it, as advertised to the client.
+     *
+     * @param retryAfterNanos {@code 0} if the request is admitted, otherwise the nanoseconds until it would have been
+     * @param limit requests the budget allows at once, or {@code 0} if there is no budget
+     * @param remaining requests that would be admitted right now
+     * @param resetNanos nanoseconds until the whole budget is available again
+     */
+    record Decision(long retryAfterNanos, int limit, int remaining, long resetNanos) {
+
+        public static final Decision UNLIMITED = new Decision(0, 0, 0, 0);
+
+        public boolean admitted() {
+            return retryAfterNanos == 0;
+        }
+    }
+}
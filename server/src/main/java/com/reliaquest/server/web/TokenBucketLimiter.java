@@ -0,0 +1,182 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per client and endpoint budget. A bucket holds up to {@code capacity} requests and refills at
+ * {@code capacity} per {@code period}, so a client may burst to the capacity and then keep to the refill rate, without
+ * affecting any other client.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding the time at which it will be full again (the "theoretical
+ * arrival time" of the generic cell rate algorithm, which is equivalent to a token bucket). A request is admitted by
+ * advancing that time by one refill interval with a compare-and-set, so there are no locks and no refill thread, and
+ * the clock is read once per request. The same time gives what the client is told about its budget: the requests left
+ * are the intervals between it and a full bucket, and the wait for a rejected request is how far it runs past the
+ * burst. Endpoints without a budget of their own share the default budget, and with it one bucket per client.
+ *
+ * <p>Buckets that have refilled completely hold no state worth keeping and are dropped once per period, so idle
+ * clients do not accumulate. A bucket is retired with a compare-and-set before it is removed, and a request that finds
+ * its bucket retired starts over with a new one, so no admitted request is lost to the removal.
+ */
+public final class TokenBucketLimiter implements RequestLimiter {
+
+    /* Marks a bucket that has been removed from its table; never a real arrival time in practice. */
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    private final Table defaultTable;
+    private final Map<String, Table> endpointTables;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketLimiter(Budget defaultBudget, Map<String, Budget> endpointBudgets) {
+        this(defaultBudget, endpointBudgets, System::nanoTime);
+    }
+
+    public TokenBucketLimiter(Budget defaultBudget, Map<String, Budget> endpointBudgets, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        final var now = nanoClock.getAsLong();
+        this.defaultTable = new Table(defaultBudget, now);
+        final var tables = new HashMap<String, Table>();
+        endpointBudgets.forEach((endpoint, budget) -> tables.put(endpoint, new Table(budget, now)));
+        this.endpointTables = Map.copyOf(tables);
+    }
+
+    @Override
+    public Decision tryAcquire(String clientKey, String endpoint) {
+        final var table = endpoint == null ? defaultTable : endpointTables.getOrDefault(endpoint, defaultTable);
+        return table.tryAcquire(clientKey, nanoClock.getAsLong());
+    }
+
+    /**
+     * Requests a client may make at once, and the time in which that many are refilled.
+     */
+    public record Budget(int capacity, Duration period) {
+
+        public Budget {
+            if (capacity < 1 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("A request budget needs a positive capacity and period.");
+            }
+        }
+
+        /**
+         * Parses a comma separated list of {@code pattern=capacity/periodMs} entries, e.g.
+         * {@code /api/v1/employee/changes/stream=2/60000}. Patterns are handler URL patterns as mapped, such as
+         * {@code /api/v1/employee/{id}}.
+         */
+        public static Map<String, Budget> parseEndpoints(String spec) {
+            final var budgets = new LinkedHashMap<String, Budget>();
+            for (final var entry : spec.split(",")) {
+                if (entry.isBlank()) {
+                    continue;
+                }
+                final var equals = entry.lastIndexOf('=');
+                final var slash = entry.lastIndexOf('/');
+                if (equals < 1 || slash < equals) {
+                    throw new IllegalArgumentException(
+                            "Invalid endpoint budget '%s', expected pattern=capacity/periodMs.".formatted(entry));
+                }
+                budgets.put(
+                        entry.substring(0, equals).trim(),
+                        new Budget(
+                                Integer.parseInt(entry.substring(equals + 1, slash).trim()),
+                                Duration.ofMillis(Long.parseLong(entry.substring(slash + 1).trim()))));
+            }
+            return budgets;
+        }
+    }
+
+    /**
+     * The buckets of every client for one budget.
+     */
+    private static final class Table {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+        private final int capacity;
+
+        /* Time between two refilled requests. */
+        private final long intervalNanos;
+
+        /* How far ahead of now a bucket's arrival time may run: the burst of capacity - 1 requests after the first. */
+        private final long burstNanos;
+
+        private final long periodNanos;
+        private final AtomicLong nextSweep;
+
+        private Table(Budget budget, long now) {
+            this.capacity = budget.capacity();
+            this.periodNanos = budget.period().toNanos();
+            this.intervalNanos = Math.max(1, periodNanos / budget.capacity());
+            this.burstNanos = intervalNanos * (budget.capacity() - 1);
+            this.nextSweep = new AtomicLong(now + periodNanos);
+        }
+
+        Decision tryAcquire(String clientKey, long now) {
+            sweepIfDue(now);
+            while (true) {
+                var bucket = buckets.get(clientKey);
+                if (bucket == null) {
+                    bucket = buckets.computeIfAbsent(clientKey, ignored -> new AtomicLong(now));
+                }
+                final var decision = tryAcquire(bucket, now);
+                if (decision != null) {
+                    return decision;
+                }
+                // Retired by a sweep that is about to remove it
+                Thread.onSpinWait();
+            }
+        }
+
+        /**
+         * Returns the decision for one request, or {@code null} if the bucket was retired and a new one has to be
+         * looked up.
+         */
+        private Decision tryAcquire(AtomicLong bucket, long now) {
+            while (true) {
+                final var arrival = bucket.get();
+                if (arrival == RETIRED) {
+                    return null;
+                }
+                // A bucket that has been full since before now starts from now; full capacity is not banked further
+                final var start = arrival - now > 0 ? arrival : now;
+                final var wait = start - burstNanos - now;
+                if (wait > 0) {
+                    return new Decision(wait, capacity, 0, start - now);
+                }
+                final var next = start + intervalNanos;
+                if (bucket.compareAndSet(arrival, next)) {
+                    return new Decision(0, capacity, remaining(next - now), next - now);
+                }
+            }
+        }
+
+        /**
+         * Requests left in a bucket that is full again in {@code resetNanos}: capacity less the intervals to refill.
+         */
+        private int remaining(long resetNanos) {
+            return (int) Math.max(0, capacity - (resetNanos + intervalNanos - 1) / intervalNanos);
+        }
+
+        /**
+         * Drops the buckets that are full again, at most once per period. Only the thread that claims the sweep pays
+         * for it.
+         */
+        private void sweepIfDue(long now) {
+            final var due = nextSweep.get();
+            if (now - due < 0 || !nextSweep.compareAndSet(due, now + periodNanos)) {
+                return;
+            }
+            buckets.forEach((clientKey, bucket) -> {
+                final var arrival = bucket.get();
+                if (arrival != RETIRED && arrival - now <= 0 && bucket.compareAndSet(arrival, RETIRED)) {
+                    buckets.remove(clientKey, bucket);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.server.feed.ChangeFeed;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class EmployeeChangeControllerTest {
+
+    private final ChangeFeed changeFeed = new ChangeFeed(3);
+    private final MockEmployeeStore store = new MockEmployeeStore(16, changeFeed);
+
+    private EmployeeChangeController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        final var service = new MockEmployeeService(
+                new Faker(Locale.US),
+                store,
+                changeFeed,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        controller = new EmployeeChangeController(service);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        controller.closeStreams();
+    }
+
+    @Test
+    void getSnapshot_ShouldReturnEveryEmployeeAtTheFeedVersion() throws Exception {
+        // Given
+        final var ada = employee("Ada Lovelace");
+        store.addAll(List.of(ada, employee("Alan Turing")));
+        store.remove(ada.getId());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/changes/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.epoch").value(changeFeed.epoch()))
+                .andExpect(jsonPath("$.data.version").value(3))
+                .andExpect(jsonPath("$.data.employees[*].employee_name", contains("Alan Turing")));
+    }
+
+    @Test
+    void getChanges_ShouldReturnChangesAfterSinceAndFlagMore() throws Exception {
+        // Given
+        final var ada = employee("Ada Lovelace");
+        store.add(ada);
+        store.remove(ada.getId());
+        store.add(employee("Alan Turing"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/changes")
+                        .param("since", "0")
+                        .param("epoch", changeFeed.epoch())
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.epoch").value(changeFeed.epoch()))
+                .andExpect(jsonPath("$.data.version").value(2))
+                .andExpect(jsonPath("$.data.has_more").value(true))
+                .andExpect(jsonPath("$.data.changes[*].sequence", contains(1, 2)))
+                .andExpect(jsonPath("$.data.changes[*].type", contains("created", "deleted")))
+                .andExpect(jsonPath("$.data.changes[0].employee.employee_name").value("Ada Lovelace"))
+                .andExpect(jsonPath("$.data.changes[1].id").value(ada.getId().toString()))
+                .andExpect(jsonPath("$.data.changes[1].employee").doesNotExist());
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "2").param("epoch", changeFeed.epoch()))
+                .andExpect(jsonPath("$.data.version").value(3))
+                .andExpect(jsonPath("$.data.has_more").value(false))
+                .andExpect(jsonPath("$.data.changes", hasSize(1)));
+    }
+
+    @Test
+    void getChanges_WhenVersionCannotBeServed_ShouldAnswerGone() throws Exception {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            store.add(employee("Employee " + i));
+        }
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "1").param("epoch", changeFeed.epoch()))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error", containsString("no longer retained")));
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "6").param("epoch", changeFeed.epoch()))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error", containsString("not a version of epoch")));
+        mockMvc.perform(get("/api/v1/employee/changes")
+                        .param("since", "5")
+                        .param("epoch", UUID.randomUUID().toString()))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error", containsString("has ended")));
+    }
+
+    @Test
+    void getChanges_WithLimitOutOfRange_ShouldAnswerBadRequest() throws Exception {
+        // Given
+        final var tooMany = String.valueOf(MockEmployeeController.MAX_PAGE_LIMIT + 1);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "0").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "0").param("limit", tooMany))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamChanges_WithForeignEpoch_ShouldSendResetAndComplete() throws Exception {
+        // When
+        final var started = mockMvc.perform(get("/api/v1/employee/changes/stream")
+                        .param("since", "0")
+                        .param("epoch", UUID.randomUUID().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult(5_000);
+
+        // Then
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+        assertThat(started.getResponse().getContentAsString()).startsWith("event:reset\ndata:Epoch ");
+    }
+
+    @Test
+    void streamChanges_ShouldSendChangeEventsThenResetWhenTheEpochEnds() throws Exception {
+        // Given
+        final var ada = employee("Ada Lovelace");
+        store.add(ada);
+        store.remove(ada.getId());
+        final var epoch = changeFeed.epoch();
+
+        // When
+        final var started = mockMvc.perform(get("/api/v1/employee/changes/stream")
+                        .param("since", "0")
+                        .param("epoch", epoch))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(started, "id:2\n");
+        changeFeed.restart();
+        started.getAsyncResult(5_000);
+
+        // Then
+        final var events = started.getResponse().getContentAsString().split("\n\n");
+        assertThat(events).hasSize(3);
+        assertThat(events[0])
+                .startsWith("event:change\nid:1\ndata:{\"sequence\":1,\"type\":\"created\"")
+                .contains("\"employee_name\":\"Ada Lovelace\"");
+        assertThat(events[1])
+                .isEqualTo("event:change\nid:2\ndata:{\"sequence\":2,\"type\":\"deleted\",\"id\":\"%s\"}"
+                        .formatted(ada.getId()));
+        assertThat(events[2]).isEqualTo("event:reset\ndata:Epoch %s has ended.".formatted(epoch));
+    }
+
+    private static void awaitContent(MvcResult result, String expected) throws Exception {
+        final var deadline = System.nanoTime() + 5_000_000_000L;
+        while (!result.getResponse().getContentAsString().contains(expected)) {
+            assertThat(System.nanoTime()).as("Stream sent %s", expected).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100_000)
+                .age(36)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
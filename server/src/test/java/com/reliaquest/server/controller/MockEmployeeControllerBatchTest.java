@@ -0,0 +1,160 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.feed.ChangeFeed;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.accept.ContentNegotiationManager;
+
+class MockEmployeeControllerBatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MockEmployeeStore store = new MockEmployeeStore();
+
+    private final MockEmployee ada = employee("Ada Lovelace");
+    private final MockEmployee alan = employee("Alan Turing");
+    private final MockEmployee otherAda = employee("Ada Lovelace");
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        store.addAll(List.of(ada, alan, otherAda));
+        final var service = new MockEmployeeService(
+                new Faker(Locale.US),
+                store,
+                new ChangeFeed(100),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        final var controller = new MockEmployeeController(service, objectMapper, new ContentNegotiationManager());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void createEmployees_WithMaximumBatchSize_ShouldCreateEveryItem() throws Exception {
+        // Given
+        final var inputs = IntStream.range(0, MockEmployeeController.MAX_BATCH_SIZE)
+                .mapToObj(i -> createInput("Hire " + i))
+                .toList();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(MockEmployeeController.MAX_BATCH_SIZE)))
+                .andExpect(jsonPath("$.data[999].outcome").value("created"));
+        assertThat(store.size()).isEqualTo(3 + MockEmployeeController.MAX_BATCH_SIZE);
+    }
+
+    @Test
+    void createEmployees_WhenBatchTooLarge_ShouldRejectWholeBatch() throws Exception {
+        // Given
+        final var inputs = IntStream.range(0, MockEmployeeController.MAX_BATCH_SIZE + 1)
+                .mapToObj(i -> createInput("Hire " + i))
+                .toList();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isBadRequest());
+        assertThat(store.size()).isEqualTo(3);
+    }
+
+    @Test
+    void batch_WhenBodyEmptyOrMissing_ShouldRejectIt() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/employee/batch").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/v1/employee/batch").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createEmployees_WhenSomeItemsInvalid_ShouldCreateTheOthers() throws Exception {
+        // Given
+        final var inputs = List.of(createInput("Grace Hopper"), Map.of("name", "No Salary"), createInput("Ken"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].outcome").value("created"))
+                .andExpect(jsonPath("$.data[1].outcome").value("invalid"))
+                .andExpect(jsonPath("$.data[1].index").value(1))
+                .andExpect(jsonPath("$.data[2].outcome").value("created"))
+                .andExpect(jsonPath("$.data[2].index").value(2));
+        assertThat(store.size()).isEqualTo(5);
+    }
+
+    @Test
+    void deleteEmployees_WithDuplicateAndUnknownKeys_ShouldReportEachItem() throws Exception {
+        // Given
+        final var inputs = List.of(
+                Map.of("id", alan.getId().toString()),
+                Map.of("id", alan.getId().toString()),
+                Map.of("name", "ada lovelace"),
+                Map.of("name", "Ada Lovelace"),
+                Map.of("name", "Ada Lovelace"),
+                Map.of("id", "not-a-uuid"),
+                Map.of());
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].outcome").value("deleted"))
+                .andExpect(jsonPath("$.data[1].outcome").value("not_found"))
+                .andExpect(jsonPath("$.data[2].outcome").value("deleted"))
+                .andExpect(jsonPath("$.data[2].employee.id").value(ada.getId().toString()))
+                .andExpect(jsonPath("$.data[3].outcome").value("deleted"))
+                .andExpect(jsonPath("$.data[3].employee.id").value(otherAda.getId().toString()))
+                .andExpect(jsonPath("$.data[4].outcome").value("not_found"))
+                .andExpect(jsonPath("$.data[5].outcome").value("invalid"))
+                .andExpect(jsonPath("$.data[6].outcome").value("invalid"));
+        assertThat(store.size()).isZero();
+    }
+
+    private static Map<String, Object> createInput(String name) {
+        return Map.of("name", name, "salary", 90_000, "age", 35, "title", "Engineer");
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100_000)
+                .age(36)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
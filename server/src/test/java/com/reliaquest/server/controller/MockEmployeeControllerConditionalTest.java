@@ -0,0 +1,141 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.feed.ChangeFeed;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.accept.ContentNegotiationManager;
+
+class MockEmployeeControllerConditionalTest {
+
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final MockEmployee ada = MockEmployee.builder()
+            .id(UUID.randomUUID())
+            .name("Ada Lovelace")
+            .salary(120_000)
+            .age(36)
+            .title("Engineer")
+            .email("ada@company.com")
+            .build();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        final var store = new MockEmployeeStore();
+        final var changeFeed = new ChangeFeed(100);
+        final var service = new MockEmployeeService(
+                new Faker(Locale.US), store, changeFeed, Validation.buildDefaultValidatorFactory().getValidator());
+        store.addAll(List.of(ada));
+        final var contentNegotiationManager = new ContentNegotiationManager();
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new MockEmployeeController(service, new ObjectMapper(), contentNegotiationManager))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .setContentNegotiationManager(contentNegotiationManager)
+                .setMessageConverters(
+                        new MappingJackson2HttpMessageConverter(),
+                        new MappingJackson2SmileHttpMessageConverter(),
+                        new MappingJackson2CborHttpMessageConverter())
+                .build();
+    }
+
+    @Test
+    void getEmployees_WhenEntityTagStillMatches_ShouldAnswerNotModified() throws Exception {
+        // Given
+        final var entityTag = entityTag(get("/api/v1/employee"));
+
+        // When & Then
+        assertThat(entityTag).startsWith("W/\"").endsWith("-json\"");
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, entityTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, entityTag))
+                .andExpect(header().stringValues(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getEmployees_AfterCreate_ShouldAnswerWithNewEntityTag() throws Exception {
+        // Given
+        final var entityTag = entityTag(get("/api/v1/employee?limit=10"));
+        mockMvc.perform(post("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Alan Turing\",\"salary\":110000,\"age\":41,\"title\":\"Engineer\"}"))
+                .andExpect(status().isOk());
+
+        // When
+        final var result = mockMvc.perform(
+                        get("/api/v1/employee?limit=10").header(HttpHeaders.IF_NONE_MATCH, entityTag))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(entityTag);
+    }
+
+    @Test
+    void getEmployees_InAnotherFormat_ShouldNotMatchJsonEntityTag() throws Exception {
+        // Given
+        final var jsonTag = entityTag(get("/api/v1/employee"));
+
+        // When
+        final var result = mockMvc.perform(get("/api/v1/employee")
+                        .accept(SMILE, MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonTag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn();
+
+        // Then
+        final var smileTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(smileTag).isNotEqualTo(jsonTag).endsWith("-x-jackson-smile\"");
+        mockMvc.perform(get("/api/v1/employee").accept(SMILE).header(HttpHeaders.IF_NONE_MATCH, smileTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getEmployee_WhenEntityTagStillMatches_ShouldAnswerNotModified() throws Exception {
+        // Given
+        final var path = "/api/v1/employee/" + ada.getId();
+        final var entityTag = entityTag(get(path));
+
+        // When & Then
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + entityTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, entityTag));
+    }
+
+    private String entityTag(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+}
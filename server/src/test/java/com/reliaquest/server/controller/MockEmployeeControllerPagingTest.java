@@ -0,0 +1,199 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.feed.ChangeFeed;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.accept.ContentNegotiationManager;
+
+class MockEmployeeControllerPagingTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MockEmployeeStore store = new MockEmployeeStore();
+
+    private final List<MockEmployee> employees = IntStream.range(0, 5)
+            .mapToObj(i -> employee("Employee " + i, 50_000 + 1_000 * i))
+            .toList();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        store.addAll(employees);
+        final var service = new MockEmployeeService(
+                new Faker(Locale.US),
+                store,
+                new ChangeFeed(100),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        final var controller = new MockEmployeeController(service, objectMapper, new ContentNegotiationManager());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void getEmployees_FollowingNextCursor_ShouldWalkEveryPageOnceInInsertionOrder() throws Exception {
+        // Given
+        final var ids = new ArrayList<String>();
+        var pages = 0;
+
+        // When
+        String cursor = null;
+        do {
+            final var request = get("/api/v1/employee").param("limit", "2");
+            final var page = perform(cursor == null ? request : request.param("cursor", cursor));
+            page.get("data").forEach(employee -> ids.add(employee.get("id").asText()));
+            cursor = page.hasNonNull("next_cursor") ? page.get("next_cursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).containsExactlyElementsOf(ids(employees));
+    }
+
+    @Test
+    void getEmployees_WithLimitCoveringTheRest_ShouldOmitNextCursor() throws Exception {
+        // When
+        final var page = perform(get("/api/v1/employee").param("limit", "5"));
+
+        // Then
+        assertThat(page.get("data")).hasSize(5);
+        assertThat(page.has("next_cursor")).isFalse();
+    }
+
+    @Test
+    void getEmployees_WhenRowsChangeBetweenPages_ShouldContinueAfterTheLastRowServed() throws Exception {
+        // Given
+        final var first = perform(get("/api/v1/employee").param("limit", "2"));
+        final var cursor = first.get("next_cursor").asText();
+        store.remove(employees.get(0).getId());
+        store.remove(employees.get(2).getId());
+        final var hired = employee("Hired Later", 60_000);
+        store.add(hired);
+
+        // When
+        final var rest = perform(get("/api/v1/employee").param("limit", "10").param("cursor", cursor));
+
+        // Then
+        assertThat(ids(first.get("data"))).containsExactlyElementsOf(ids(employees.subList(0, 2)));
+        assertThat(ids(rest.get("data")))
+                .containsExactlyElementsOf(ids(List.of(employees.get(3), employees.get(4), hired)));
+        assertThat(rest.has("next_cursor")).isFalse();
+    }
+
+    @Test
+    void getEmployees_WithGarbageOrTamperedCursor_ShouldAnswerBadRequest() throws Exception {
+        // Given: not Base64, too short, and a negative sequence
+        final var cursors = List.of("not a cursor!", "AAAA", PageCursor.encode(-1));
+
+        // When & Then
+        for (final var cursor : cursors) {
+            mockMvc.perform(get("/api/v1/employee").param("cursor", cursor))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").exists());
+        }
+    }
+
+    @Test
+    void getEmployees_WithLimitOutOfRange_ShouldAnswerBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee").param("limit", "0")).andExpect(status().isBadRequest());
+        final var tooMany = String.valueOf(MockEmployeeController.MAX_PAGE_LIMIT + 1);
+        mockMvc.perform(get("/api/v1/employee").param("limit", tooMany)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getEmployees_WithFields_ShouldReturnOnlyThoseKeys() throws Exception {
+        // When
+        final var paged = perform(get("/api/v1/employee").param("limit", "2").param("fields", "id,employee_salary"));
+        final var unpaged = perform(get("/api/v1/employee").param("fields", "employee_salary,id"));
+
+        // Then
+        assertThat(paged.get("data")).hasSize(2);
+        paged.get("data").forEach(employee -> assertThat(employee.fieldNames())
+                .toIterable()
+                .containsExactly("id", "employee_salary"));
+        assertThat(paged.get("data").get(1).get("employee_salary").asInt()).isEqualTo(51_000);
+        assertThat(unpaged.get("data")).hasSize(5);
+        unpaged.get("data").forEach(employee -> assertThat(employee.fieldNames())
+                .toIterable()
+                .containsExactly("employee_salary", "id"));
+    }
+
+    @Test
+    void getEmployees_WithUnknownField_ShouldAnswerBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee").param("fields", "id,password")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getEmployees_WithoutParameters_ShouldReturnTheFullListAcrossStoreChunks() throws Exception {
+        // Given
+        final var more = IntStream.range(0, MockEmployeeController.STREAM_CHUNK_SIZE * 2)
+                .mapToObj(i -> employee("Extra " + i, 40_000))
+                .toList();
+        store.addAll(more);
+        final var expected = new ArrayList<>(ids(employees));
+        expected.addAll(ids(more));
+
+        // When
+        final var all = perform(get("/api/v1/employee"));
+
+        // Then
+        assertThat(ids(all.get("data"))).containsExactlyElementsOf(expected);
+        assertThat(all.has("next_cursor")).isFalse();
+        assertThat(all.get("data").get(0).get("employee_name").asText()).isEqualTo("Employee 0");
+        mockMvc.perform(get("/api/v1/employee")).andExpect(jsonPath("$.data", hasSize(expected.size())));
+    }
+
+    private JsonNode perform(MockHttpServletRequestBuilder request) throws Exception {
+        final var body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<String> ids(List<MockEmployee> employees) {
+        return employees.stream().map(employee -> employee.getId().toString()).toList();
+    }
+
+    private static List<String> ids(JsonNode data) {
+        final var ids = new ArrayList<String>();
+        data.forEach(employee -> ids.add(employee.get("id").asText()));
+        return ids;
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(36)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
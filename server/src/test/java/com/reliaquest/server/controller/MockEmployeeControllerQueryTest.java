@@ -0,0 +1,153 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.feed.ChangeFeed;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.accept.ContentNegotiationManager;
+
+class MockEmployeeControllerQueryTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        final var service = new MockEmployeeService(
+                new Faker(Locale.US),
+                store,
+                new ChangeFeed(100),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        final var controller = new MockEmployeeController(service, new ObjectMapper(), new ContentNegotiationManager());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void searchEmployees_ShouldMatchSubstringIgnoringCaseInCreationOrder() throws Exception {
+        // Given
+        store.addAll(List.of(
+                employee("Ada Lovelace", 120_000),
+                employee("Alan Turing", 110_000),
+                employee("Grace LOVELACE", 100_000)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "loVE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].employee_name", contains("Ada Lovelace", "Grace LOVELACE")));
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "ring"))
+                .andExpect(jsonPath("$.data[*].employee_name", contains("Alan Turing")));
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "Hopper"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(0)));
+    }
+
+    @Test
+    void searchEmployees_WithBlankName_ShouldAnswerBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/search").param("name", " ")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getHighestSalary_WhenTableIsEmpty_ShouldAnswerWithoutData() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/stats/salary/max"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").doesNotExist())
+                .andExpect(jsonPath("$.status").value("Successfully processed request."));
+    }
+
+    @Test
+    void getHighestSalary_ShouldAnswerTheHighestSalaryAndFollowDeletes() throws Exception {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        store.addAll(List.of(employee("Alan Turing", 110_000), ada, employee("Grace Hopper", 90_000)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/stats/salary/max")).andExpect(jsonPath("$.data").value(120_000));
+        store.remove(ada.getId());
+        mockMvc.perform(get("/api/v1/employee/stats/salary/max")).andExpect(jsonPath("$.data").value(110_000));
+    }
+
+    @Test
+    void getTopEmployees_ShouldRankHighestSalaryFirstAndLimitToN() throws Exception {
+        // Given
+        store.addAll(List.of(
+                employee("Grace Hopper", 90_000),
+                employee("Ada Lovelace", 120_000),
+                employee("Alan Turing", 110_000),
+                employee("Edsger Dijkstra", 100_000)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/top").param("by", "salary").param("n", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(
+                        "$.data[*].employee_name", contains("Ada Lovelace", "Alan Turing", "Edsger Dijkstra")));
+        mockMvc.perform(get("/api/v1/employee/top").param("by", "SALARY").param("n", "1"))
+                .andExpect(jsonPath("$.data[*].employee_name", contains("Ada Lovelace")));
+        mockMvc.perform(get("/api/v1/employee/top").param("n", "10"))
+                .andExpect(jsonPath("$.data", hasSize(4)))
+                .andExpect(jsonPath("$.data[3].employee_name").value("Grace Hopper"));
+    }
+
+    @Test
+    void getTopEmployees_WithoutN_ShouldReturnTopTen() throws Exception {
+        // Given
+        for (int i = 0; i < 12; i++) {
+            store.add(employee("Employee " + i, 1_000 * i));
+        }
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/top"))
+                .andExpect(jsonPath("$.data", hasSize(10)))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 11"))
+                .andExpect(jsonPath("$.data[9].employee_name").value("Employee 2"));
+    }
+
+    @Test
+    void getTopEmployees_WithNOutOfRange_ShouldAnswerBadRequest() throws Exception {
+        // Given
+        final var tooMany = String.valueOf(MockEmployeeController.MAX_PAGE_LIMIT + 1);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/top").param("n", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/top").param("n", tooMany)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTopEmployees_WithUnsupportedRanking_ShouldAnswerBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee/top").param("by", "age"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unsupported ranking: age"));
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(36)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.feed.ChangeFeed;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.MappedEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.StoreJournal;
+import jakarta.validation.Validation;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.accept.ContentNegotiationManager;
+
+class MockEmployeeControllerStreamTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void streamEmployees_ShouldWriteOneEmployeePerLineAsNdjson() throws Exception {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        final var alan = employee("Alan Turing", 110_000);
+        final var store = new MockEmployeeStore();
+        store.addAll(List.of(ada, alan));
+
+        // When
+        final var lines = stream(store, HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE);
+
+        // Then
+        assertThat(lines).hasSize(2);
+        assertThat(readLine(lines.get(0))).isEqualTo(json(ada));
+        assertThat(readLine(lines.get(1))).isEqualTo(json(alan));
+        assertThat(readLine(lines.get(0)).get("employee_name").asText()).isEqualTo("Ada Lovelace");
+    }
+
+    @Test
+    void streamEmployees_AcrossChunkBoundaries_ShouldWriteEveryEmployeeOnceInInsertionOrder() throws Exception {
+        // Given
+        final var employees = employees(MockEmployeeController.STREAM_CHUNK_SIZE * 2 + 1);
+        final var store = new MockEmployeeStore();
+        store.addAll(employees);
+        store.remove(employees.get(MockEmployeeController.STREAM_CHUNK_SIZE).getId());
+        final var expected = employees.stream()
+                .filter(employee -> employee != employees.get(MockEmployeeController.STREAM_CHUNK_SIZE))
+                .map(this::json)
+                .toList();
+
+        // When
+        final var lines = stream(store);
+
+        // Then
+        assertThat(lines.stream().map(this::readLine).toList()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void streamEmployees_WhenStoreIsEmpty_ShouldWriteNothing() throws Exception {
+        // When & Then
+        assertThat(stream(new MockEmployeeStore())).isEmpty();
+    }
+
+    @Test
+    void streamEmployees_FromMappedLayout_ShouldWriteTheSameLinesAsFromObjects() throws Exception {
+        // Given
+        final var employees = employees(MockEmployeeController.STREAM_CHUNK_SIZE + 10);
+        final var objects = new MockEmployeeStore();
+        objects.addAll(employees);
+
+        // When
+        final List<String> mappedLines;
+        try (var mapped = MappedEmployeeStore.open(directory, 16, StoreJournal.NONE)) {
+            mapped.addAll(employees);
+            mappedLines = stream(mapped);
+        }
+
+        // Then
+        assertThat(mappedLines.stream().map(this::readLine).toList())
+                .containsExactlyElementsOf(employees.stream().map(this::json).toList());
+        assertThat(mappedLines.stream().map(this::readLine).toList())
+                .containsExactlyElementsOf(stream(objects).stream().map(this::readLine).toList());
+    }
+
+    @Test
+    void serverCompression_ShouldCoverNdjson() {
+        // Given: MockMvc bypasses the container, so compression is checked in the configuration Tomcat is given
+        final var yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+
+        // When
+        final var properties = yaml.getObject();
+
+        // Then
+        assertThat(properties.getProperty("server.compression.enabled")).isEqualTo("true");
+        assertThat(properties.getProperty("server.compression.mime-types").split(","))
+                .contains(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    private List<String> stream(EmployeeStore store, String... headers) throws Exception {
+        final var streamRequest = get("/api/v1/employee/stream");
+        for (int i = 0; i < headers.length; i += 2) {
+            streamRequest.header(headers[i], headers[i + 1]);
+        }
+        final var mockMvc = mockMvc(store);
+        final var started = mockMvc.perform(streamRequest).andExpect(request().asyncStarted()).andReturn();
+        final var body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return body.isEmpty() ? List.of() : List.of(body.split("\n"));
+    }
+
+    private MockMvc mockMvc(EmployeeStore store) {
+        final var service = new MockEmployeeService(
+                new Faker(Locale.US),
+                store,
+                new ChangeFeed(100),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        final var controller = new MockEmployeeController(service, objectMapper, new ContentNegotiationManager());
+        return MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    private JsonNode readLine(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new AssertionError("Not one JSON object: " + line, e);
+        }
+    }
+
+    private JsonNode json(MockEmployee employee) {
+        return objectMapper.valueToTree(employee);
+    }
+
+    private static List<MockEmployee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> employee("Employee " + i, 1_000 * (i % 100)))
+                .toList();
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(36)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.reliaquest.server.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ChangeFeedTest {
+
+    private final ChangeFeed changeFeed = new ChangeFeed(3);
+
+    @Test
+    void changesSince_ShouldNumberCreatesAndDeletesInOrderFromOne() {
+        // Given
+        final var ada = employee("Ada Lovelace");
+        changeFeed.created(ada);
+        changeFeed.deleted(ada.getId());
+
+        // When
+        final var changes = changeFeed.changesSince(changeFeed.epoch(), 0, 10);
+
+        // Then
+        assertThat(changes).containsExactly(EmployeeChange.created(1, ada), EmployeeChange.deleted(2, ada.getId()));
+        assertThat(changeFeed.version()).isEqualTo(2);
+        assertThat(changeFeed.changesSince(null, 1, 10)).containsExactly(EmployeeChange.deleted(2, ada.getId()));
+        assertThat(changeFeed.changesSince(changeFeed.epoch(), 0, 1)).containsExactly(EmployeeChange.created(1, ada));
+        assertThat(changeFeed.changesSince(changeFeed.epoch(), 2, 10)).isEmpty();
+    }
+
+    @Test
+    void changesSince_AfterRingWrapsAround_ShouldReturnRetainedChangesInOrder() {
+        // Given
+        final var employees = IntStream.range(0, 5).mapToObj(i -> employee("Employee " + i)).toList();
+        employees.forEach(changeFeed::created);
+
+        // When
+        final var changes = changeFeed.changesSince(changeFeed.epoch(), 2, 10);
+
+        // Then
+        assertThat(changes).extracting(EmployeeChange::sequence).containsExactly(3L, 4L, 5L);
+        assertThat(changes).extracting(EmployeeChange::employee).containsExactlyElementsOf(employees.subList(2, 5));
+        assertThat(changeFeed.changesSince(changeFeed.epoch(), 3, 1))
+                .extracting(EmployeeChange::sequence)
+                .containsExactly(4L);
+    }
+
+    @Test
+    void changesSince_WhenChangesAreNoLongerRetained_ShouldRefuse() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            changeFeed.created(employee("Employee " + i));
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> changeFeed.changesSince(changeFeed.epoch(), 1, 10))
+                .isInstanceOf(ChangeHistoryUnavailableException.class)
+                .hasMessageContaining("no longer retained");
+        assertThatThrownBy(() -> changeFeed.changesSince(changeFeed.epoch(), 0, 10))
+                .isInstanceOf(ChangeHistoryUnavailableException.class);
+    }
+
+    @Test
+    void changesSince_WithVersionBeyondTheLatestOrNegative_ShouldRefuse() {
+        // Given
+        changeFeed.created(employee("Ada Lovelace"));
+
+        // When & Then
+        assertThatThrownBy(() -> changeFeed.changesSince(changeFeed.epoch(), 2, 10))
+                .isInstanceOf(ChangeHistoryUnavailableException.class)
+                .hasMessageContaining("not a version of epoch");
+        assertThatThrownBy(() -> changeFeed.changesSince(changeFeed.epoch(), -1, 10))
+                .isInstanceOf(ChangeHistoryUnavailableException.class);
+    }
+
+    @Test
+    void changesSince_WithForeignEpoch_ShouldRefuse() {
+        // Given
+        changeFeed.created(employee("Ada Lovelace"));
+
+        // When & Then
+        assertThatThrownBy(() -> changeFeed.changesSince(UUID.randomUUID().toString(), 0, 10))
+                .isInstanceOf(ChangeHistoryUnavailableException.class)
+                .hasMessageContaining("has ended");
+    }
+
+    @Test
+    void awaitChangesSince_WhenNothingChanges_ShouldReturnEmptyAfterTimeout() throws Exception {
+        // Given
+        changeFeed.created(employee("Ada Lovelace"));
+        final var start = System.nanoTime();
+
+        // When
+        final var changes = changeFeed.awaitChangesSince(changeFeed.epoch(), 1, 10, Duration.ofMillis(100));
+
+        // Then
+        assertThat(changes).isEmpty();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void awaitChangesSince_WhenChangeArrives_ShouldReturnIt() throws Exception {
+        // Given
+        final var ada = employee("Ada Lovelace");
+
+        // When
+        try (final var writer = Executors.newSingleThreadScheduledExecutor()) {
+            writer.schedule(() -> changeFeed.created(ada), 50, TimeUnit.MILLISECONDS);
+            final var changes = changeFeed.awaitChangesSince(changeFeed.epoch(), 0, 10, Duration.ofSeconds(5));
+
+            // Then
+            assertThat(changes).containsExactly(EmployeeChange.created(1, ada));
+        }
+    }
+
+    @Test
+    void restart_ShouldStartNewEpochWithoutHistory() {
+        // Given
+        changeFeed.created(employee("Ada Lovelace"));
+        final var previousEpoch = changeFeed.epoch();
+
+        // When
+        changeFeed.restart();
+
+        // Then
+        assertThat(changeFeed.epoch()).isNotEqualTo(previousEpoch);
+        assertThat(changeFeed.version()).isZero();
+        assertThat(changeFeed.changesSince(changeFeed.epoch(), 0, 10)).isEmpty();
+        assertThatThrownBy(() -> changeFeed.changesSince(previousEpoch, 1, 10))
+                .isInstanceOf(ChangeHistoryUnavailableException.class);
+        changeFeed.created(employee("Alan Turing"));
+        assertThat(changeFeed.changesSince(changeFeed.epoch(), 0, 10))
+                .extracting(EmployeeChange::sequence)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void restart_ShouldWakeWaitersOfTheEndedEpoch() throws Exception {
+        // Given
+        final var epoch = changeFeed.epoch();
+
+        // When
+        try (final var restarter = Executors.newSingleThreadScheduledExecutor()) {
+            restarter.schedule(changeFeed::restart, 50, TimeUnit.MILLISECONDS);
+
+            // Then
+            assertThatThrownBy(() -> changeFeed.awaitChangesSince(epoch, 0, 10, Duration.ofSeconds(5)))
+                    .isInstanceOf(ChangeHistoryUnavailableException.class);
+        }
+    }
+
+    @Test
+    void constructor_WithoutRetainedChanges_ShouldRefuse() {
+        assertThatThrownBy(() -> new ChangeFeed(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100_000)
+                .age(36)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.server.persistence;
+
+import static com.reliaquest.server.persistence.WriteAheadLogTest.employee;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.feed.ChangeFeed;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_WhenNothingPersisted_ShouldBeEmpty() throws IOException {
+        try (final var persistence = EmployeePersistence.open(directory, false)) {
+            assertThat(persistence.isEmpty()).isTrue();
+            assertThat(persistence.recoveredEmployees()).isEmpty();
+        }
+    }
+
+    @Test
+    void open_AfterCrash_ShouldRecoverSnapshotAndLoggedTail() throws IOException {
+        // Given
+        final var ada = employee("Ada Lovelace");
+        final var alan = employee("Alan Turing");
+        final var grace = employee("Grace Hopper");
+        final var crashed = EmployeePersistence.open(directory, false);
+        final var store = new MockEmployeeStore(10, crashed.journal());
+        crashed.attach(store, Duration.ofDays(1));
+        store.add(ada);
+        store.add(alan);
+        crashed.snapshot();
+        store.add(grace);
+        store.remove(ada.getId());
+
+        // When: opened again without the first instance ever writing its final snapshot
+        try (final var recovered = EmployeePersistence.open(directory, false)) {
+
+            // Then
+            assertThat(recovered.isEmpty()).isFalse();
+            assertThat(recovered.recoveredEmployees()).containsExactly(alan, grace);
+        } finally {
+            crashed.close();
+        }
+    }
+
+    @Test
+    void snapshot_ShouldDeleteSegmentsItCovers() throws IOException {
+        // Given
+        try (final var persistence = EmployeePersistence.open(directory, false)) {
+            final var store = new MockEmployeeStore(10, persistence.journal());
+            persistence.attach(store, Duration.ofDays(1));
+            store.add(employee("Ada Lovelace"));
+
+            // When
+            persistence.snapshot();
+
+            // Then
+            assertThat(WriteAheadLog.segments(directory)).containsOnlyKeys(1L);
+        }
+    }
+
+    @Test
+    void add_WhenLogHasFailed_ShouldPutStoreBackAndRecoverLog() throws IOException {
+        // Given
+        final var ada = employee("Ada Lovelace");
+        final var alan = employee("Alan Turing");
+        final var grace = employee("Grace Hopper");
+        final var feed = new ChangeFeed(100);
+        try (final var persistence = EmployeePersistence.open(directory, false)) {
+            final var store = new MockEmployeeStore(10, persistence.journal().andThen(feed));
+            persistence.attach(store, Duration.ofDays(1), feed::restart);
+            store.add(ada);
+            final var epoch = feed.epoch();
+
+            // A directory where the next segment goes makes the rotation, and with it the log, fail
+            final var nextSegment = directory.resolve("wal-%016d.log".formatted(1));
+            Files.createDirectory(nextSegment);
+            assertThatThrownBy(persistence::snapshot).isInstanceOf(CompletionException.class);
+            assertThat(persistence.failure()).isPresent();
+            Files.delete(nextSegment);
+
+            // When
+            assertThatThrownBy(() -> store.add(alan)).isInstanceOf(UncheckedIOException.class);
+
+            // Then
+            assertThat(store.findAll()).containsExactly(ada);
+            assertThat(persistence.failure()).isEmpty();
+            assertThat(feed.epoch()).isNotEqualTo(epoch);
+
+            store.add(grace);
+            assertThat(feed.version()).isEqualTo(1);
+        }
+        try (final var reopened = EmployeePersistence.open(directory, false)) {
+            assertThat(reopened.recoveredEmployees()).containsExactly(ada, grace);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.reliaquest.server.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    private WriteAheadLog writeAheadLog;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (writeAheadLog != null) {
+            writeAheadLog.close();
+        }
+    }
+
+    @Test
+    void replay_ShouldApplyCreatesAndDeletesInLogOrder() throws IOException {
+        // Given
+        writeAheadLog = new WriteAheadLog(directory, 0, false);
+        final var ada = employee("Ada Lovelace");
+        final var alan = employee("Alan Turing");
+        final var grace = employee("Grace Hopper");
+        writeAheadLog.created(ada);
+        writeAheadLog.created(alan);
+        writeAheadLog.deleted(ada.getId());
+        writeAheadLog.created(grace).join();
+        writeAheadLog.close();
+
+        // When
+        final Map<UUID, MockEmployee> employees = new LinkedHashMap<>();
+        final var applied = WriteAheadLog.replay(segment(0), employees);
+
+        // Then
+        assertThat(applied).isEqualTo(4);
+        assertThat(employees.values()).containsExactly(alan, grace);
+    }
+
+    @Test
+    void replay_WhenLastRecordIsTorn_ShouldStopAfterLastCompleteRecord() throws IOException {
+        // Given
+        writeAheadLog = new WriteAheadLog(directory, 0, false);
+        final var ada = employee("Ada Lovelace");
+        writeAheadLog.created(ada);
+        writeAheadLog.created(employee("Alan Turing")).join();
+        writeAheadLog.close();
+        try (final var channel = FileChannel.open(segment(0), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        // When
+        final Map<UUID, MockEmployee> employees = new LinkedHashMap<>();
+        final var applied = WriteAheadLog.replay(segment(0), employees);
+
+        // Then
+        assertThat(applied).isEqualTo(1);
+        assertThat(employees.values()).containsExactly(ada);
+    }
+
+    @Test
+    void replay_WhenRecordFailsChecksum_ShouldStopBeforeIt() throws IOException {
+        // Given
+        writeAheadLog = new WriteAheadLog(directory, 0, false);
+        final var ada = employee("Ada Lovelace");
+        writeAheadLog.created(ada);
+        writeAheadLog.created(employee("Alan Turing"));
+        writeAheadLog.created(employee("Grace Hopper")).join();
+        writeAheadLog.close();
+        final var secondPayload = EmployeeCodec.createdRecord(ada).length + EmployeeCodec.RECORD_HEADER_BYTES;
+        try (final var channel = FileChannel.open(segment(0), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var flipped = ByteBuffer.allocate(1);
+            channel.read(flipped, secondPayload + 4);
+            flipped.put(0, (byte) ~flipped.get(0)).rewind();
+            channel.write(flipped, secondPayload + 4);
+        }
+
+        // When
+        final Map<UUID, MockEmployee> employees = new LinkedHashMap<>();
+        final var applied = WriteAheadLog.replay(segment(0), employees);
+
+        // Then
+        assertThat(applied).isEqualTo(1);
+        assertThat(employees.values()).containsExactly(ada);
+    }
+
+    @Test
+    void rotate_ShouldEndSegmentAfterChangesQueuedBeforeIt() throws IOException {
+        // Given
+        writeAheadLog = new WriteAheadLog(directory, 0, false);
+        final var ada = employee("Ada Lovelace");
+        final var alan = employee("Alan Turing");
+        writeAheadLog.created(ada);
+
+        // When
+        final var next = writeAheadLog.rotate().join();
+        writeAheadLog.created(alan).join();
+
+        // Then
+        assertThat(next).isEqualTo(1);
+        assertThat(WriteAheadLog.segments(directory)).containsOnlyKeys(0L, 1L);
+        assertThat(replayed(segment(0))).containsExactly(ada);
+        assertThat(replayed(segment(1))).containsExactly(alan);
+
+        writeAheadLog.deleteSegmentsBefore(1);
+        assertThat(WriteAheadLog.segments(directory)).containsOnlyKeys(1L);
+    }
+
+    @Test
+    void created_WhenWritersAreConcurrent_ShouldCompleteEveryChangeInLogOrder() throws IOException {
+        // Given
+        writeAheadLog = new WriteAheadLog(directory, 0, true);
+        final var completed = Collections.synchronizedList(new ArrayList<UUID>());
+        final var writes = new ArrayList<CompletableFuture<?>>();
+
+        // When
+        try (final var writers = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.range(0, 500).forEach(i -> writers.execute(() -> {
+                final var employee = employee("Employee " + i);
+                final CompletableFuture<?> durable;
+                // Queue order is log order; the lock keeps the callback order comparable with it
+                synchronized (writes) {
+                    durable = writeAheadLog.created(employee);
+                    writes.add(durable.thenRun(() -> completed.add(employee.getId())));
+                }
+            }));
+        }
+        CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertThat(writeAheadLog.appendedRecords()).isEqualTo(500);
+        assertThat(replayed(segment(0)))
+                .extracting(MockEmployee::getId)
+                .containsExactlyElementsOf(completed);
+    }
+
+    @Test
+    void created_AfterWriteFailed_ShouldFailAndReportFailure() throws IOException {
+        // Given
+        writeAheadLog = new WriteAheadLog(directory, 0, false);
+        // A directory where the next segment goes makes the rotation fail
+        Files.createDirectory(directory.resolve("wal-%016d.log".formatted(1)));
+        assertThatThrownBy(() -> writeAheadLog.rotate().join()).isInstanceOf(CompletionException.class);
+
+        // When
+        final var write = writeAheadLog.created(employee("Ada Lovelace"));
+
+        // Then
+        assertThat(writeAheadLog.failure()).isPresent();
+        assertThatThrownBy(write::join).hasCauseInstanceOf(UncheckedIOException.class);
+    }
+
+    private Path segment(long number) {
+        return directory.resolve("wal-%016d.log".formatted(number));
+    }
+
+    private static List<MockEmployee> replayed(Path segment) throws IOException {
+        final Map<UUID, MockEmployee> employees = new LinkedHashMap<>();
+        WriteAheadLog.replay(segment, employees);
+        return new ArrayList<>(employees.values());
+    }
+
+    static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100_000)
+                .age(36)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.server.seed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSeedGeneratorTest {
+
+    private static final int SIZE = 20_000;
+    private static final long SEED = 42L;
+
+    @Test
+    void generate_WithSameSeed_ShouldNotDependOnChunksOrThreads() throws Exception {
+        // Given
+        final var expected = generate(8192, 1);
+
+        // When & Then
+        for (final var chunkSize : new int[] {1, 7, 1000, SIZE}) {
+            for (final var threads : new int[] {1, 4}) {
+                assertThat(generate(chunkSize, threads))
+                        .as("chunk size %d on %d threads", chunkSize, threads)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void generate_WithDifferentSeeds_ShouldDiffer() {
+        // When
+        final var first = new EmployeeSeedGenerator(Locale.US, SEED).generate(100);
+        final var second = new EmployeeSeedGenerator(Locale.US, SEED + 1).generate(100);
+
+        // Then
+        assertThat(first).hasSize(100).doesNotContainAnyElementsOf(second);
+    }
+
+    private static List<MockEmployee> generate(int chunkSize, int threads) throws Exception {
+        final var pool = new ForkJoinPool(threads);
+        try {
+            // Parallel streams started from a pool's task run in that pool
+            return pool.submit(() -> new EmployeeSeedGenerator(Locale.US, SEED, chunkSize).generate(SIZE))
+                    .get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
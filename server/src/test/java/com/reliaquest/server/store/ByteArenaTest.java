@@ -0,0 +1,83 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ByteArenaTest {
+
+    @Test
+    void add_ShouldGrowAndReturnEveryEntry() {
+        // Given
+        final var arena = new ByteArena(1, 1);
+
+        // When
+        IntStream.range(0, 1_000).forEach(i -> arena.add(i % 10 == 0 ? null : "entry-" + i + "-é"));
+
+        // Then
+        assertThat(arena.count()).isEqualTo(1_000);
+        assertThat(arena.get(0)).isNull();
+        assertThat(arena.isNull(0)).isTrue();
+        assertThat(arena.get(1)).isEqualTo("entry-1-é");
+        assertThat(arena.get(999)).isEqualTo("entry-999-é");
+    }
+
+    @Test
+    void add_WithEmptyString_ShouldNotBeNull() {
+        // Given
+        final var arena = new ByteArena(4, 8);
+
+        // When
+        arena.add("");
+        arena.add(null);
+
+        // Then
+        assertThat(arena.get(0)).isEmpty();
+        assertThat(arena.isNull(0)).isFalse();
+        assertThat(arena.isNull(1)).isTrue();
+    }
+
+    @Test
+    void retain_ShouldDropRemovedEntriesAndRenumberTheRest() {
+        // Given
+        final var arena = new ByteArena(4, 8);
+        arena.add("alpha");
+        arena.add(null);
+        arena.add("beta");
+        arena.add(null);
+        arena.add("gamma");
+        final var removed = new BitSet();
+        removed.set(0);
+        removed.set(3);
+
+        // When
+        arena.retain(removed);
+        arena.add("delta");
+
+        // Then
+        assertThat(arena.count()).isEqualTo(4);
+        assertThat(arena.get(0)).isNull();
+        assertThat(arena.get(1)).isEqualTo("beta");
+        assertThat(arena.get(2)).isEqualTo("gamma");
+        assertThat(arena.get(3)).isEqualTo("delta");
+        assertThat(arena.isNull(3)).isFalse();
+    }
+
+    @Test
+    void containsAsciiIgnoreCase_ShouldMatchAsciiAndDeferNonAscii() {
+        // Given
+        final var arena = new ByteArena(4, 8);
+        arena.add("Ada LOVELACE");
+        arena.add("Zoë Lovelace");
+        final var needle = "lovelace".getBytes(StandardCharsets.US_ASCII);
+
+        // When & Then
+        assertThat(arena.containsAsciiIgnoreCase(0, needle)).isTrue();
+        assertThat(arena.containsAsciiIgnoreCase(0, "turing".getBytes(StandardCharsets.US_ASCII)))
+                .isFalse();
+        assertThat(arena.containsAsciiIgnoreCase(1, needle)).isNull();
+    }
+}
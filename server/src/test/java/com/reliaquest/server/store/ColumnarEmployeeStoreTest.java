@@ -0,0 +1,197 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ColumnarEmployeeStoreTest {
+
+    private final ColumnarEmployeeStore store = new ColumnarEmployeeStore();
+
+    @Test
+    void add_ShouldReturnEveryColumnAsInserted() {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        final var unnamed = MockEmployee.builder().id(UUID.randomUUID()).build();
+
+        // When
+        store.add(ada);
+        store.add(unnamed);
+
+        // Then
+        assertThat(store.findById(ada.getId())).contains(ada);
+        assertThat(store.findById(unnamed.getId())).contains(unnamed);
+        assertThat(store.findAll()).containsExactly(ada, unnamed);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void add_WhenIdAlreadyStored_ShouldReplaceRowAndMoveItToTheEnd() {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        final var alan = employee("Alan Turing", 110_000);
+        store.addAll(List.of(ada, alan));
+        final var renamed = ada.toBuilder().name("Ada King").salary(90_000).build();
+
+        // When
+        store.add(renamed);
+
+        // Then
+        assertThat(store.findAll()).containsExactly(alan, renamed);
+        assertThat(store.findFirstByName("Ada Lovelace")).isEmpty();
+        assertThat(store.findFirstByName("ada king")).contains(renamed);
+        assertThat(store.findMaxSalary()).hasValue(110_000);
+    }
+
+    @Test
+    void remove_ShouldHideRowFromEveryQuery() {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        final var alan = employee("Alan Turing", 110_000);
+        store.addAll(List.of(ada, alan));
+
+        // When
+        final var removed = store.remove(ada.getId());
+
+        // Then
+        assertThat(removed).contains(ada);
+        assertThat(store.remove(ada.getId())).isEmpty();
+        assertThat(store.findById(ada.getId())).isEmpty();
+        assertThat(store.findFirstByName("Ada Lovelace")).isEmpty();
+        assertThat(store.findByNameContaining("lovelace")).isEmpty();
+        assertThat(store.findMaxSalary()).hasValue(110_000);
+        assertThat(store.findTopBySalary(10)).containsExactly(alan);
+        assertThat(store.findPage(0, 10).employees()).containsExactly(alan);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeFirstByName_ShouldRemoveOldestMatchFirst() {
+        // Given
+        final var first = employee("Ada Lovelace", 100_000);
+        final var second = employee("ADA LOVELACE", 100_000);
+        store.addAll(List.of(first, employee("Alan Turing", 100_000), second));
+
+        // When & Then
+        assertThat(store.removeFirstByName("ada lovelace")).contains(first);
+        assertThat(store.removeFirstByName("ada lovelace")).contains(second);
+        assertThat(store.removeFirstByName("ada lovelace")).isEmpty();
+    }
+
+    @Test
+    void findByNameContaining_ShouldFoldAsciiAndNonAsciiNames() {
+        // Given
+        final var ascii = employee("Ada Lovelace", 100_000);
+        final var accented = employee("Zoë LOVELACE", 100_000);
+        store.addAll(List.of(ascii, accented, employee("Alan Turing", 100_000)));
+
+        // When & Then
+        assertThat(store.findByNameContaining("LOVE")).containsExactly(ascii, accented);
+        assertThat(store.findByNameContaining("zoË")).containsExactly(accented);
+    }
+
+    @Test
+    void findTopBySalary_AfterDeletes_ShouldRankLiveRowsWithTiesInInsertionOrder() {
+        // Given
+        final var employees = IntStream.range(0, 20)
+                .mapToObj(i -> employee("Employee " + i, 1_000 * (i % 5)))
+                .toList();
+        store.addAll(employees);
+        store.remove(employees.get(4).getId());
+        store.remove(employees.get(9).getId());
+
+        // When
+        final var top = store.findTopBySalary(4);
+
+        // Then
+        assertThat(top)
+                .extracting(MockEmployee::getName)
+                .containsExactly("Employee 14", "Employee 19", "Employee 3", "Employee 8");
+    }
+
+    @Test
+    void remove_WhenTombstonesOutnumberLiveRows_ShouldCompactAndKeepIndexes() {
+        // Given
+        final var employees = IntStream.range(0, 3_000)
+                .mapToObj(i -> employee("Employee " + (i % 100), 10 * i))
+                .toList();
+        store.addAll(employees);
+        final var survivors = new ArrayList<MockEmployee>();
+        for (int i = 0; i < employees.size(); i++) {
+            if (i % 3 == 0) {
+                survivors.add(employees.get(i));
+            } else {
+                store.remove(employees.get(i).getId());
+            }
+        }
+        final var lastSequence = store.findPage(0, survivors.size() - 1).lastSequence();
+
+        // When
+        final var added = employee("Employee 1", 0);
+        store.add(added);
+        survivors.add(added);
+
+        // Then
+        assertThat(store.findAll()).containsExactlyElementsOf(survivors);
+        assertThat(store.findPage(lastSequence, 10).employees()).containsExactly(survivors.get(999), added);
+        survivors.forEach(employee -> assertThat(store.findById(employee.getId())).contains(employee));
+        assertThat(store.findFirstByName("employee 1")).contains(employees.get(201));
+        assertThat(store.findTopBySalary(1)).containsExactly(employees.get(2_997));
+    }
+
+    @Test
+    void randomOperations_ShouldMatchTheObjectStore() {
+        // Given
+        final var expected = new MockEmployeeStore();
+        final var random = new SplittableRandom(42);
+        final var ids = new ArrayList<UUID>();
+
+        // When
+        for (int step = 0; step < 20_000; step++) {
+            final var operation = random.nextInt(10);
+            if (operation < 5 || ids.isEmpty()) {
+                final var id = ids.isEmpty() || random.nextInt(10) > 0
+                        ? UUID.randomUUID()
+                        : ids.get(random.nextInt(ids.size()));
+                final var employee = employee("Name " + random.nextInt(500), random.nextInt(1_000))
+                        .toBuilder()
+                        .id(id)
+                        .build();
+                ids.add(id);
+                expected.add(employee);
+                store.add(employee);
+            } else if (operation < 8) {
+                final var id = ids.get(random.nextInt(ids.size()));
+                assertThat(store.remove(id)).isEqualTo(expected.remove(id));
+            } else {
+                final var name = "name " + random.nextInt(500);
+                assertThat(store.removeFirstByName(name)).isEqualTo(expected.removeFirstByName(name));
+            }
+        }
+
+        // Then
+        assertThat(store.size()).isEqualTo(expected.size());
+        assertThat(store.findAll()).containsExactlyElementsOf(expected.findAll());
+        assertThat(store.findMaxSalary()).isEqualTo(expected.findMaxSalary());
+        assertThat(store.findTopBySalary(10)).containsExactlyElementsOf(expected.findTopBySalary(10));
+        assertThat(store.findByNameContaining("e 4")).containsExactlyElementsOf(expected.findByNameContaining("e 4"));
+        ids.forEach(id -> assertThat(store.findById(id)).isEqualTo(expected.findById(id)));
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(36)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedEmployeeStoreTest {
+
+    private static final String SEGMENT = "employees-00000.seg";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_WhenFilesExist_ShouldRecoverTableAndKeepNumbering() throws IOException {
+        // Given
+        final var employees = IntStream.range(0, 10)
+                .mapToObj(i -> employee("Employee " + i, 1_000 * i))
+                .toList();
+        final long seventhSequence;
+        try (var store = open(directory)) {
+            store.addAll(employees);
+            store.remove(employees.get(3).getId());
+            store.removeFirstByName("employee 5");
+            seventhSequence = store.findPage(0, 7).lastSequence();
+        }
+        final var expected = new ArrayList<>(employees);
+        expected.remove(5);
+        expected.remove(3);
+
+        // When
+        try (var store = open(directory)) {
+            final var added = employee("Employee 3", 0);
+            store.add(added);
+
+            // Then
+            assertThat(store.size()).isEqualTo(9);
+            assertThat(store.findPage(0, 8).employees()).containsExactlyElementsOf(expected);
+            assertThat(store.findById(employees.get(3).getId())).isEmpty();
+            assertThat(store.findById(employees.get(9).getId())).contains(employees.get(9));
+            assertThat(store.findFirstByName("EMPLOYEE 3")).contains(added);
+            assertThat(store.findMaxSalary()).hasValue(9_000);
+            assertThat(store.findPage(seventhSequence, 10).employees()).containsExactly(employees.get(9), added);
+        }
+    }
+
+    @Test
+    void open_AfterCompaction_ShouldRecoverCompactedTable() throws IOException {
+        // Given
+        final var employees = IntStream.range(0, 3_000)
+                .mapToObj(i -> employee("Employee " + i, i))
+                .toList();
+        final var survivors = new ArrayList<MockEmployee>();
+        try (var store = open(directory)) {
+            store.addAll(employees);
+            for (int i = 0; i < employees.size(); i++) {
+                if (i % 3 == 0) {
+                    survivors.add(employees.get(i));
+                } else {
+                    store.remove(employees.get(i).getId());
+                }
+            }
+        }
+
+        // When
+        try (var store = open(directory)) {
+            // Then
+            assertThat(store.findAll()).containsExactlyElementsOf(survivors);
+            assertThat(store.findTopBySalary(1)).containsExactly(employees.get(2_997));
+        }
+    }
+
+    /**
+     * Replays a compaction of a table with deleted rows one file write at a time, the way
+     * {@link MappedEmployeeStore} performs it, and reopens a copy of the files after each write as if the process had
+     * stopped there. Every copy must open to the same rows in the same order.
+     */
+    @Test
+    void open_WhenCompactionStoppedAtAnyWrite_ShouldRecoverEveryLiveRow() throws IOException {
+        // Given
+        final var employees = IntStream.range(0, 10)
+                .mapToObj(i -> employee("Employee " + i, 1_000 * i))
+                .toList();
+        final var deletedSlots = List.of(1, 2, 5, 8);
+        final var original = directory.resolve("original");
+        try (var store = open(original)) {
+            store.addAll(employees);
+            deletedSlots.forEach(slot -> store.remove(employees.get(slot).getId()));
+        }
+        final var live = IntStream.range(0, employees.size())
+                .filter(slot -> !deletedSlots.contains(slot))
+                .toArray();
+        final var expected = IntStream.of(live).mapToObj(employees::get).toList();
+        final var writes = compactionWrites(original.resolve(SEGMENT), live, employees.size());
+
+        for (int stoppedAfter = 0; stoppedAfter <= writes.size(); stoppedAfter++) {
+            final var crashed = copy(original, directory.resolve("crashed-" + stoppedAfter));
+            apply(crashed.resolve(SEGMENT), writes.subList(0, stoppedAfter));
+
+            // When
+            try (var store = open(crashed)) {
+                // Then
+                assertThat(store.findAll()).as("stopped after write %d", stoppedAfter).isEqualTo(expected);
+                expected.forEach(employee -> assertThat(store.findById(employee.getId())).contains(employee));
+                assertThat(store.findFirstByName("employee 4")).contains(employees.get(4));
+            }
+            try (var store = open(crashed)) {
+                assertThat(store.findAll()).as("reopened after write %d", stoppedAfter).isEqualTo(expected);
+            }
+        }
+    }
+
+    /**
+     * The writes of moving each live record down over the deleted ones, with the record body split in two to stand in
+     * for a torn copy, followed by marking the freed tail unused.
+     */
+    private static List<Write> compactionWrites(Path segment, int[] live, int slotCount) throws IOException {
+        final var writes = new ArrayList<Write>();
+        for (int kept = 0; kept < live.length; kept++) {
+            final var slot = live[kept];
+            if (slot == kept) {
+                continue;
+            }
+            final var record = read(segment, slot);
+            final long target = (long) kept * MappedEmployeeStore.RECORD_BYTES;
+            final var half = MappedEmployeeStore.RECORD_BYTES / 2;
+            writes.add(new Write(target, new byte[] {2}));
+            writes.add(new Write(target + 1, slice(record, 1, half)));
+            writes.add(new Write(target + half, slice(record, half, MappedEmployeeStore.RECORD_BYTES)));
+            writes.add(new Write(target, new byte[] {1}));
+        }
+        for (int slot = live.length; slot < slotCount; slot++) {
+            writes.add(new Write((long) slot * MappedEmployeeStore.RECORD_BYTES, new byte[] {0}));
+        }
+        return writes;
+    }
+
+    private static byte[] read(Path segment, int slot) throws IOException {
+        try (var channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            final var record = ByteBuffer.allocate(MappedEmployeeStore.RECORD_BYTES);
+            channel.read(record, (long) slot * MappedEmployeeStore.RECORD_BYTES);
+            return record.array();
+        }
+    }
+
+    private static byte[] slice(byte[] bytes, int from, int to) {
+        final var slice = new byte[to - from];
+        System.arraycopy(bytes, from, slice, 0, slice.length);
+        return slice;
+    }
+
+    private static void apply(Path segment, List<Write> writes) throws IOException {
+        try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            for (final var write : writes) {
+                channel.write(ByteBuffer.wrap(write.bytes()), write.position());
+            }
+        }
+    }
+
+    private static Path copy(Path from, Path to) throws IOException {
+        Files.createDirectories(to);
+        try (var files = Files.list(from)) {
+            for (final var file : files.toList()) {
+                Files.copy(file, to.resolve(file.getFileName()));
+            }
+        }
+        return to;
+    }
+
+    private static MappedEmployeeStore open(Path directory) throws IOException {
+        return MappedEmployeeStore.open(directory, 16, StoreJournal.NONE);
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(36)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private record Write(long position, byte[] bytes) {}
+}
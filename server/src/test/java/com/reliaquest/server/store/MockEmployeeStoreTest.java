@@ -0,0 +1,253 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore();
+
+    @Test
+    void add_ShouldIndexRowByIdNameSalaryAndSequence() {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        final var alan = employee("Alan Turing", 110_000);
+
+        // When
+        store.addAll(List.of(ada, alan));
+
+        // Then
+        assertThat(store.findById(ada.getId())).contains(ada);
+        assertThat(store.findFirstByName("ADA LOVELACE")).contains(ada);
+        assertThat(store.findMaxSalary()).hasValue(120_000);
+        assertThat(store.findTopBySalary(10)).containsExactly(ada, alan);
+        assertThat(store.findAll()).containsExactly(ada, alan);
+        assertThat(store.findPage(0, 10).employees()).containsExactly(ada, alan);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void remove_ShouldDropRowFromEveryIndex() {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        final var alan = employee("Alan Turing", 110_000);
+        store.addAll(List.of(ada, alan));
+
+        // When
+        final var removed = store.remove(ada.getId());
+
+        // Then
+        assertThat(removed).contains(ada);
+        assertThat(store.remove(ada.getId())).isEmpty();
+        assertThat(store.findById(ada.getId())).isEmpty();
+        assertThat(store.findFirstByName("Ada Lovelace")).isEmpty();
+        assertThat(store.findByNameContaining("lovelace")).isEmpty();
+        assertThat(store.findMaxSalary()).hasValue(110_000);
+        assertThat(store.findTopBySalary(10)).containsExactly(alan);
+        assertThat(store.findAll()).containsExactly(alan);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeFirstByName_ShouldDropRowFromEveryIndex() {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        final var alan = employee("Alan Turing", 110_000);
+        store.addAll(List.of(ada, alan));
+
+        // When
+        final var removed = store.removeFirstByName("ada lovelace");
+
+        // Then
+        assertThat(removed).contains(ada);
+        assertThat(store.findById(ada.getId())).isEmpty();
+        assertThat(store.findFirstByName("Ada Lovelace")).isEmpty();
+        assertThat(store.findMaxSalary()).hasValue(110_000);
+        assertThat(store.findTopBySalary(10)).containsExactly(alan);
+        assertThat(store.findAll()).containsExactly(alan);
+    }
+
+    @Test
+    void removeFirstByName_AmongDuplicates_ShouldRemoveOldestFirst() {
+        // Given
+        final var first = employee("Ada Lovelace", 100_000);
+        final var second = employee("ADA LOVELACE", 90_000);
+        final var third = employee("ada lovelace", 80_000);
+        store.addAll(List.of(first, employee("Alan Turing", 70_000), second, third));
+
+        // When & Then
+        assertThat(store.removeFirstByName("Ada Lovelace")).contains(first);
+        assertThat(store.findFirstByName("ada lovelace")).contains(second);
+        assertThat(store.removeFirstByName("Ada Lovelace")).contains(second);
+        assertThat(store.removeFirstByName("Ada Lovelace")).contains(third);
+        assertThat(store.removeFirstByName("Ada Lovelace")).isEmpty();
+        assertThat(store.findAll()).extracting(MockEmployee::getName).containsExactly("Alan Turing");
+    }
+
+    @Test
+    void add_WhenIdAlreadyStored_ShouldReplaceRowInEveryIndexAndMoveItToTheEnd() {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        final var alan = employee("Alan Turing", 110_000);
+        store.addAll(List.of(ada, alan));
+        final var renamed = ada.toBuilder().name("Ada King").salary(90_000).build();
+
+        // When
+        store.add(renamed);
+
+        // Then
+        assertThat(store.findById(ada.getId())).contains(renamed);
+        assertThat(store.findFirstByName("Ada Lovelace")).isEmpty();
+        assertThat(store.findFirstByName("ada king")).contains(renamed);
+        assertThat(store.findMaxSalary()).hasValue(110_000);
+        assertThat(store.findTopBySalary(10)).containsExactly(alan, renamed);
+        assertThat(store.findAll()).containsExactly(alan, renamed);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void add_AfterRemove_ShouldReinsertSameIdAtTheEnd() {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        final var alan = employee("Alan Turing", 110_000);
+        store.addAll(List.of(ada, alan));
+        final var cursor = store.findPage(0, 1).lastSequence();
+        store.remove(ada.getId());
+
+        // When
+        store.add(ada);
+
+        // Then
+        assertThat(store.findAll()).containsExactly(alan, ada);
+        assertThat(store.findPage(cursor, 10).employees()).containsExactly(alan, ada);
+        assertThat(store.findFirstByName("ada lovelace")).contains(ada);
+        assertThat(store.findTopBySalary(1)).containsExactly(ada);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void addAndRemove_FromManyThreads_ShouldLeaveIndexesConsistent() throws Exception {
+        // Given
+        final var employees = IntStream.range(0, 4_000)
+                .mapToObj(i -> employee("Employee " + (i % 50), 10 * i))
+                .toList();
+        final var survivors = Collections.synchronizedList(new ArrayList<MockEmployee>());
+        final var start = new CountDownLatch(1);
+
+        // When
+        try (final var writers = Executors.newFixedThreadPool(8)) {
+            final var futures = new ArrayList<Future<?>>();
+            for (int thread = 0; thread < 8; thread++) {
+                final var slice = employees.subList(thread * 500, (thread + 1) * 500);
+                futures.add(writers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < slice.size(); i++) {
+                        final var employee = slice.get(i);
+                        store.add(employee);
+                        if (i % 2 == 0) {
+                            assertThat(store.remove(employee.getId())).contains(employee);
+                        } else {
+                            survivors.add(employee);
+                        }
+                        store.findTopBySalary(3);
+                        store.findByNameContaining("employee 1");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final var future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertThat(store.size()).isEqualTo(survivors.size()).isEqualTo(2_000);
+        assertThat(store.findAll()).containsExactlyInAnyOrderElementsOf(survivors);
+        survivors.forEach(employee -> assertThat(store.findById(employee.getId())).contains(employee));
+        final var bySalary = survivors.stream()
+                .sorted(Comparator.comparingInt(MockEmployee::getSalary).reversed())
+                .limit(5)
+                .toList();
+        assertThat(store.findTopBySalary(5)).containsExactlyElementsOf(bySalary);
+        assertThat(store.findByNameContaining("employee")).hasSize(2_000);
+        final var pages = new ArrayList<MockEmployee>();
+        Long cursor = 0L;
+        while (cursor != null) {
+            final var page = store.findPage(cursor, 300);
+            pages.addAll(page.employees());
+            cursor = page.lastSequence();
+        }
+        assertThat(pages).containsExactlyElementsOf(store.findAll());
+    }
+
+    @Test
+    void findByNameContaining_ShouldMatchSubstringIgnoringCaseInInsertionOrder() {
+        // Given
+        final var grace = employee("Grace LOVELACE", 100_000);
+        final var ada = employee("Ada Lovelace", 120_000);
+        store.addAll(List.of(grace, employee("Alan Turing", 110_000), ada));
+
+        // When & Then
+        assertThat(store.findByNameContaining("loVE")).containsExactly(grace, ada);
+        assertThat(store.findByNameContaining("Hopper")).isEmpty();
+    }
+
+    @Test
+    void findMaxSalary_ShouldBeEmptyWithoutSalariesAndFollowDeletes() {
+        // Given
+        final var ada = employee("Ada Lovelace", 120_000);
+        final var unpaid = MockEmployee.builder().id(UUID.randomUUID()).name("Unpaid").build();
+
+        // When & Then
+        assertThat(store.findMaxSalary()).isEmpty();
+        store.add(unpaid);
+        assertThat(store.findMaxSalary()).isEmpty();
+        assertThat(store.findTopBySalary(10)).isEmpty();
+        store.addAll(List.of(ada, employee("Alan Turing", 110_000)));
+        assertThat(store.findMaxSalary()).hasValue(120_000);
+        store.remove(ada.getId());
+        assertThat(store.findMaxSalary()).hasValue(110_000);
+    }
+
+    @Test
+    void findTopBySalary_WithEqualSalaries_ShouldRankTiesInInsertionOrder() {
+        // Given
+        final var carol = employee("Carol", 90_000);
+        final var bob = employee("Bob", 90_000);
+        final var ada = employee("Ada", 120_000);
+        final var dave = employee("Dave", 90_000);
+        store.addAll(List.of(carol, bob, ada));
+        store.add(dave);
+
+        // When
+        final var top = store.findTopBySalary(3);
+
+        // Then
+        assertThat(top).extracting(MockEmployee::getName).containsExactly("Ada", "Carol", "Bob");
+        assertThat(store.findTopBySalary(10)).extracting(MockEmployee::getName)
+                .containsExactly("Ada", "Carol", "Bob", "Dave");
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(36)
+                .title("Engineer")
+                .email(name + "@company.com")
+                .build();
+    }
+}
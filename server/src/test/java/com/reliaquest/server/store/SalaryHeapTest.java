@@ -0,0 +1,70 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SalaryHeapTest {
+
+    @Test
+    void ranked_ShouldKeepHighestSalariesWithTiesInSlotOrder() {
+        // Given
+        final int[] salaries = {50, 90, 70, 90, 10, 70, 90};
+        final var heap = new SalaryHeap(4, slot -> salaries[slot]);
+
+        // When
+        IntStream.range(0, salaries.length).forEach(slot -> heap.offer(slot, salaries[slot]));
+
+        // Then
+        assertThat(heap.ranked()).containsExactly(1, 3, 6, 2);
+    }
+
+    @Test
+    void ranked_WhenFewerRowsThanCapacity_ShouldReturnAllRanked() {
+        // Given
+        final int[] salaries = {30, 10, 20};
+        final var heap = new SalaryHeap(10, slot -> salaries[slot]);
+
+        // When
+        IntStream.range(0, salaries.length).forEach(slot -> heap.offer(slot, salaries[slot]));
+
+        // Then
+        assertThat(heap.ranked()).containsExactly(0, 2, 1);
+    }
+
+    @Test
+    void ranked_WithZeroCapacity_ShouldBeEmpty() {
+        // Given
+        final var heap = new SalaryHeap(0, slot -> 100);
+
+        // When
+        heap.offer(0, 100);
+
+        // Then
+        assertThat(heap.ranked()).isEmpty();
+    }
+
+    @Test
+    void ranked_ShouldMatchFullSort() {
+        // Given
+        final var random = new SplittableRandom(7);
+        final var salaries = random.ints(5_000, 0, 200).toArray();
+        final var heap = new SalaryHeap(25, slot -> salaries[slot]);
+
+        // When
+        IntStream.range(0, salaries.length).forEach(slot -> heap.offer(slot, salaries[slot]));
+
+        // Then
+        final var expected = IntStream.range(0, salaries.length)
+                .boxed()
+                .sorted((left, right) -> salaries[left] != salaries[right]
+                        ? Integer.compare(salaries[right], salaries[left])
+                        : Integer.compare(left, right))
+                .limit(25)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        assertThat(heap.ranked()).containsExactly(expected);
+    }
+}
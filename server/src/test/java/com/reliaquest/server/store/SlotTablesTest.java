@@ -0,0 +1,22 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class SlotTablesTest {
+
+    @Test
+    void tableLength_ShouldRoundUpToPowerOfTwo() {
+        assertThat(SlotTables.tableLength(0)).isEqualTo(SlotTables.MIN_CAPACITY);
+        assertThat(SlotTables.tableLength(16)).isEqualTo(16);
+        assertThat(SlotTables.tableLength(17)).isEqualTo(32);
+        assertThat(SlotTables.tableLength(1 << 30)).isEqualTo(1 << 30);
+    }
+
+    @Test
+    void tableLength_WhenTooLarge_ShouldFail() {
+        assertThatThrownBy(() -> SlotTables.tableLength((1L << 30) + 1)).isInstanceOf(IllegalStateException.class);
+    }
+}
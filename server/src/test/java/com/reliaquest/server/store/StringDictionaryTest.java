@@ -0,0 +1,34 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StringDictionaryTest {
+
+    private final StringDictionary dictionary = new StringDictionary();
+
+    @Test
+    void encode_ShouldGiveEachDistinctValueOneCode() {
+        // When
+        final var engineer = dictionary.encode("Engineer");
+        final var manager = dictionary.encode("Manager");
+
+        // Then
+        assertThat(dictionary.encode(new String("Engineer"))).isEqualTo(engineer);
+        assertThat(manager).isNotEqualTo(engineer);
+        assertThat(dictionary.decode(engineer)).isEqualTo("Engineer");
+        assertThat(dictionary.decode(manager)).isEqualTo("Manager");
+    }
+
+    @Test
+    void encode_WithNull_ShouldUseNullCode() {
+        // When
+        final var code = dictionary.encode(null);
+
+        // Then
+        assertThat(code).isEqualTo(StringDictionary.NULL_CODE);
+        assertThat(dictionary.decode(code)).isNull();
+        assertThat(dictionary.encode("Engineer")).isZero();
+    }
+}
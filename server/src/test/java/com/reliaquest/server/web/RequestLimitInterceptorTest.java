@@ -0,0 +1,81 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestLimitInterceptorTest {
+
+    private final TokenBucketLimiter limiter = new TokenBucketLimiter(
+            new TokenBucketLimiter.Budget(1, Duration.ofMillis(1_500)), Map.of(), () -> TimeUnit.SECONDS.toNanos(1));
+
+    @Test
+    void preHandle_WithoutClientHeader_ShouldIgnoreClientIdAndLimitByRemoteAddress() {
+        // Given
+        final var interceptor = new RequestLimitInterceptor(limiter, "", new SimpleMeterRegistry());
+
+        // When
+        final var first = interceptor.preHandle(request("10.0.0.1", "one"), new MockHttpServletResponse(), null);
+        final var second = interceptor.preHandle(request("10.0.0.1", "two"), new MockHttpServletResponse(), null);
+        final var otherAddress =
+                interceptor.preHandle(request("10.0.0.2", "two"), new MockHttpServletResponse(), null);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(otherAddress).isTrue();
+    }
+
+    @Test
+    void preHandle_WithClientHeader_ShouldLimitByHeaderElseRemoteAddress() {
+        // Given
+        final var interceptor = new RequestLimitInterceptor(limiter, "X-Client-Id", new SimpleMeterRegistry());
+
+        // When
+        final var first = interceptor.preHandle(request("10.0.0.1", "one"), new MockHttpServletResponse(), null);
+        final var otherClient = interceptor.preHandle(request("10.0.0.1", "two"), new MockHttpServletResponse(), null);
+        final var sameClient = interceptor.preHandle(request("10.0.0.2", "two"), new MockHttpServletResponse(), null);
+        final var noHeader = interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(otherClient).isTrue();
+        assertThat(sameClient).isFalse();
+        assertThat(noHeader).isTrue();
+    }
+
+    @Test
+    void preHandle_WhenRejected_ShouldAdvertiseWaitRoundedUp() {
+        // Given
+        final var interceptor = new RequestLimitInterceptor(limiter, "", new SimpleMeterRegistry());
+        interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null);
+        final var response = new MockHttpServletResponse();
+
+        // When
+        final var admitted = interceptor.preHandle(request("10.0.0.1", null), response, null);
+
+        // Then
+        assertThat(admitted).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getHeader("Retry-After-Ms")).isEqualTo("1500");
+        assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("1");
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(response.getHeader("RateLimit-Reset")).isEqualTo("2");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress, String clientId) {
+        final var request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setRemoteAddr(remoteAddress);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+}
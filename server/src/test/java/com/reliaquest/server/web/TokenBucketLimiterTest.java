@@ -0,0 +1,201 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int THREADS = 8;
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void tryAcquire_ShouldAdmitBurstThenRejectUntilRefilled() {
+        // Given
+        final var limiter = limiter(new TokenBucketLimiter.Budget(3, Duration.ofSeconds(3)), Map.of());
+
+        // When
+        final var burst = List.of(
+                limiter.tryAcquire("client", null),
+                limiter.tryAcquire("client", null),
+                limiter.tryAcquire("client", null));
+        final var rejected = limiter.tryAcquire("client", null);
+
+        // Then
+        assertThat(burst).allMatch(RequestLimiter.Decision::admitted);
+        assertThat(burst).extracting(RequestLimiter.Decision::remaining).containsExactly(2, 1, 0);
+        assertThat(burst)
+                .extracting(RequestLimiter.Decision::resetNanos)
+                .containsExactly(SECOND, 2 * SECOND, 3 * SECOND);
+        assertThat(rejected).isEqualTo(new RequestLimiter.Decision(SECOND, 3, 0, 3 * SECOND));
+
+        // When
+        clock.addAndGet(SECOND - 1);
+        final var early = limiter.tryAcquire("client", null);
+        clock.addAndGet(1);
+        final var refilled = limiter.tryAcquire("client", null);
+        final var afterRefill = limiter.tryAcquire("client", null);
+
+        // Then
+        assertThat(early.admitted()).isFalse();
+        assertThat(early.retryAfterNanos()).isEqualTo(1);
+        assertThat(refilled.admitted()).isTrue();
+        assertThat(afterRefill.admitted()).isFalse();
+    }
+
+    @Test
+    void tryAcquire_AfterLongIdle_ShouldNotBankMoreThanCapacity() {
+        // Given
+        final var limiter = limiter(new TokenBucketLimiter.Budget(2, Duration.ofSeconds(2)), Map.of());
+        limiter.tryAcquire("client", null);
+
+        // When
+        clock.addAndGet(3_600 * SECOND);
+        final var first = limiter.tryAcquire("client", null);
+        final var second = limiter.tryAcquire("client", null);
+        final var third = limiter.tryAcquire("client", null);
+
+        // Then
+        assertThat(first.admitted()).isTrue();
+        assertThat(second.admitted()).isTrue();
+        assertThat(third.admitted()).isFalse();
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepSeparateBudgetsPerClientAndEndpoint() {
+        // Given
+        final var stream = "/api/v1/employee/changes/stream";
+        final var limiter = limiter(
+                new TokenBucketLimiter.Budget(1, Duration.ofSeconds(10)),
+                Map.of(stream, new TokenBucketLimiter.Budget(2, Duration.ofSeconds(60))));
+
+        // When
+        final var a = limiter.tryAcquire("a", "/api/v1/employee");
+        final var aOtherDefault = limiter.tryAcquire("a", "/api/v1/employee/{id}");
+        final var b = limiter.tryAcquire("b", null);
+        final var aStream = List.of(limiter.tryAcquire("a", stream), limiter.tryAcquire("a", stream));
+        final var aStreamAgain = limiter.tryAcquire("a", stream);
+
+        // Then
+        assertThat(a.admitted()).isTrue();
+        assertThat(aOtherDefault.admitted()).as("endpoints without a budget share the default bucket").isFalse();
+        assertThat(b.admitted()).isTrue();
+        assertThat(aStream).allMatch(RequestLimiter.Decision::admitted);
+        assertThat(aStreamAgain.admitted()).isFalse();
+        assertThat(aStreamAgain.limit()).isEqualTo(2);
+        assertThat(aStreamAgain.retryAfterNanos()).isEqualTo(30 * SECOND);
+    }
+
+    @Test
+    void tryAcquire_FromManyThreads_ShouldAdmitExactlyCapacity() throws Exception {
+        // Given
+        final var capacity = 1_000;
+        final var limiter = limiter(new TokenBucketLimiter.Budget(capacity, Duration.ofHours(1)), Map.of());
+        final var admitted = new AtomicInteger();
+
+        // When
+        runConcurrently(() -> {
+            for (int i = 0; i < capacity; i++) {
+                if (limiter.tryAcquire("client", null).admitted()) {
+                    admitted.incrementAndGet();
+                }
+            }
+        });
+
+        // Then
+        assertThat(admitted).hasValue(capacity);
+    }
+
+    /**
+     * Every round starts with all buckets full and a sweep due, so the thread that claims the sweep retires buckets
+     * while the others are acquiring from them. Each client must still get exactly its capacity per round: a request
+     * that finds its bucket retired has to start over with a new one rather than be lost or admitted twice.
+     */
+    @Test
+    void tryAcquire_WhileSweepRetiresBuckets_ShouldAdmitExactlyCapacityPerClient() throws Exception {
+        // Given
+        final var capacity = 20;
+        final var period = Duration.ofSeconds(capacity);
+        final var clients = List.of("a", "b", "c", "d");
+        final var limiter = limiter(new TokenBucketLimiter.Budget(capacity, period), Map.of());
+
+        for (int round = 0; round < 200; round++) {
+            clock.addAndGet(period.toNanos());
+            final var admitted = new AtomicInteger[clients.size()];
+            for (int i = 0; i < admitted.length; i++) {
+                admitted[i] = new AtomicInteger();
+            }
+
+            // When
+            runConcurrently(() -> {
+                for (int attempt = 0; attempt < capacity; attempt++) {
+                    for (int i = 0; i < clients.size(); i++) {
+                        if (limiter.tryAcquire(clients.get(i), null).admitted()) {
+                            admitted[i].incrementAndGet();
+                        }
+                    }
+                }
+            });
+
+            // Then
+            for (int i = 0; i < admitted.length; i++) {
+                assertThat(admitted[i]).as("client %s in round %d", clients.get(i), round).hasValue(capacity);
+            }
+        }
+    }
+
+    @Test
+    void parseEndpoints_ShouldReadPatternCapacityAndPeriod() {
+        // When
+        final var budgets = TokenBucketLimiter.Budget.parseEndpoints(
+                "/api/v1/employee/{id}=20/60000, /api/v1/employee/changes/stream=2/60000,");
+
+        // Then
+        assertThat(budgets)
+                .containsExactly(
+                        Map.entry("/api/v1/employee/{id}", new TokenBucketLimiter.Budget(20, Duration.ofMinutes(1))),
+                        Map.entry(
+                                "/api/v1/employee/changes/stream",
+                                new TokenBucketLimiter.Budget(2, Duration.ofMinutes(1))));
+        assertThatThrownBy(() -> TokenBucketLimiter.Budget.parseEndpoints("/api/v1/employee=20"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TokenBucketLimiter.Budget.parseEndpoints("/api/v1/employee=0/1000"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TokenBucketLimiter limiter(
+            TokenBucketLimiter.Budget budget, Map<String, TokenBucketLimiter.Budget> endpointBudgets) {
+        return new TokenBucketLimiter(budget, endpointBudgets, clock::get);
+    }
+
+    private static void runConcurrently(Runnable task) throws Exception {
+        final var start = new CountDownLatch(1);
+        try (var executor = Executors.newFixedThreadPool(THREADS)) {
+            final var futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+    }
+}